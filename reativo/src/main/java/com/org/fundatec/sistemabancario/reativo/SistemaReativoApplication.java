@@ -0,0 +1,12 @@
+package com.org.fundatec.sistemabancario.reativo;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class SistemaReativoApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(SistemaReativoApplication.class, args);
+    }
+}
@@ -0,0 +1,41 @@
+package com.org.fundatec.sistemabancario.reativo.dto;
+
+public class ErroResponse {
+
+    private int codigo;
+    private String erro;
+    private String mensagem;
+
+    public ErroResponse() {
+    }
+
+    public ErroResponse(int codigo, String erro, String mensagem) {
+        this.codigo = codigo;
+        this.erro = erro;
+        this.mensagem = mensagem;
+    }
+
+    public int getCodigo() {
+        return codigo;
+    }
+
+    public void setCodigo(int codigo) {
+        this.codigo = codigo;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
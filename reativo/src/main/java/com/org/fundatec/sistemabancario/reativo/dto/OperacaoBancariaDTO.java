@@ -0,0 +1,34 @@
+package com.org.fundatec.sistemabancario.reativo.dto;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+public class OperacaoBancariaDTO {
+
+    @NotNull(message = "Valor é obrigatório")
+    @Positive(message = "Valor deve ser positivo")
+    @Digits(integer = 17, fraction = 2, message = "Valor deve ter no máximo duas casas decimais")
+    private BigDecimal valor;
+
+    @NotNull(message = "Número da conta é obrigatório")
+    private Integer numeroConta;
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public Integer getNumeroConta() {
+        return numeroConta;
+    }
+
+    public void setValor(BigDecimal valor) {
+        this.valor = valor;
+    }
+
+    public void setNumeroConta(Integer numeroConta) {
+        this.numeroConta = numeroConta;
+    }
+}
@@ -0,0 +1,33 @@
+package com.org.fundatec.sistemabancario.reativo.dto;
+
+import java.math.BigDecimal;
+
+public class SaldoDTO {
+
+    private Integer numero;
+    private BigDecimal saldo;
+
+    public SaldoDTO() {
+    }
+
+    public SaldoDTO(Integer numero, BigDecimal saldo) {
+        this.numero = numero;
+        this.saldo = saldo;
+    }
+
+    public Integer getNumero() {
+        return numero;
+    }
+
+    public void setNumero(Integer numero) {
+        this.numero = numero;
+    }
+
+    public BigDecimal getSaldo() {
+        return saldo;
+    }
+
+    public void setSaldo(BigDecimal saldo) {
+        this.saldo = saldo;
+    }
+}
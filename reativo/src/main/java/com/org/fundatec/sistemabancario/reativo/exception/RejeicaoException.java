@@ -0,0 +1,36 @@
+package com.org.fundatec.sistemabancario.reativo.exception;
+
+import org.springframework.http.HttpStatus;
+
+// Rejeição de negócio; o handler a converte no mesmo corpo de erro da aplicação principal.
+public class RejeicaoException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String erro;
+
+    public RejeicaoException(HttpStatus status, String erro, String mensagem) {
+        super(mensagem, null, false, false);
+        this.status = status;
+        this.erro = erro;
+    }
+
+    public static RejeicaoException contaNaoEncontrada(Integer numero) {
+        return new RejeicaoException(HttpStatus.NOT_FOUND, "CONTA_NAO_ENCONTRADA", "Conta não encontrada com número: " + numero);
+    }
+
+    public static RejeicaoException saldoInsuficiente() {
+        return new RejeicaoException(HttpStatus.BAD_REQUEST, "SALDO_INSUFICIENTE", "Saldo insuficiente para saque");
+    }
+
+    public static RejeicaoException dadosInvalidos(String mensagem) {
+        return new RejeicaoException(HttpStatus.BAD_REQUEST, "DADOS_INVALIDOS", mensagem);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+}
@@ -0,0 +1,84 @@
+package com.org.fundatec.sistemabancario.reativo.handler;
+
+import com.org.fundatec.sistemabancario.reativo.dto.ErroResponse;
+import com.org.fundatec.sistemabancario.reativo.dto.OperacaoBancariaDTO;
+import com.org.fundatec.sistemabancario.reativo.dto.SaldoDTO;
+import com.org.fundatec.sistemabancario.reativo.exception.RejeicaoException;
+import com.org.fundatec.sistemabancario.reativo.service.ContaService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+@Component
+public class ContaHandler {
+
+    @Autowired
+    private ContaService contaService;
+
+    @Autowired
+    private Validator validator;
+
+    public Mono<ServerResponse> buscarPorNumero(ServerRequest request) {
+        return Mono.fromSupplier(() -> numero(request.pathVariable("numero")))
+                .flatMap(contaService::buscarPorNumero)
+                .flatMap(conta -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(new SaldoDTO(conta.getNumero(), conta.getSaldo())))
+                .onErrorResume(RejeicaoException.class, this::erro);
+    }
+
+    public Mono<ServerResponse> depositar(ServerRequest request) {
+        return operar(request, contaService::depositar);
+    }
+
+    public Mono<ServerResponse> sacar(ServerRequest request) {
+        return operar(request, contaService::sacar);
+    }
+
+    private Mono<ServerResponse> operar(ServerRequest request, BiFunction<Integer, BigDecimal, Mono<Void>> operacao) {
+        return request.bodyToMono(OperacaoBancariaDTO.class)
+                .switchIfEmpty(Mono.error(() -> RejeicaoException.dadosInvalidos("Corpo da requisição é obrigatório")))
+                .doOnNext(this::validar)
+                .flatMap(dto -> operacao.apply(dto.getNumeroConta(), dto.getValor()))
+                .then(ServerResponse.ok().build())
+                .onErrorResume(RejeicaoException.class, this::erro);
+    }
+
+    // Mesmo formato de mensagem da aplicação principal: "campo - mensagem;" em ordem de campo.
+    private void validar(OperacaoBancariaDTO dto) {
+        Set<ConstraintViolation<OperacaoBancariaDTO>> violacoes = validator.validate(dto);
+        if (violacoes.isEmpty()) {
+            return;
+        }
+        StringBuilder mensagem = new StringBuilder();
+        violacoes.stream()
+                .sorted(Comparator.comparing(violacao -> violacao.getPropertyPath().toString()))
+                .forEach(violacao -> mensagem.append(violacao.getPropertyPath()).append(" - ")
+                        .append(violacao.getMessage()).append(';'));
+        throw RejeicaoException.dadosInvalidos(mensagem.toString());
+    }
+
+    private Integer numero(String valor) {
+        try {
+            return Integer.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw RejeicaoException.dadosInvalidos("Número da conta inválido: " + valor);
+        }
+    }
+
+    private Mono<ServerResponse> erro(RejeicaoException ex) {
+        return ServerResponse.status(ex.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErroResponse(ex.getStatus().value(), ex.getErro(), ex.getMessage()));
+    }
+}
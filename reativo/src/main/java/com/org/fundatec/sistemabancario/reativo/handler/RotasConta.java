@@ -0,0 +1,24 @@
+package com.org.fundatec.sistemabancario.reativo.handler;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+public class RotasConta {
+
+    @Bean
+    public RouterFunction<ServerResponse> rotas(ContaHandler handler) {
+        return route()
+                .path("/reativo/contas", rotas -> rotas
+                        .GET("/{numero}", handler::buscarPorNumero)
+                        .POST("/depositar", contentType(MediaType.APPLICATION_JSON), handler::depositar)
+                        .POST("/sacar", contentType(MediaType.APPLICATION_JSON), handler::sacar))
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.org.fundatec.sistemabancario.reativo.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+// Mesma tabela CONTA da aplicação principal; o módulo só lê e atualiza saldos.
+@Table("CONTA")
+public class Conta {
+
+    @Id
+    @Column("ID")
+    private Long id;
+
+    @Column("NUMERO")
+    private Integer numero;
+
+    @Column("SALDO")
+    private BigDecimal saldo;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getNumero() {
+        return numero;
+    }
+
+    public void setNumero(Integer numero) {
+        this.numero = numero;
+    }
+
+    public BigDecimal getSaldo() {
+        return saldo;
+    }
+
+    public void setSaldo(BigDecimal saldo) {
+        this.saldo = saldo;
+    }
+}
@@ -0,0 +1,48 @@
+package com.org.fundatec.sistemabancario.reativo.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Table("MOVIMENTACAO")
+public class Movimentacao {
+
+    @Id
+    @Column("ID")
+    private Long id;
+
+    @Column("CONTA_ID")
+    private Long contaId;
+
+    @Column("TIPO")
+    private String tipo;
+
+    @Column("VALOR")
+    private BigDecimal valor;
+
+    @Column("DATA_HORA")
+    private LocalDateTime dataHora;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getContaId() {
+        return contaId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+}
@@ -0,0 +1,22 @@
+package com.org.fundatec.sistemabancario.reativo.repository;
+
+import com.org.fundatec.sistemabancario.reativo.model.Conta;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+public interface ContaRepository extends ReactiveCrudRepository<Conta, Long> {
+
+    Mono<Conta> findByNumero(Integer numero);
+
+    @Modifying
+    @Query("UPDATE CONTA SET SALDO = SALDO + :valor WHERE ID = :id")
+    Mono<Integer> creditar(Long id, BigDecimal valor);
+
+    @Modifying
+    @Query("UPDATE CONTA SET SALDO = SALDO - :valor WHERE ID = :id AND SALDO >= :valor")
+    Mono<Integer> debitar(Long id, BigDecimal valor);
+}
@@ -0,0 +1,21 @@
+package com.org.fundatec.sistemabancario.reativo.repository;
+
+import com.org.fundatec.sistemabancario.reativo.model.EventoConta;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface EventoContaRepository extends ReactiveCrudRepository<EventoConta, Long> {
+
+    @Modifying
+    @Query("INSERT INTO EVENTO_CONTA (ID, CONTA_ID, TIPO, VALOR, DATA_HORA) " +
+            "VALUES (NEXT VALUE FOR EVENTO_CONTA_SEQ, :contaId, :tipo, :valor, :dataHora)")
+    Mono<Integer> registrar(Long contaId, String tipo, BigDecimal valor, LocalDateTime dataHora);
+
+    Flux<EventoConta> findByContaId(Long contaId);
+}
@@ -0,0 +1,23 @@
+package com.org.fundatec.sistemabancario.reativo.repository;
+
+import com.org.fundatec.sistemabancario.reativo.model.Movimentacao;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface MovimentacaoRepository extends ReactiveCrudRepository<Movimentacao, Long> {
+
+    // O ID vem da mesma sequência usada pelo Hibernate; cada chamada consome um bloco inteiro do
+    // otimizador pooled, então não há sobreposição com os IDs gerados pela aplicação principal.
+    @Modifying
+    @Query("INSERT INTO MOVIMENTACAO (ID, CONTA_ID, TIPO, VALOR, DATA_HORA) " +
+            "VALUES (NEXT VALUE FOR MOVIMENTACAO_SEQ, :contaId, :tipo, :valor, :dataHora)")
+    Mono<Integer> registrar(Long contaId, String tipo, BigDecimal valor, LocalDateTime dataHora);
+
+    Flux<Movimentacao> findByContaId(Long contaId);
+}
@@ -0,0 +1,65 @@
+package com.org.fundatec.sistemabancario.reativo.service;
+
+import com.org.fundatec.sistemabancario.reativo.exception.RejeicaoException;
+import com.org.fundatec.sistemabancario.reativo.model.Conta;
+import com.org.fundatec.sistemabancario.reativo.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.reativo.repository.EventoContaRepository;
+import com.org.fundatec.sistemabancario.reativo.repository.MovimentacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Mesmo contrato do ContaService da aplicação principal: UPDATE atômico do saldo, movimentação e
+// evento da outbox na mesma transação, agora sem bloquear threads do servidor.
+@Service
+public class ContaService {
+
+    private static final String DEPOSITO = "DEPOSITO";
+    private static final String SAQUE = "SAQUE";
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Autowired
+    private EventoContaRepository eventoContaRepository;
+
+    @Autowired
+    private TransactionalOperator transacao;
+
+    public Mono<Conta> buscarPorNumero(Integer numero) {
+        return contaRepository.findByNumero(numero)
+                .switchIfEmpty(Mono.error(() -> RejeicaoException.contaNaoEncontrada(numero)));
+    }
+
+    public Mono<Void> depositar(Integer numero, BigDecimal valor) {
+        return buscarPorNumero(numero)
+                .flatMap(conta -> contaRepository.creditar(conta.getId(), valor)
+                        .flatMap(alteradas -> alteradas == 0
+                                ? Mono.error(RejeicaoException.contaNaoEncontrada(numero))
+                                : registrar(conta.getId(), DEPOSITO, valor)))
+                .as(transacao::transactional);
+    }
+
+    public Mono<Void> sacar(Integer numero, BigDecimal valor) {
+        return buscarPorNumero(numero)
+                .flatMap(conta -> contaRepository.debitar(conta.getId(), valor)
+                        .flatMap(alteradas -> alteradas == 0
+                                ? Mono.error(RejeicaoException.saldoInsuficiente())
+                                : registrar(conta.getId(), SAQUE, valor)))
+                .as(transacao::transactional);
+    }
+
+    private Mono<Void> registrar(Long contaId, String tipo, BigDecimal valor) {
+        LocalDateTime dataHora = LocalDateTime.now();
+        return movimentacaoRepository.registrar(contaId, tipo, valor, dataHora)
+                .then(eventoContaRepository.registrar(contaId, tipo, valor, dataHora))
+                .then();
+    }
+}
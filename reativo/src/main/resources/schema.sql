@@ -0,0 +1,28 @@
+-- Subconjunto do esquema gerado pelo Hibernate na aplicação principal usado por este módulo.
+CREATE TABLE IF NOT EXISTS CONTA (
+    ID BIGINT PRIMARY KEY,
+    NUMERO INTEGER UNIQUE,
+    SALDO NUMERIC(38, 2),
+    CLIENTE_ID BIGINT,
+    AGENCIA_ID BIGINT
+);
+
+CREATE SEQUENCE IF NOT EXISTS MOVIMENTACAO_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS MOVIMENTACAO (
+    ID BIGINT PRIMARY KEY,
+    CONTA_ID BIGINT NOT NULL,
+    TIPO VARCHAR(255) NOT NULL,
+    VALOR NUMERIC(38, 2) NOT NULL,
+    DATA_HORA TIMESTAMP NOT NULL
+);
+
+CREATE SEQUENCE IF NOT EXISTS EVENTO_CONTA_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS EVENTO_CONTA (
+    ID BIGINT PRIMARY KEY,
+    CONTA_ID BIGINT NOT NULL,
+    TIPO VARCHAR(255) NOT NULL,
+    VALOR NUMERIC(38, 2),
+    DATA_HORA TIMESTAMP NOT NULL
+);
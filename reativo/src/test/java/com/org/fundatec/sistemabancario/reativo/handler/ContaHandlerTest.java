@@ -0,0 +1,103 @@
+package com.org.fundatec.sistemabancario.reativo.handler;
+
+import com.org.fundatec.sistemabancario.reativo.repository.EventoContaRepository;
+import com.org.fundatec.sistemabancario.reativo.repository.MovimentacaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ContaHandlerTest {
+
+    @Autowired
+    private WebTestClient cliente;
+
+    @Autowired
+    private DatabaseClient banco;
+
+    @Autowired
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Autowired
+    private EventoContaRepository eventoContaRepository;
+
+    @BeforeEach
+    void setUp() {
+        banco.sql("DELETE FROM MOVIMENTACAO").then()
+                .then(banco.sql("DELETE FROM EVENTO_CONTA").then())
+                .then(banco.sql("DELETE FROM CONTA").then())
+                .then(banco.sql("INSERT INTO CONTA (ID, NUMERO, SALDO) VALUES (1, 100, 50.00)").then())
+                .block();
+    }
+
+    @Test
+    void deveBuscarSaldoPorNumero() {
+        cliente.get().uri("/reativo/contas/100")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.numero").isEqualTo(100)
+                .jsonPath("$.saldo").isEqualTo(50.00);
+    }
+
+    @Test
+    void deveRetornarNotFoundQuandoContaNaoExiste() {
+        cliente.get().uri("/reativo/contas/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.erro").isEqualTo("CONTA_NAO_ENCONTRADA")
+                .jsonPath("$.mensagem").isEqualTo("Conta não encontrada com número: 999");
+    }
+
+    @Test
+    void deveDepositarRegistrandoMovimentacaoEEvento() {
+        cliente.post().uri("/reativo/contas/depositar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"numeroConta\": 100, \"valor\": 10.25}")
+                .exchange()
+                .expectStatus().isOk();
+
+        cliente.get().uri("/reativo/contas/100")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.saldo").isEqualTo(60.25);
+        StepVerifier.create(movimentacaoRepository.findByContaId(1L))
+                .expectNextMatches(movimentacao -> movimentacao.getTipo().equals("DEPOSITO"))
+                .verifyComplete();
+        StepVerifier.create(eventoContaRepository.findByContaId(1L))
+                .expectNextMatches(evento -> evento.getTipo().equals("DEPOSITO"))
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRecusarSaqueSemSaldoSemRegistrarMovimentacao() {
+        cliente.post().uri("/reativo/contas/sacar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"numeroConta\": 100, \"valor\": 50.01}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.mensagem").isEqualTo("Saldo insuficiente para saque");
+
+        StepVerifier.create(movimentacaoRepository.findByContaId(1L)).verifyComplete();
+    }
+
+    @Test
+    void deveValidarOperacao() {
+        cliente.post().uri("/reativo/contas/depositar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"valor\": -1}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.mensagem").isEqualTo("numeroConta - Número da conta é obrigatório;valor - Valor deve ser positivo;");
+    }
+}
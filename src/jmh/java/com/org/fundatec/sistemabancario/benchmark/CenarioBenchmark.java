@@ -0,0 +1,59 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.SistemabancarioApplication;
+import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Banco;
+import com.org.fundatec.sistemabancario.model.Cliente;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.AgenciaService;
+import com.org.fundatec.sistemabancario.service.BancoService;
+import com.org.fundatec.sistemabancario.service.ClienteService;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class CenarioBenchmark {
+
+    private CenarioBenchmark() {
+    }
+
+    static ConfigurableApplicationContext iniciar(String... propriedades) {
+        List<String> argumentos = new ArrayList<>(List.of("--spring.jpa.show-sql=false", "--logging.level.root=WARN"));
+        for (String propriedade : propriedades) {
+            argumentos.add("--" + propriedade);
+        }
+        return new SpringApplicationBuilder(SistemabancarioApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(argumentos.toArray(String[]::new));
+    }
+
+    static void criarContas(ConfigurableApplicationContext contexto, Dinheiro saldo, int... numeros) {
+        Banco banco = contexto.getBean(BancoService.class)
+                .salvar(new BancoDTO(null, 341, "Itaú Unibanco", "60.872.504/0001-23"));
+        AgenciaDTO agenciaDTO = new AgenciaDTO();
+        agenciaDTO.setNumero(1234);
+        agenciaDTO.setNome("Centro");
+        agenciaDTO.setBancoId(banco.getId());
+        Agencia agencia = contexto.getBean(AgenciaService.class).salvar(agenciaDTO);
+        Cliente cliente = contexto.getBean(ClienteService.class)
+                .salvar(new ClienteDTO(null, "529.982.247-25", "Fulano de Tal"));
+
+        ContaService contaService = contexto.getBean(ContaService.class);
+        for (int numero : numeros) {
+            ContaDTO contaDTO = new ContaDTO();
+            contaDTO.setNumero(numero);
+            contaDTO.setSaldo(saldo);
+            contaDTO.setClienteId(cliente.getId());
+            contaDTO.setAgenciaId(agencia.getId());
+            contaService.salvar(contaDTO);
+        }
+    }
+}
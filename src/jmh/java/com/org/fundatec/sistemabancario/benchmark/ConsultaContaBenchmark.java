@@ -0,0 +1,73 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConsultaContaBenchmark {
+
+    private static final int NUMERO = 1;
+
+    private ConfigurableApplicationContext contexto;
+
+    private ContaService contaService;
+
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws Exception {
+        contexto = CenarioBenchmark.iniciar("spring.jpa.properties.hibernate.generate_statistics=true",
+                "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN");
+        contaService = contexto.getBean(ContaService.class);
+        objectMapper = contexto.getBean(ObjectMapper.class);
+        CenarioBenchmark.criarContas(contexto, Dinheiro.de("1500.75"), NUMERO);
+
+        Statistics estatisticas = contexto.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        relatar("entidade", () -> contaService.buscarPorNumero(NUMERO), estatisticas);
+        relatar("resumo", () -> contaService.buscarResumo(NUMERO), estatisticas);
+        relatar("saldo", () -> contaService.buscarSaldo(NUMERO), estatisticas);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public byte[] entidade() throws Exception {
+        return objectMapper.writeValueAsBytes(contaService.buscarPorNumero(NUMERO));
+    }
+
+    @Benchmark
+    public byte[] resumo() throws Exception {
+        return objectMapper.writeValueAsBytes(contaService.buscarResumo(NUMERO));
+    }
+
+    @Benchmark
+    public byte[] saldo() throws Exception {
+        return objectMapper.writeValueAsBytes(contaService.buscarSaldo(NUMERO));
+    }
+
+    private void relatar(String caminho, Supplier<Object> consulta, Statistics estatisticas) throws Exception {
+        estatisticas.clear();
+        byte[] corpo = objectMapper.writeValueAsBytes(consulta.get());
+        System.out.printf("[jmh] %s: %d bytes, %d comandos SQL%n",
+                caminho, corpo.length, estatisticas.getPrepareStatementCount());
+    }
+}
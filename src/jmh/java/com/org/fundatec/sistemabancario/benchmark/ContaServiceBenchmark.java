@@ -0,0 +1,63 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContaServiceBenchmark {
+
+    private static final int CONTA_DISPUTADA = 1;
+    private static final int CONTA_ISOLADA = 2;
+    private static final Dinheiro VALOR = Dinheiro.deReais(10);
+
+    private ConfigurableApplicationContext contexto;
+
+    private ContaService contaService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = CenarioBenchmark.iniciar();
+        contaService = contexto.getBean(ContaService.class);
+        CenarioBenchmark.criarContas(contexto, Dinheiro.de("1000000000"), CONTA_DISPUTADA, CONTA_ISOLADA);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void depositarSemContencao() {
+        contaService.depositar(CONTA_ISOLADA, VALOR);
+    }
+
+    @Benchmark
+    @Group("contencao")
+    @GroupThreads(4)
+    public void depositar() {
+        contaService.depositar(CONTA_DISPUTADA, VALOR);
+    }
+
+    @Benchmark
+    @Group("contencao")
+    @GroupThreads(4)
+    public boolean sacar() {
+        try {
+            contaService.sacar(CONTA_DISPUTADA, VALOR);
+            return true;
+        } catch (SaldoInsuficienteException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class DepositoAgregadoBenchmark {
+
+    private static final int CONTA_COMUM = 1;
+    private static final int CONTA_AGREGADA = 2;
+    private static final Dinheiro VALOR = Dinheiro.deReais(10);
+
+    private ConfigurableApplicationContext contexto;
+
+    private ContaService contaService;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        Path diretorio = Files.createTempDirectory("journal-depositos");
+        contexto = CenarioBenchmark.iniciar(
+                "banco.agregacao.contas=" + CONTA_AGREGADA,
+                "banco.agregacao.diretorio=" + diretorio);
+        contaService = contexto.getBean(ContaService.class);
+        CenarioBenchmark.criarContas(contexto, Dinheiro.ZERO, CONTA_COMUM, CONTA_AGREGADA);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public void depositarContaComum() {
+        contaService.depositar(CONTA_COMUM, VALOR);
+    }
+
+    @Benchmark
+    public void depositarContaAgregada() {
+        contaService.depositar(CONTA_AGREGADA, VALOR);
+    }
+}
@@ -0,0 +1,42 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Caminho de uma operação sobre o saldo: leitura do valor recebido no JSON, validação,
+// comparação com o saldo e atualização. Rodar com -PjmhProfilers=gc para a taxa de alocação.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DinheiroBenchmark {
+
+    private static final String VALOR = "150.75";
+
+    private BigDecimal saldoBigDecimal = new BigDecimal("1000000.00");
+
+    private Dinheiro saldoDinheiro = Dinheiro.de("1000000.00");
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal valor = new BigDecimal(VALOR);
+        if (valor.signum() > 0 && saldoBigDecimal.compareTo(valor) >= 0) {
+            saldoBigDecimal = saldoBigDecimal.subtract(valor).add(valor);
+        }
+        return saldoBigDecimal;
+    }
+
+    @Benchmark
+    public Dinheiro dinheiro() {
+        Dinheiro valor = Dinheiro.de(VALOR);
+        if (valor.signum() > 0 && !saldoDinheiro.menorQue(valor)) {
+            saldoDinheiro = saldoDinheiro.subtrair(valor).somar(valor);
+        }
+        return saldoDinheiro;
+    }
+}
@@ -0,0 +1,60 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.service.IdempotenciaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdempotenciaBenchmark {
+
+    private static final String CLIENTE = "10.0.0.1";
+    private static final String IMPRESSAO = "depositar:1001:10.00";
+    private static final Supplier<ResponseEntity<Void>> OPERACAO = () -> ResponseEntity.ok().build();
+
+    private IdempotenciaService idempotenciaService;
+
+    private final AtomicLong sequencia = new AtomicLong();
+
+    @Setup
+    public void iniciar() {
+        idempotenciaService = new IdempotenciaService();
+        // O armazenamento não descarta chaves válidas; a validade curta mantém estável o volume criado
+        // pelos benchmarks de chave nova.
+        ReflectionTestUtils.setField(idempotenciaService, "validade", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(idempotenciaService, "capacidade", Long.MAX_VALUE);
+        ReflectionTestUtils.invokeMethod(idempotenciaService, "iniciar");
+        idempotenciaService.executar(CLIENTE, "repetida", IMPRESSAO, OPERACAO);
+    }
+
+    @Benchmark
+    public ResponseEntity<Void> semChave() {
+        return idempotenciaService.executar(CLIENTE, null, IMPRESSAO, OPERACAO);
+    }
+
+    @Benchmark
+    public ResponseEntity<Void> chaveNova() {
+        return idempotenciaService.executar(CLIENTE, "chave-" + sequencia.incrementAndGet(), IMPRESSAO, OPERACAO);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ResponseEntity<Void> chaveNovaConcorrente() {
+        return idempotenciaService.executar(CLIENTE, "chave-" + sequencia.incrementAndGet(), IMPRESSAO, OPERACAO);
+    }
+
+    @Benchmark
+    public ResponseEntity<Void> repeticao() {
+        return idempotenciaService.executar(CLIENTE, "repetida", IMPRESSAO, OPERACAO);
+    }
+}
@@ -0,0 +1,163 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.model.Banco;
+import com.org.fundatec.sistemabancario.model.Cliente;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.validator.constraints.br.CPF;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Simula a importação em lote: cada registro é validado como DTO e de novo como entidade, como no persist.
+// hibernate-validator: @CPF/@CNPJ do Hibernate Validator; proprio: @Cpf/@Cnpj com NormalizadorDocumento.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ImportacaoDocumentoBenchmark.LOTE)
+public class ImportacaoDocumentoBenchmark {
+
+    static final int LOTE = 1_000;
+
+    // Um em cada dez documentos tem o dígito verificador errado.
+    private static final int INVALIDOS_A_CADA = 10;
+
+    @Param({"hibernate-validator", "proprio"})
+    private String modo;
+
+    private ValidatorFactory fabrica;
+
+    private Validator validator;
+
+    private String[] cpfs;
+
+    private String[] cnpjs;
+
+    @Setup
+    public void iniciar() {
+        fabrica = Validation.buildDefaultValidatorFactory();
+        validator = fabrica.getValidator();
+        cpfs = new String[LOTE];
+        cnpjs = new String[LOTE];
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < LOTE; i++) {
+            boolean invalido = i % INVALIDOS_A_CADA == 0;
+            cpfs[i] = cpf(aleatorio.nextInt(1, 999_999_999), invalido);
+            cnpjs[i] = cnpj(aleatorio.nextInt(1, 99_999_999), invalido);
+        }
+    }
+
+    @TearDown
+    public void encerrar() {
+        fabrica.close();
+    }
+
+    @Benchmark
+    public int clientes() {
+        int validos = 0;
+        boolean hibernate = modo.equals("hibernate-validator");
+        for (String cpf : cpfs) {
+            if (hibernate) {
+                ClienteHibernate cliente = new ClienteHibernate(cpf, "Fulano de Tal");
+                if (validator.validate(cliente).isEmpty() && validator.validate(cliente).isEmpty()) {
+                    validos++;
+                }
+            } else if (validator.validate(new ClienteDTO(null, cpf, "Fulano de Tal")).isEmpty()
+                    && validator.validate(new Cliente(cpf, "Fulano de Tal")).isEmpty()) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+
+    @Benchmark
+    public int bancos() {
+        int validos = 0;
+        boolean hibernate = modo.equals("hibernate-validator");
+        for (String cnpj : cnpjs) {
+            if (hibernate) {
+                BancoHibernate banco = new BancoHibernate(cnpj, "Banco");
+                if (validator.validate(banco).isEmpty() && validator.validate(banco).isEmpty()) {
+                    validos++;
+                }
+            } else if (validator.validate(new BancoDTO(null, 1, "Banco", cnpj)).isEmpty()
+                    && validator.validate(new Banco(1, "Banco", cnpj)).isEmpty()) {
+                validos++;
+            }
+        }
+        return validos;
+    }
+
+    private static String cpf(int base, boolean invalido) {
+        String digitos = String.format("%09d", base);
+        int primeiro = verificador(digitos, 10, 11);
+        int segundo = verificador(digitos + primeiro, 11, 11);
+        if (invalido) {
+            segundo = (segundo + 1) % 10;
+        }
+        String cpf = digitos + primeiro + segundo;
+        return cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9);
+    }
+
+    private static String cnpj(int base, boolean invalido) {
+        String digitos = String.format("%08d", base) + "0001";
+        int primeiro = verificador(digitos, 5, 9);
+        int segundo = verificador(digitos + primeiro, 6, 9);
+        if (invalido) {
+            segundo = (segundo + 1) % 10;
+        }
+        String cnpj = digitos + primeiro + segundo;
+        return cnpj.substring(0, 2) + "." + cnpj.substring(2, 5) + "." + cnpj.substring(5, 8) + "/"
+                + cnpj.substring(8, 12) + "-" + cnpj.substring(12);
+    }
+
+    private static int verificador(String digitos, int pesoInicial, int pesoMaximo) {
+        int soma = 0;
+        int peso = pesoInicial;
+        for (int i = 0; i < digitos.length(); i++) {
+            soma += (digitos.charAt(i) - '0') * peso;
+            peso = peso == 2 ? pesoMaximo : peso - 1;
+        }
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+
+    static class ClienteHibernate {
+
+        @CPF
+        @NotBlank
+        private final String cpf;
+
+        @NotBlank
+        private final String nome;
+
+        ClienteHibernate(String cpf, String nome) {
+            this.cpf = cpf;
+            this.nome = nome;
+        }
+    }
+
+    static class BancoHibernate {
+
+        @CNPJ
+        @NotBlank
+        private final String cnpj;
+
+        @NotBlank
+        private final String nome;
+
+        BancoHibernate(String cnpj, String nome) {
+            this.cnpj = cnpj;
+            this.nome = nome;
+        }
+    }
+}
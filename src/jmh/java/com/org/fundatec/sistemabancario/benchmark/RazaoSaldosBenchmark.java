@@ -0,0 +1,69 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class RazaoSaldosBenchmark {
+
+    private static final int CONTAS = 1_000;
+    private static final Dinheiro VALOR = Dinheiro.deReais(1);
+
+    // jpa: saldo em CONTA; memoria: razão em memória com fsync por commit em grupo;
+    // memoria-sem-sync: razão em memória com o log gravado apenas no cache do sistema operacional.
+    @Param({"jpa", "memoria", "memoria-sem-sync"})
+    private String modo;
+
+    private ConfigurableApplicationContext contexto;
+
+    private ContaService contaService;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        Path diretorio = Files.createTempDirectory("razao-saldos");
+        contexto = CenarioBenchmark.iniciar(
+                "banco.saldos.armazenamento=" + (modo.equals("jpa") ? "jpa" : "memoria"),
+                "banco.saldos.sincronizar-log=" + !modo.equals("memoria-sem-sync"),
+                "banco.saldos.diretorio=" + diretorio);
+        contaService = contexto.getBean(ContaService.class);
+        CenarioBenchmark.criarContas(contexto, Dinheiro.de("1000000"), IntStream.rangeClosed(1, CONTAS).toArray());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public void depositar() {
+        contaService.depositar(ThreadLocalRandom.current().nextInt(1, CONTAS + 1), VALOR);
+    }
+
+    @Benchmark
+    public void transferir() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int origem = aleatorio.nextInt(1, CONTAS + 1);
+        int destino = origem % CONTAS + 1;
+        contaService.transferir(origem, destino, VALOR);
+    }
+
+    @Benchmark
+    public Dinheiro consultarSaldo() {
+        return contaService.buscarSaldo(ThreadLocalRandom.current().nextInt(1, CONTAS + 1)).getSaldo();
+    }
+}
@@ -0,0 +1,130 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.fundatec.sistemabancario.controller.ClienteController;
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.ExcecaoDominio;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.exception.handler.ErroResponse;
+import com.org.fundatec.sistemabancario.exception.handler.RestExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+// Caminho completo de uma rejeição: lançar a partir de uma pilha com a profundidade de uma requisição,
+// capturar e gerar o corpo JSON. Os métodos "Anterior" reproduzem o tratamento antigo (exceção com
+// pilha, mensagem concatenada, ErroResponse serializado pelo ObjectMapper) para comparação.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestExceptionHandlerBenchmark {
+
+    private static final int NUMERO_CONTA = 12345;
+
+    // Quadros entre o controller e o serviço que lança; uma requisição no Spring MVC passa de 100.
+    @Param({"20", "120"})
+    private int profundidade;
+
+    private RestExceptionHandler handler;
+
+    private ObjectMapper objectMapper;
+
+    private MethodParameter parametro;
+
+    private ClienteDTO clienteDTO;
+
+    @Setup
+    public void iniciar() throws NoSuchMethodException {
+        handler = new RestExceptionHandler();
+        objectMapper = new ObjectMapper();
+        parametro = new MethodParameter(ClienteController.class.getMethod("criar", ClienteDTO.class), 0);
+        clienteDTO = new ClienteDTO(null, "111.111.111-11", "");
+    }
+
+    @Benchmark
+    public byte[] entidadeNaoEncontrada() {
+        try {
+            lancar(profundidade, true, false);
+            return null;
+        } catch (ExcecaoDominio ex) {
+            return handler.trataExcecaoDominio(ex).getBody();
+        }
+    }
+
+    @Benchmark
+    public byte[] entidadeNaoEncontradaAnterior() throws Exception {
+        try {
+            lancar(profundidade, true, true);
+            return null;
+        } catch (ExcecaoAnterior ex) {
+            return renderizarAnterior(ex, HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Benchmark
+    public byte[] saldoInsuficiente() {
+        try {
+            lancar(profundidade, false, false);
+            return null;
+        } catch (ExcecaoDominio ex) {
+            return handler.trataExcecaoDominio(ex).getBody();
+        }
+    }
+
+    @Benchmark
+    public byte[] saldoInsuficienteAnterior() throws Exception {
+        try {
+            lancar(profundidade, false, true);
+            return null;
+        } catch (ExcecaoAnterior ex) {
+            return renderizarAnterior(ex, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErroResponse> validacao() {
+        BeanPropertyBindingResult resultado = new BeanPropertyBindingResult(clienteDTO, "clienteDTO");
+        resultado.addError(new FieldError("clienteDTO", "cpf", "CPF inválido"));
+        resultado.addError(new FieldError("clienteDTO", "nome", "Nome é obrigatório"));
+        return handler.handleValidationExceptions(new MethodArgumentNotValidException(parametro, resultado));
+    }
+
+    private static void lancar(int restante, boolean naoEncontrada, boolean anterior) {
+        if (restante > 0) {
+            lancar(restante - 1, naoEncontrada, anterior);
+            return;
+        }
+        if (anterior) {
+            throw new ExcecaoAnterior(naoEncontrada
+                    ? "Conta não encontrada com número: " + NUMERO_CONTA
+                    : "Saldo insuficiente para saque");
+        }
+        throw naoEncontrada
+                ? new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", NUMERO_CONTA)
+                : new SaldoInsuficienteException();
+    }
+
+    private byte[] renderizarAnterior(ExcecaoAnterior ex, HttpStatus status) throws Exception {
+        ResponseEntity<ErroResponse> resposta = new ResponseEntity<>(
+                new ErroResponse(status.value(), ex.getMessage()), status);
+        return objectMapper.writeValueAsBytes(resposta.getBody());
+    }
+
+    // Como EntidadeNaoEncontradaException e OperacaoInvalidaException eram antes: RuntimeException comum.
+    static class ExcecaoAnterior extends RuntimeException {
+        ExcecaoAnterior(String message) {
+            super(message);
+        }
+    }
+}
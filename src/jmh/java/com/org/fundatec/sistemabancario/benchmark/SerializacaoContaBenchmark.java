@@ -0,0 +1,71 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.fundatec.sistemabancario.controller.ContaController;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Banco;
+import com.org.fundatec.sistemabancario.model.Cliente;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoContaBenchmark {
+
+    private Conta conta;
+
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void iniciar() {
+        Banco banco = new Banco(341, "Itaú Unibanco", "60.872.504/0001-23");
+        banco.setId(1L);
+        Agencia agencia = new Agencia(1234, "Centro", banco);
+        agencia.setId(1L);
+        Cliente cliente = new Cliente("529.982.247-25", "Fulano de Tal");
+        cliente.setId(1L);
+        conta = new Conta(12345, cliente, agencia);
+        conta.setId(1L);
+        conta.setSaldo(Dinheiro.de("1500.75"));
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        ContaController controller = new ContaController();
+        ReflectionTestUtils.setField(controller, "service", new ContaService() {
+            @Override
+            public Conta buscarPorNumero(Integer numero) {
+                return conta;
+            }
+        });
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(conta);
+    }
+
+    @Benchmark
+    public byte[] controller() throws Exception {
+        return mockMvc.perform(get("/contas/12345"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
@@ -0,0 +1,80 @@
+package com.org.fundatec.sistemabancario.benchmark;
+
+import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoDocumentoBenchmark {
+
+    private ValidatorFactory fabrica;
+
+    private Validator validator;
+
+    private ClienteDTO clienteValido;
+
+    private ClienteDTO clienteCpfInvalido;
+
+    private BancoDTO bancoValido;
+
+    private BancoDTO bancoCnpjInvalido;
+
+    private AgenciaDTO agencia;
+
+    @Setup
+    public void iniciar() {
+        fabrica = Validation.buildDefaultValidatorFactory();
+        validator = fabrica.getValidator();
+        clienteValido = new ClienteDTO(null, "529.982.247-25", "Fulano de Tal");
+        clienteCpfInvalido = new ClienteDTO(null, "529.982.247-26", "Fulano de Tal");
+        bancoValido = new BancoDTO(null, 341, "Itaú", "60.872.504/0001-23");
+        bancoCnpjInvalido = new BancoDTO(null, 341, "Itaú", "60.872.504/0001-24");
+        agencia = new AgenciaDTO();
+        agencia.setNumero(1234);
+        agencia.setNome("Centro");
+        agencia.setBancoId(1L);
+    }
+
+    @TearDown
+    public void encerrar() {
+        fabrica.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AgenciaDTO>> semDocumento() {
+        return validator.validate(agencia);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ClienteDTO>> cpfValido() {
+        return validator.validate(clienteValido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ClienteDTO>> cpfInvalido() {
+        return validator.validate(clienteCpfInvalido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BancoDTO>> cnpjValido() {
+        return validator.validate(bancoValido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BancoDTO>> cnpjInvalido() {
+        return validator.validate(bancoCnpjInvalido);
+    }
+}
@@ -0,0 +1,30 @@
+package com.org.fundatec.sistemabancario.admissao;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Balde de tokens na forma GCRA: o estado inteiro é o instante teórico da próxima chegada, então
+// consumir é um único compareAndSet, sem travas e sem thread de reposição.
+final class BaldeTokens {
+
+    private final long intervalo;
+    private final long tolerancia;
+    private final AtomicLong chegadaTeorica = new AtomicLong(Long.MIN_VALUE);
+
+    BaldeTokens(double taxaPorSegundo, int rajada) {
+        this.intervalo = Math.max(1, (long) (1_000_000_000L / taxaPorSegundo));
+        this.tolerancia = intervalo * rajada;
+    }
+
+    boolean consumir(long agora) {
+        long atual;
+        long proxima;
+        do {
+            atual = chegadaTeorica.get();
+            proxima = Math.max(atual, agora) + intervalo;
+            if (proxima - agora > tolerancia) {
+                return false;
+            }
+        } while (!chegadaTeorica.compareAndSet(atual, proxima));
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+package com.org.fundatec.sistemabancario.admissao;
+
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.LimiteExcedidoException;
+import com.org.fundatec.sistemabancario.exception.handler.CorposErro;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Recusa com 429 antes de ler o corpo: primeiro pela taxa do cliente, depois pelo limite de
+// operações em andamento. O limite por conta depende do corpo e é aplicado no ContaController.
+public class FiltroAdmissao extends OncePerRequestFilter {
+
+    private final LimitadorTaxa limitadorTaxa;
+    private final LimitadorConcorrencia limitadorConcorrencia;
+
+    public FiltroAdmissao(LimitadorTaxa limitadorTaxa, LimitadorConcorrencia limitadorConcorrencia) {
+        this.limitadorTaxa = limitadorTaxa;
+        this.limitadorConcorrencia = limitadorConcorrencia;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String cliente = cliente(request);
+        if (!limitadorTaxa.admitirCliente(cliente)) {
+            recusar(response, new LimiteExcedidoException(CodigoErro.LIMITE_CLIENTE, cliente));
+            return;
+        }
+        if (!limitadorConcorrencia.adquirir()) {
+            recusar(response, new LimiteExcedidoException(CodigoErro.SERVIDOR_SOBRECARREGADO));
+            return;
+        }
+        long inicio = System.nanoTime();
+        boolean assincrona = false;
+        try {
+            filterChain.doFilter(request, response);
+            assincrona = request.isAsyncStarted();
+        } finally {
+            if (assincrona) {
+                // A operação continua em outra thread; a vaga só é devolvida quando ela termina.
+                request.getAsyncContext().addListener(new LiberacaoAssincrona(inicio));
+            } else {
+                limitadorConcorrencia.liberar(inicio, System.nanoTime());
+            }
+        }
+    }
+
+    // O cliente é o usuário autenticado ou, sem autenticação, o endereço de origem; nada que o
+    // chamador escolha livremente. Atrás de um proxy confiável, server.forward-headers-strategy
+    // faz o endereço refletir o X-Forwarded-For.
+    public static String cliente(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : request.getRemoteAddr();
+    }
+
+    private final class LiberacaoAssincrona implements AsyncListener {
+
+        private final long inicio;
+        private final AtomicBoolean liberada = new AtomicBoolean();
+
+        private LiberacaoAssincrona(long inicio) {
+            this.inicio = inicio;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void liberar() {
+            if (liberada.compareAndSet(false, true)) {
+                limitadorConcorrencia.liberar(inicio, System.nanoTime());
+            }
+        }
+    }
+
+    private static void recusar(HttpServletResponse response, LimiteExcedidoException ex) throws IOException {
+        response.setStatus(ex.getCodigo().getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(CorposErro.renderizar(ex));
+    }
+}
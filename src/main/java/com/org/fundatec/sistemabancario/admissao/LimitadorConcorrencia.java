@@ -0,0 +1,88 @@
+package com.org.fundatec.sistemabancario.admissao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Limite de operações em andamento ajustado por AIMD: cresce uma unidade quando uma operação
+// rápida termina com o limite em uso e cai 10% quando a latência passa do alvo. A queda vale uma vez
+// por janela: só reduz de novo uma operação lenta admitida depois da última redução.
+@Component
+public class LimitadorConcorrencia {
+
+    public static final String LIMITE = "banco.admissao.concorrencia.limite";
+    public static final String EM_ANDAMENTO = "banco.admissao.concorrencia.em-andamento";
+
+    private static final double FATOR_REDUCAO = 0.9;
+    private static final long SEM_REDUCAO = Long.MIN_VALUE;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${banco.admissao.concorrencia.inicial:10}")
+    private int inicial;
+
+    @Value("${banco.admissao.concorrencia.minimo:2}")
+    private int minimo;
+
+    @Value("${banco.admissao.concorrencia.maximo:50}")
+    private int maximo;
+
+    @Value("${banco.admissao.concorrencia.latencia-alvo:PT0.1S}")
+    private Duration latenciaAlvo;
+
+    private final AtomicInteger limite = new AtomicInteger();
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final AtomicLong ultimaReducao = new AtomicLong(SEM_REDUCAO);
+    private Counter recusadas;
+
+    @PostConstruct
+    void iniciar() {
+        limite.set(inicial);
+        Gauge.builder(LIMITE, limite, AtomicInteger::get)
+                .description("Limite adaptativo de operações em andamento")
+                .register(registry);
+        Gauge.builder(EM_ANDAMENTO, emAndamento, AtomicInteger::get)
+                .description("Operações admitidas em andamento")
+                .register(registry);
+        recusadas = Counter.builder(LimitadorTaxa.RECUSADAS).tag("motivo", "concorrencia").register(registry);
+    }
+
+    public boolean adquirir() {
+        int atual;
+        do {
+            atual = emAndamento.get();
+            if (atual >= limite.get()) {
+                recusadas.increment();
+                return false;
+            }
+        } while (!emAndamento.compareAndSet(atual, atual + 1));
+        return true;
+    }
+
+    // inicio e agora vêm de System.nanoTime(): o da admissão e o do término.
+    public void liberar(long inicio, long agora) {
+        int andamento = emAndamento.getAndDecrement();
+        if (agora - inicio > latenciaAlvo.toNanos()) {
+            // Operações que já estavam em andamento na última redução refletem o limite anterior.
+            long reducao = ultimaReducao.get();
+            if ((reducao == SEM_REDUCAO || inicio - reducao > 0) && ultimaReducao.compareAndSet(reducao, agora)) {
+                limite.updateAndGet(valor -> Math.max(minimo, (int) (valor * FATOR_REDUCAO)));
+            }
+        } else if (andamento * 2 >= limite.get()) {
+            limite.updateAndGet(valor -> Math.min(maximo, valor + 1));
+        }
+    }
+
+    public int getLimite() {
+        return limite.get();
+    }
+}
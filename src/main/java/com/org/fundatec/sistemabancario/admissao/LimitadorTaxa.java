@@ -0,0 +1,78 @@
+package com.org.fundatec.sistemabancario.admissao;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.LimiteExcedidoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Um balde por cliente de API e um por conta. Baldes ociosos expiram; taxa 0 desliga a dimensão.
+@Component
+public class LimitadorTaxa {
+
+    public static final String RECUSADAS = "banco.admissao.recusadas";
+
+    private static final Duration OCIOSIDADE = Duration.ofMinutes(5);
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${banco.admissao.habilitada:true}")
+    private boolean habilitada;
+
+    @Value("${banco.admissao.cliente.taxa:200}")
+    private double taxaCliente;
+
+    @Value("${banco.admissao.cliente.rajada:400}")
+    private int rajadaCliente;
+
+    @Value("${banco.admissao.conta.taxa:50}")
+    private double taxaConta;
+
+    @Value("${banco.admissao.conta.rajada:100}")
+    private int rajadaConta;
+
+    @Value("${banco.admissao.capacidade:100000}")
+    private long capacidade;
+
+    private Cache<String, BaldeTokens> clientes;
+    private Cache<Integer, BaldeTokens> contas;
+    private Counter recusadasCliente;
+    private Counter recusadasConta;
+
+    @PostConstruct
+    void iniciar() {
+        clientes = Caffeine.newBuilder().maximumSize(capacidade).expireAfterAccess(OCIOSIDADE).build();
+        contas = Caffeine.newBuilder().maximumSize(capacidade).expireAfterAccess(OCIOSIDADE).build();
+        recusadasCliente = Counter.builder(RECUSADAS).tag("motivo", "cliente").register(registry);
+        recusadasConta = Counter.builder(RECUSADAS).tag("motivo", "conta").register(registry);
+    }
+
+    public boolean admitirCliente(String cliente) {
+        if (taxaCliente <= 0) {
+            return true;
+        }
+        if (clientes.get(cliente, chave -> new BaldeTokens(taxaCliente, rajadaCliente)).consumir(System.nanoTime())) {
+            return true;
+        }
+        recusadasCliente.increment();
+        return false;
+    }
+
+    public void verificarConta(Integer numero) {
+        if (!habilitada || taxaConta <= 0) {
+            return;
+        }
+        if (!contas.get(numero, chave -> new BaldeTokens(taxaConta, rajadaConta)).consumir(System.nanoTime())) {
+            recusadasConta.increment();
+            throw new LimiteExcedidoException(CodigoErro.LIMITE_CONTA, numero);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.org.fundatec.sistemabancario.auditoria;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Auditado {
+
+    // Entidade cujo estado anterior é registrado; o primeiro argumento do método é o seu ID.
+    Class<?> entidade() default Void.class;
+}
@@ -0,0 +1,98 @@
+package com.org.fundatec.sistemabancario.auditoria;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.fundatec.sistemabancario.admissao.FiltroAdmissao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Iterator;
+
+// Executa por fora da transação para registrar o desfecho já confirmado (ou revertido). Argumentos,
+// estado anterior e resultado são serializados aqui, antes que a thread siga alterando as entidades.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class AuditoriaAspect {
+
+    private static final String USUARIO_SISTEMA = "sistema";
+
+    @Autowired
+    private FilaAuditoria filaAuditoria;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Around("@annotation(auditado)")
+    public Object auditar(ProceedingJoinPoint joinPoint, Auditado auditado) throws Throwable {
+        String usuario = usuario();
+        String operacao = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Object[] argumentos = joinPoint.getArgs();
+        String antes = antes(auditado.entidade(), argumentos);
+        String textoArgumentos = argumentos(argumentos);
+        try {
+            Object resultado = joinPoint.proceed();
+            filaAuditoria.publicar(new EventoAuditoria(usuario, operacao, textoArgumentos, antes, json(resultado), true,
+                    Instant.now()));
+            return resultado;
+        } catch (Throwable ex) {
+            filaAuditoria.publicar(new EventoAuditoria(usuario, operacao, textoArgumentos, antes,
+                    ex.getClass().getSimpleName() + ": " + ex.getMessage(), false, Instant.now()));
+            throw ex;
+        }
+    }
+
+    private String usuario() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos instanceof ServletRequestAttributes requisicao) {
+            return FiltroAdmissao.cliente(requisicao.getRequest());
+        }
+        return USUARIO_SISTEMA;
+    }
+
+    // Lido em uma transação própria para que as associações preguiçosas sejam serializadas.
+    private String antes(Class<?> entidade, Object[] argumentos) {
+        if (entidade == Void.class) {
+            return null;
+        }
+        return transactionTemplate.execute(status -> json(entityManager.find(entidade, argumentos[0])));
+    }
+
+    private String argumentos(Object[] argumentos) {
+        StringBuilder texto = new StringBuilder("[");
+        for (int i = 0; i < argumentos.length; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            // Fluxos de importação só podem ser consumidos pela própria chamada.
+            texto.append(argumentos[i] instanceof Iterator<?> ? "\"<fluxo>\"" : json(argumentos[i]));
+        }
+        return texto.append(']').toString();
+    }
+
+    private String json(Object valor) {
+        try {
+            return objectMapper.writeValueAsString(valor);
+        } catch (JsonProcessingException e) {
+            return "\"" + valor.getClass().getSimpleName() + "\"";
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.fundatec.sistemabancario.auditoria;
+
+import java.time.Instant;
+
+// Serializado na thread da chamada, enquanto argumentos e resultado ainda refletem a operação.
+final class EventoAuditoria {
+
+    private final String usuario;
+    private final String operacao;
+    private final String argumentos;
+    private final String antes;
+    private final String resultado;
+    private final boolean sucesso;
+    private final Instant momento;
+
+    EventoAuditoria(String usuario, String operacao, String argumentos, String antes, String resultado, boolean sucesso,
+                    Instant momento) {
+        this.usuario = usuario;
+        this.operacao = operacao;
+        this.argumentos = argumentos;
+        this.antes = antes;
+        this.resultado = resultado;
+        this.sucesso = sucesso;
+        this.momento = momento;
+    }
+
+    String getUsuario() {
+        return usuario;
+    }
+
+    String getOperacao() {
+        return operacao;
+    }
+
+    String getArgumentos() {
+        return argumentos;
+    }
+
+    String getAntes() {
+        return antes;
+    }
+
+    String getResultado() {
+        return resultado;
+    }
+
+    boolean isSucesso() {
+        return sucesso;
+    }
+
+    Instant getMomento() {
+        return momento;
+    }
+}
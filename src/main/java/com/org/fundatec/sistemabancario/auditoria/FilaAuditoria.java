@@ -0,0 +1,103 @@
+package com.org.fundatec.sistemabancario.auditoria;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Fila sem travas limitada por um contador atualizado via CAS. Cheia, a chamada auditada espera
+// até banco.auditoria.espera-maxima por espaço e depois descarta o evento, sem nunca falhar.
+@Component
+public class FilaAuditoria {
+
+    public static final String TAMANHO_FILA = "banco.auditoria.fila";
+    public static final String DESCARTADOS = "banco.auditoria.descartados";
+    public static final String GRAVADOS = "banco.auditoria.gravados";
+    public static final String PERDIDOS = "banco.auditoria.perdidos";
+
+    private static final long INTERVALO_ESPERA = 50_000;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${banco.auditoria.capacidade:10000}")
+    private int capacidade;
+
+    @Value("${banco.auditoria.espera-maxima:PT0S}")
+    private Duration esperaMaxima;
+
+    private final Queue<EventoAuditoria> eventos = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tamanho = new AtomicInteger();
+    private Counter descartados;
+    private Counter gravados;
+    private Counter perdidos;
+
+    @PostConstruct
+    void iniciar() {
+        Gauge.builder(TAMANHO_FILA, tamanho, AtomicInteger::get)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(registry);
+        descartados = Counter.builder(DESCARTADOS)
+                .description("Eventos de auditoria descartados com a fila cheia")
+                .register(registry);
+        gravados = Counter.builder(GRAVADOS)
+                .description("Eventos de auditoria gravados")
+                .register(registry);
+        perdidos = Counter.builder(PERDIDOS)
+                .description("Eventos de auditoria descartados após falhas de gravação")
+                .register(registry);
+    }
+
+    boolean publicar(EventoAuditoria evento) {
+        long limite = 0;
+        while (!reservar()) {
+            long agora = System.nanoTime();
+            if (limite == 0) {
+                limite = agora + esperaMaxima.toNanos();
+            }
+            if (agora >= limite) {
+                descartados.increment();
+                return false;
+            }
+            LockSupport.parkNanos(INTERVALO_ESPERA);
+        }
+        eventos.offer(evento);
+        return true;
+    }
+
+    EventoAuditoria retirar() {
+        EventoAuditoria evento = eventos.poll();
+        if (evento != null) {
+            tamanho.decrementAndGet();
+        }
+        return evento;
+    }
+
+    void contabilizarGravados(int quantidade) {
+        gravados.increment(quantidade);
+    }
+
+    void contabilizarPerdidos(int quantidade) {
+        perdidos.increment(quantidade);
+    }
+
+    private boolean reservar() {
+        int atual;
+        do {
+            atual = tamanho.get();
+            if (atual >= capacidade) {
+                return false;
+            }
+        } while (!tamanho.compareAndSet(atual, atual + 1));
+        return true;
+    }
+}
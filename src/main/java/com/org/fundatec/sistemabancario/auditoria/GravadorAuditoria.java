@@ -0,0 +1,78 @@
+package com.org.fundatec.sistemabancario.auditoria;
+
+import com.org.fundatec.sistemabancario.model.RegistroAuditoria;
+import com.org.fundatec.sistemabancario.repository.RegistroAuditoriaRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Drena a fila em lotes gravados em uma transação cada; o Hibernate agrupa os INSERTs em lotes JDBC
+// (hibernate.jdbc.batch_size). Um lote que falha é mantido e regravado nas execuções seguintes; após
+// banco.auditoria.tentativas falhas seguidas ele é descartado e contabilizado em banco.auditoria.perdidos.
+@Component
+public class GravadorAuditoria {
+
+    private static final int TAMANHO_MAXIMO_TEXTO = 4000;
+    private static final int TAMANHO_MAXIMO_USUARIO = 255;
+
+    @Autowired
+    private FilaAuditoria filaAuditoria;
+
+    @Autowired
+    private RegistroAuditoriaRepository registroAuditoriaRepository;
+
+    @Value("${banco.auditoria.lote:500}")
+    private int tamanhoLote;
+
+    @Value("${banco.auditoria.tentativas:5}")
+    private int tentativas;
+
+    private List<RegistroAuditoria> pendentes = new ArrayList<>();
+    private int falhas;
+
+    @Scheduled(fixedDelayString = "${banco.auditoria.intervalo:PT0.1S}")
+    public synchronized void gravar() {
+        while (true) {
+            EventoAuditoria evento;
+            while (pendentes.size() < tamanhoLote && (evento = filaAuditoria.retirar()) != null) {
+                pendentes.add(registro(evento));
+            }
+            if (pendentes.isEmpty()) {
+                return;
+            }
+            try {
+                registroAuditoriaRepository.saveAll(pendentes);
+            } catch (RuntimeException e) {
+                if (++falhas >= tentativas) {
+                    filaAuditoria.contabilizarPerdidos(pendentes.size());
+                    pendentes = new ArrayList<>();
+                    falhas = 0;
+                }
+                throw e;
+            }
+            filaAuditoria.contabilizarGravados(pendentes.size());
+            pendentes = new ArrayList<>();
+            falhas = 0;
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        gravar();
+    }
+
+    private RegistroAuditoria registro(EventoAuditoria evento) {
+        return new RegistroAuditoria(limitar(evento.getUsuario(), TAMANHO_MAXIMO_USUARIO), evento.getOperacao(),
+                limitar(evento.getArgumentos(), TAMANHO_MAXIMO_TEXTO), limitar(evento.getAntes(), TAMANHO_MAXIMO_TEXTO),
+                limitar(evento.getResultado(), TAMANHO_MAXIMO_TEXTO), evento.isSucesso(), evento.getMomento());
+    }
+
+    private String limitar(String texto, int tamanhoMaximo) {
+        return texto != null && texto.length() > tamanhoMaximo ? texto.substring(0, tamanhoMaximo) : texto;
+    }
+}
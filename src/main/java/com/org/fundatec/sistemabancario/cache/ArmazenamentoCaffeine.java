@@ -0,0 +1,53 @@
+package com.org.fundatec.sistemabancario.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+public class ArmazenamentoCaffeine implements DomainDataStorageAccess {
+
+    private final Cache<Object, Object> cache;
+
+    public ArmazenamentoCaffeine(Cache<Object, Object> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Object getFromCache(Object chave, SharedSessionContractImplementor sessao) {
+        return cache.getIfPresent(chave);
+    }
+
+    @Override
+    public void putIntoCache(Object chave, Object valor, SharedSessionContractImplementor sessao) {
+        cache.put(chave, valor);
+    }
+
+    @Override
+    public boolean contains(Object chave) {
+        return cache.asMap().containsKey(chave);
+    }
+
+    @Override
+    public void evictData() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void evictData(Object chave) {
+        cache.invalidate(chave);
+    }
+
+    @Override
+    public void release() {
+        cache.invalidateAll();
+    }
+
+    public long tamanho() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats estatisticas() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,89 @@
+package com.org.fundatec.sistemabancario.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Cache de segundo nível do Hibernate sobre o Caffeine. Cada região aceita
+// hibernate.cache.caffeine.<regiao>.maximo e .validade; sem eles valem os padrões da fábrica.
+public class FabricaRegioesCaffeine extends RegionFactoryTemplate {
+
+    public static final String PREFIXO = "hibernate.cache.caffeine.";
+
+    private static final long MAXIMO_PADRAO = 10_000;
+
+    private final Map<String, ArmazenamentoCaffeine> armazenamentos = new ConcurrentHashMap<>();
+    private Map<String, Object> configuracao = Map.of();
+
+    public Map<String, ArmazenamentoCaffeine> getArmazenamentos() {
+        return Collections.unmodifiableMap(armazenamentos);
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions opcoes, Map<String, Object> configuracao) {
+        this.configuracao = configuracao;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        armazenamentos.values().forEach(ArmazenamentoCaffeine::release);
+        armazenamentos.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regiao,
+                                                                    DomainDataRegionBuildingContext contexto) {
+        return criar(regiao.getRegionName(), true);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regiao, SessionFactoryImplementor fabrica) {
+        return criar(regiao, true);
+    }
+
+    // Perder um timestamp faria consultas em cache parecerem atuais depois de uma escrita, por isso
+    // esta região nunca despeja entradas.
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regiao, SessionFactoryImplementor fabrica) {
+        return criar(regiao, false);
+    }
+
+    private ArmazenamentoCaffeine criar(String regiao, boolean limitada) {
+        Caffeine<Object, Object> construtor = Caffeine.newBuilder().recordStats();
+        if (limitada) {
+            construtor.maximumSize(maximo(regiao));
+            Duration validade = validade(regiao);
+            if (validade != null) {
+                construtor.expireAfterWrite(validade);
+            }
+        }
+        ArmazenamentoCaffeine armazenamento = new ArmazenamentoCaffeine(construtor.build());
+        armazenamentos.put(regiao, armazenamento);
+        return armazenamento;
+    }
+
+    private long maximo(String regiao) {
+        Object valor = configuracao(regiao, "maximo");
+        return valor == null ? MAXIMO_PADRAO : Long.parseLong(valor.toString());
+    }
+
+    private Duration validade(String regiao) {
+        Object valor = configuracao(regiao, "validade");
+        return valor == null ? null : Duration.parse(valor.toString());
+    }
+
+    private Object configuracao(String regiao, String chave) {
+        Object valor = configuracao.get(PREFIXO + regiao + "." + chave);
+        return valor != null ? valor : configuracao.get(PREFIXO + chave);
+    }
+}
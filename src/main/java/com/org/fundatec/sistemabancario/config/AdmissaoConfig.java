@@ -0,0 +1,24 @@
+package com.org.fundatec.sistemabancario.config;
+
+import com.org.fundatec.sistemabancario.admissao.FiltroAdmissao;
+import com.org.fundatec.sistemabancario.admissao.LimitadorConcorrencia;
+import com.org.fundatec.sistemabancario.admissao.LimitadorTaxa;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "banco.admissao.habilitada", havingValue = "true", matchIfMissing = true)
+public class AdmissaoConfig {
+
+    @Bean
+    public FilterRegistrationBean<FiltroAdmissao> filtroAdmissao(LimitadorTaxa limitadorTaxa,
+                                                                 LimitadorConcorrencia limitadorConcorrencia) {
+        FilterRegistrationBean<FiltroAdmissao> registro = new FilterRegistrationBean<>(
+                new FiltroAdmissao(limitadorTaxa, limitadorConcorrencia));
+        registro.addUrlPatterns("/contas/depositar", "/contas/sacar", "/contas/transferir",
+                "/assincrono/contas/depositar", "/assincrono/contas/sacar");
+        return registro;
+    }
+}
@@ -0,0 +1,32 @@
+package com.org.fundatec.sistemabancario.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// No perfil "assincrono" o trabalho de banco roda em um pool do tamanho do pool JDBC; a thread do
+// Tomcat é devolvida assim que a requisição é enfileirada.
+@Configuration
+@Profile("assincrono")
+public class AssincronoConfig {
+
+    public static final String EXECUTOR = "executorBanco";
+
+    @Bean(name = EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService executorBanco(@Value("${banco.assincrono.threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads,
+                                         @Value("${banco.assincrono.fila:10000}") int fila,
+                                         MeterRegistry registry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(fila), new CustomizableThreadFactory("banco-assincrono-"));
+        return ExecutorServiceMetrics.monitor(registry, executor, "banco.assincrono");
+    }
+}
@@ -0,0 +1,10 @@
+package com.org.fundatec.sistemabancario.config;
+
+import com.org.fundatec.sistemabancario.repository.RepositorioBase;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(basePackageClasses = RepositorioBase.class, repositoryBaseClass = RepositorioBase.class)
+public class JpaConfig {
+}
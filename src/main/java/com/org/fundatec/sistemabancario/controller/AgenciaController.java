@@ -1,17 +1,19 @@
 package com.org.fundatec.sistemabancario.controller;
 
 import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
 import com.org.fundatec.sistemabancario.model.Agencia;
 import com.org.fundatec.sistemabancario.service.AgenciaService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping(path = "/agencias", produces = MediaType.APPLICATION_JSON_VALUE)
 public class AgenciaController {
@@ -36,8 +38,16 @@ public class AgenciaController {
     }
 
     @GetMapping(value = "/banco/{bancoId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Agencia>> buscarPorBanco(@PathVariable Long bancoId) {
-        return ResponseEntity.ok(service.buscarPorBanco(bancoId));
+    public ResponseEntity<PagedModel<Agencia>> buscarPorBanco(@PathVariable Long bancoId,
+                                                              @SortDefault("id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(service.buscarPorBanco(bancoId, pageable)));
+    }
+
+    @GetMapping(value = "/banco/{bancoId}/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PaginaCursorDTO<Agencia>> buscarPorBanco(@PathVariable Long bancoId,
+                                                                   @RequestParam(required = false) Long apos,
+                                                                   @RequestParam(defaultValue = "20") int tamanho) {
+        return ResponseEntity.ok(service.buscarPorBanco(bancoId, apos, tamanho));
     }
 
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -1,17 +1,19 @@
 package com.org.fundatec.sistemabancario.controller;
 
 import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
 import com.org.fundatec.sistemabancario.model.Banco;
 import com.org.fundatec.sistemabancario.service.BancoService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping(path = "/bancos", produces = MediaType.APPLICATION_JSON_VALUE)
 public class BancoController {
@@ -38,15 +40,27 @@ public class BancoController {
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Banco>> listarTodos() {
-        List<Banco> bancos = service.listarTodos();
-        return ResponseEntity.ok(bancos);
+    public ResponseEntity<PagedModel<Banco>> listarTodos(@SortDefault("id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(service.listarTodos(pageable)));
+    }
+
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PaginaCursorDTO<Banco>> listarTodos(@RequestParam(required = false) Long apos,
+                                                              @RequestParam(defaultValue = "20") int tamanho) {
+        return ResponseEntity.ok(service.listarTodos(apos, tamanho));
     }
 
     @GetMapping(value = "/buscar", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Banco>> buscarPorNome(@RequestParam String nome) {
-        List<Banco> bancos = service.buscarPorNome(nome);
-        return ResponseEntity.ok(bancos);
+    public ResponseEntity<PagedModel<Banco>> buscarPorNome(@RequestParam String nome,
+                                                           @SortDefault({"nomeNormalizado", "id"}) Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(service.buscarPorNome(nome, pageable)));
+    }
+
+    @GetMapping(value = "/buscar/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PaginaCursorDTO<Banco>> buscarPorNome(@RequestParam String nome,
+                                                                @RequestParam(required = false) Long apos,
+                                                                @RequestParam(defaultValue = "20") int tamanho) {
+        return ResponseEntity.ok(service.buscarPorNome(nome, apos, tamanho));
     }
 
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -0,0 +1,29 @@
+package com.org.fundatec.sistemabancario.controller;
+
+import com.org.fundatec.sistemabancario.dto.EstatisticasCacheDTO;
+import com.org.fundatec.sistemabancario.service.CacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(path = "/caches", produces = MediaType.APPLICATION_JSON_VALUE)
+public class CacheController {
+
+    @Autowired
+    private CacheService service;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<EstatisticasCacheDTO>> listarEstatisticas() {
+        return ResponseEntity.ok(service.listarEstatisticas());
+    }
+
+    @DeleteMapping(value = "/{nome}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> limpar(@PathVariable String nome) {
+        service.limpar(nome);
+        return ResponseEntity.noContent().build();
+    }
+}
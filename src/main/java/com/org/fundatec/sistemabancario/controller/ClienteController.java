@@ -1,16 +1,24 @@
 package com.org.fundatec.sistemabancario.controller;
 
 import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
 import com.org.fundatec.sistemabancario.model.Cliente;
 import com.org.fundatec.sistemabancario.service.ClienteService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping(path = "/clientes", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -19,12 +27,24 @@ public class ClienteController {
     @Autowired
     private ClienteService service;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Cliente> criar(@RequestBody @Valid ClienteDTO clienteDTO) {
         Cliente clienteSalvo = service.salvar(clienteDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(clienteSalvo);
     }
 
+    @PostMapping(value = "/importar",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResultadoImportacaoDTO> importar(InputStream corpo) throws IOException {
+        try (MappingIterator<ClienteDTO> clientes = objectMapper.readerFor(ClienteDTO.class).readValues(corpo)) {
+            return ResponseEntity.ok(service.importar(clientes));
+        }
+    }
+
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Cliente> buscarPorId(@PathVariable Long id) {
         return ResponseEntity.ok(service.buscarPorId(id));
@@ -36,8 +56,16 @@ public class ClienteController {
     }
 
     @GetMapping(value = "/buscar", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Cliente>> buscarPorNome(@RequestParam String nome) {
-        return ResponseEntity.ok(service.buscarPorNome(nome));
+    public ResponseEntity<PagedModel<Cliente>> buscarPorNome(@RequestParam String nome,
+                                                             @SortDefault({"nomeNormalizado", "id"}) Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(service.buscarPorNome(nome, pageable)));
+    }
+
+    @GetMapping(value = "/buscar/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PaginaCursorDTO<Cliente>> buscarPorNome(@RequestParam String nome,
+                                                                  @RequestParam(required = false) Long apos,
+                                                                  @RequestParam(defaultValue = "20") int tamanho) {
+        return ResponseEntity.ok(service.buscarPorNome(nome, apos, tamanho));
     }
 
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -0,0 +1,123 @@
+package com.org.fundatec.sistemabancario.controller;
+
+import com.org.fundatec.sistemabancario.admissao.FiltroAdmissao;
+import com.org.fundatec.sistemabancario.admissao.LimitadorTaxa;
+import com.org.fundatec.sistemabancario.config.AssincronoConfig;
+import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.dto.OperacaoBancariaDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.LimiteExcedidoException;
+import com.org.fundatec.sistemabancario.exception.ServicoIndisponivelException;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import com.org.fundatec.sistemabancario.service.IdempotenciaService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Mesmas operações de /contas com processamento assíncrono do Servlet. Validação e erros seguem o
+// ContaController: exceções da tarefa viram o resultado de erro e passam pelo RestExceptionHandler.
+// Depósitos e saques sempre têm uma Idempotency-Key; sem o cabeçalho, uma é gerada e devolvida.
+@RestController
+@Profile("assincrono")
+@RequestMapping(path = "/assincrono/contas", produces = MediaType.APPLICATION_JSON_VALUE)
+public class ContaAssincronaController {
+
+    @Autowired
+    private ContaService service;
+
+    @Autowired
+    private IdempotenciaService idempotenciaService;
+
+    @Autowired
+    private LimitadorTaxa limitadorTaxa;
+
+    @Autowired
+    @Qualifier(AssincronoConfig.EXECUTOR)
+    private ExecutorService executor;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Conta>> criar(@RequestBody @Valid ContaDTO contaDTO) {
+        return executar(null, () -> ResponseEntity.status(HttpStatus.CREATED).body(service.salvar(contaDTO)));
+    }
+
+    @GetMapping(value = "/{numero}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Conta>> buscarPorNumero(@PathVariable Integer numero) {
+        return executar(null, () -> ResponseEntity.ok(service.buscarPorNumero(numero)));
+    }
+
+    @PostMapping(value = "/depositar", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Void>> depositar(@RequestHeader(value = IdempotenciaService.CABECALHO, required = false) String chave,
+                                                          @RequestBody @Valid OperacaoBancariaDTO dto,
+                                                          HttpServletRequest request) {
+        limitadorTaxa.verificarConta(dto.getNumeroConta());
+        String cliente = FiltroAdmissao.cliente(request);
+        String chaveOperacao = chave != null ? chave : UUID.randomUUID().toString();
+        return executar(chaveOperacao, () -> idempotenciaService.executar(cliente, chaveOperacao, "depositar:" + dto.getNumeroConta() + ":" + dto.getValor(), () -> {
+            service.depositar(dto.getNumeroConta(), dto.getValor());
+            return ResponseEntity.ok().build();
+        }));
+    }
+
+    @PostMapping(value = "/sacar", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Void>> sacar(@RequestHeader(value = IdempotenciaService.CABECALHO, required = false) String chave,
+                                                      @RequestBody @Valid OperacaoBancariaDTO dto,
+                                                      HttpServletRequest request) {
+        limitadorTaxa.verificarConta(dto.getNumeroConta());
+        String cliente = FiltroAdmissao.cliente(request);
+        String chaveOperacao = chave != null ? chave : UUID.randomUUID().toString();
+        return executar(chaveOperacao, () -> idempotenciaService.executar(cliente, chaveOperacao, "sacar:" + dto.getNumeroConta() + ":" + dto.getValor(), () -> {
+            service.sacar(dto.getNumeroConta(), dto.getValor());
+            return ResponseEntity.ok().build();
+        }));
+    }
+
+    private enum EstadoTarefa { NA_FILA, INICIADA, DESCARTADA }
+
+    // No timeout, a tarefa que ainda está na fila é descartada e o cliente recebe 503: a operação
+    // certamente não foi aplicada. Se ela já começou pode ainda ser gravada, então a resposta é 202
+    // com a Idempotency-Key; repetir a requisição com ela devolve o resultado quando houver.
+    private <T> DeferredResult<ResponseEntity<T>> executar(String chave, Supplier<ResponseEntity<T>> operacao) {
+        DeferredResult<ResponseEntity<T>> resultado = new DeferredResult<>();
+        AtomicReference<EstadoTarefa> estado = new AtomicReference<>(EstadoTarefa.NA_FILA);
+        resultado.onTimeout(() -> {
+            if (estado.compareAndSet(EstadoTarefa.NA_FILA, EstadoTarefa.DESCARTADA)) {
+                resultado.setErrorResult(new ServicoIndisponivelException(CodigoErro.TEMPO_ESGOTADO));
+            } else {
+                ResponseEntity.BodyBuilder aceita = ResponseEntity.status(HttpStatus.ACCEPTED);
+                if (chave != null) {
+                    aceita.header(IdempotenciaService.CABECALHO, chave);
+                }
+                resultado.setResult(aceita.build());
+            }
+        });
+        try {
+            executor.execute(() -> {
+                if (!estado.compareAndSet(EstadoTarefa.NA_FILA, EstadoTarefa.INICIADA)) {
+                    return;
+                }
+                try {
+                    resultado.setResult(operacao.get());
+                } catch (RuntimeException e) {
+                    resultado.setErrorResult(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new LimiteExcedidoException(CodigoErro.SERVIDOR_SOBRECARREGADO);
+        }
+        return resultado;
+    }
+}
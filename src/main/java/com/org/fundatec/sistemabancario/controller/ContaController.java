@@ -1,15 +1,37 @@
 package com.org.fundatec.sistemabancario.controller;
 
+import com.org.fundatec.sistemabancario.admissao.FiltroAdmissao;
+import com.org.fundatec.sistemabancario.admissao.LimitadorTaxa;
 import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.dto.ContaResumoDTO;
+import com.org.fundatec.sistemabancario.dto.MovimentacaoDTO;
 import com.org.fundatec.sistemabancario.dto.OperacaoBancariaDTO;
+import com.org.fundatec.sistemabancario.dto.OperacaoLoteDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoOperacaoDTO;
+import com.org.fundatec.sistemabancario.dto.SaldoDTO;
+import com.org.fundatec.sistemabancario.dto.TransferenciaDTO;
 import com.org.fundatec.sistemabancario.model.Conta;
 import com.org.fundatec.sistemabancario.service.ContaService;
+import com.org.fundatec.sistemabancario.service.IdempotenciaService;
+import com.org.fundatec.sistemabancario.service.MovimentacaoService;
+import com.org.fundatec.sistemabancario.service.OperacaoLoteService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/contas", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -18,27 +40,117 @@ public class ContaController {
     @Autowired
     private ContaService service;
 
+    @Autowired
+    private MovimentacaoService movimentacaoService;
+
+    @Autowired
+    private OperacaoLoteService operacaoLoteService;
+
+    @Autowired
+    private IdempotenciaService idempotenciaService;
+
+    @Autowired
+    private LimitadorTaxa limitadorTaxa;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${banco.extrato.tamanho-pagina:500}")
+    private int tamanhoPaginaExtrato;
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Conta> criar(@RequestBody @Valid ContaDTO contaDTO) {
         Conta contaSalva = service.salvar(contaDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(contaSalva);
     }
 
+    @PostMapping(value = "/importar",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResultadoImportacaoDTO> importar(InputStream corpo) throws IOException {
+        try (MappingIterator<ContaDTO> contas = objectMapper.readerFor(ContaDTO.class).readValues(corpo)) {
+            return ResponseEntity.ok(service.importar(contas));
+        }
+    }
+
     @GetMapping(value = "/{numero}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Conta> buscarPorNumero(@PathVariable Integer numero) {
         return ResponseEntity.ok(service.buscarPorNumero(numero));
     }
 
+    @GetMapping(value = "/{numero}/saldo", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SaldoDTO> buscarSaldo(@PathVariable Integer numero) {
+        return ResponseEntity.ok(service.buscarSaldo(numero));
+    }
+
+    @GetMapping(value = "/{numero}/resumo", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ContaResumoDTO> buscarResumo(@PathVariable Integer numero) {
+        return ResponseEntity.ok(service.buscarResumo(numero));
+    }
+
+    @GetMapping(value = "/{numero}/extrato", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> extrato(@PathVariable Integer numero) {
+        Long contaId = service.buscarIdPorNumero(numero);
+
+        StreamingResponseBody corpo = saida -> {
+            try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                gerador.writeStartArray();
+                MovimentacaoDTO ultima = null;
+                List<MovimentacaoDTO> pagina;
+                do {
+                    pagina = movimentacaoService.buscarExtrato(contaId, ultima, tamanhoPaginaExtrato);
+                    for (MovimentacaoDTO movimentacao : pagina) {
+                        gerador.writeObject(movimentacao);
+                    }
+                    gerador.flush();
+                    if (!pagina.isEmpty()) {
+                        ultima = pagina.get(pagina.size() - 1);
+                    }
+                } while (pagina.size() == tamanhoPaginaExtrato);
+                gerador.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(corpo);
+    }
+
     @PostMapping(value = "/depositar", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Void> depositar(@RequestBody @Valid OperacaoBancariaDTO dto) {
-        service.depositar(dto.getNumeroConta(), dto.getValor());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> depositar(@RequestHeader(value = IdempotenciaService.CABECALHO, required = false) String chave,
+                                          @RequestBody @Valid OperacaoBancariaDTO dto, HttpServletRequest request) {
+        limitadorTaxa.verificarConta(dto.getNumeroConta());
+        return idempotenciaService.executar(FiltroAdmissao.cliente(request), chave, "depositar:" + dto.getNumeroConta() + ":" + dto.getValor(), () -> {
+            service.depositar(dto.getNumeroConta(), dto.getValor());
+            return ResponseEntity.ok().build();
+        });
     }
 
     @PostMapping(value = "/sacar", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Void> sacar(@RequestBody @Valid OperacaoBancariaDTO dto) {
-        service.sacar(dto.getNumeroConta(), dto.getValor());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> sacar(@RequestHeader(value = IdempotenciaService.CABECALHO, required = false) String chave,
+                                      @RequestBody @Valid OperacaoBancariaDTO dto, HttpServletRequest request) {
+        limitadorTaxa.verificarConta(dto.getNumeroConta());
+        return idempotenciaService.executar(FiltroAdmissao.cliente(request), chave, "sacar:" + dto.getNumeroConta() + ":" + dto.getValor(), () -> {
+            service.sacar(dto.getNumeroConta(), dto.getValor());
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    @PostMapping(value = "/transferir", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> transferir(@RequestHeader(value = IdempotenciaService.CABECALHO, required = false) String chave,
+                                           @RequestBody @Valid TransferenciaDTO dto, HttpServletRequest request) {
+        limitadorTaxa.verificarConta(dto.getNumeroContaOrigem());
+        String impressao = "transferir:" + dto.getNumeroContaOrigem() + ":" + dto.getNumeroContaDestino() + ":" + dto.getValor();
+        return idempotenciaService.executar(FiltroAdmissao.cliente(request), chave, impressao, () -> {
+            service.transferir(dto.getNumeroContaOrigem(), dto.getNumeroContaDestino(), dto.getValor());
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    @PostMapping(value = "/operacoes",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ResultadoOperacaoDTO>> processarLote(InputStream corpo) throws IOException {
+        try (MappingIterator<OperacaoLoteDTO> operacoes = objectMapper.readerFor(OperacaoLoteDTO.class).readValues(corpo)) {
+            return ResponseEntity.ok(operacaoLoteService.processar(operacoes));
+        }
     }
 
     @DeleteMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -1,8 +1,8 @@
 package com.org.fundatec.sistemabancario.dto;
 
+import com.org.fundatec.sistemabancario.validacao.Cnpj;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import org.hibernate.validator.constraints.br.CNPJ;
 
 public class BancoDTO {
     private Long id;
@@ -13,7 +13,7 @@ public class BancoDTO {
     @NotBlank
     private String nome;
 
-    @CNPJ
+    @Cnpj
     @NotBlank
     private String cnpj;
 
@@ -1,12 +1,12 @@
 package com.org.fundatec.sistemabancario.dto;
 
+import com.org.fundatec.sistemabancario.validacao.Cpf;
 import jakarta.validation.constraints.NotBlank;
-import org.hibernate.validator.constraints.br.CPF;
 
 public class ClienteDTO {
     private Long id;
 
-    @CPF
+    @Cpf
     @NotBlank
     private String cpf;
 
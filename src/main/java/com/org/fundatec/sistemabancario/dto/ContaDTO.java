@@ -1,8 +1,8 @@
 package com.org.fundatec.sistemabancario.dto;
 
+import com.org.fundatec.sistemabancario.model.Dinheiro;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
-import java.math.BigDecimal;
 
 public class ContaDTO {
 
@@ -10,7 +10,7 @@ public class ContaDTO {
     private Integer numero;
 
     @PositiveOrZero(message = "Saldo não pode ser negativo")
-    private BigDecimal saldo = BigDecimal.ZERO;
+    private Dinheiro saldo = Dinheiro.ZERO;
 
     @NotNull(message = "ID do cliente é obrigatório")
     private Long clienteId;
@@ -23,7 +23,7 @@ public class ContaDTO {
         return numero;
     }
 
-    public BigDecimal getSaldo() {
+    public Dinheiro getSaldo() {
         return saldo;
     }
 
@@ -38,7 +38,7 @@ public class ContaDTO {
         this.numero = numero;
     }
 
-    public void setSaldo(BigDecimal saldo) {
+    public void setSaldo(Dinheiro saldo) {
         this.saldo = saldo;
     }
 
@@ -0,0 +1,63 @@
+package com.org.fundatec.sistemabancario.dto;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+
+public class ContaResumoDTO {
+
+    private Integer numero;
+    private Dinheiro saldo;
+    private String nomeCliente;
+    private Integer numeroAgencia;
+    private Integer codigoBanco;
+
+    public ContaResumoDTO() {
+    }
+
+    public ContaResumoDTO(Integer numero, Dinheiro saldo, String nomeCliente, Integer numeroAgencia, Integer codigoBanco) {
+        this.numero = numero;
+        this.saldo = saldo;
+        this.nomeCliente = nomeCliente;
+        this.numeroAgencia = numeroAgencia;
+        this.codigoBanco = codigoBanco;
+    }
+
+    public Integer getNumero() {
+        return numero;
+    }
+
+    public void setNumero(Integer numero) {
+        this.numero = numero;
+    }
+
+    public Dinheiro getSaldo() {
+        return saldo;
+    }
+
+    public void setSaldo(Dinheiro saldo) {
+        this.saldo = saldo;
+    }
+
+    public String getNomeCliente() {
+        return nomeCliente;
+    }
+
+    public void setNomeCliente(String nomeCliente) {
+        this.nomeCliente = nomeCliente;
+    }
+
+    public Integer getNumeroAgencia() {
+        return numeroAgencia;
+    }
+
+    public void setNumeroAgencia(Integer numeroAgencia) {
+        this.numeroAgencia = numeroAgencia;
+    }
+
+    public Integer getCodigoBanco() {
+        return codigoBanco;
+    }
+
+    public void setCodigoBanco(Integer codigoBanco) {
+        this.codigoBanco = codigoBanco;
+    }
+}
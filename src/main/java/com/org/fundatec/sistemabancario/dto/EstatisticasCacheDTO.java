@@ -0,0 +1,71 @@
+package com.org.fundatec.sistemabancario.dto;
+
+public class EstatisticasCacheDTO {
+
+    private String nome;
+    private long tamanho;
+    private long acertos;
+    private long faltas;
+    private double taxaAcerto;
+    private long despejos;
+
+    public EstatisticasCacheDTO() {
+    }
+
+    public EstatisticasCacheDTO(String nome, long tamanho, long acertos, long faltas, double taxaAcerto, long despejos) {
+        this.nome = nome;
+        this.tamanho = tamanho;
+        this.acertos = acertos;
+        this.faltas = faltas;
+        this.taxaAcerto = taxaAcerto;
+        this.despejos = despejos;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(long tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public long getAcertos() {
+        return acertos;
+    }
+
+    public void setAcertos(long acertos) {
+        this.acertos = acertos;
+    }
+
+    public long getFaltas() {
+        return faltas;
+    }
+
+    public void setFaltas(long faltas) {
+        this.faltas = faltas;
+    }
+
+    public double getTaxaAcerto() {
+        return taxaAcerto;
+    }
+
+    public void setTaxaAcerto(double taxaAcerto) {
+        this.taxaAcerto = taxaAcerto;
+    }
+
+    public long getDespejos() {
+        return despejos;
+    }
+
+    public void setDespejos(long despejos) {
+        this.despejos = despejos;
+    }
+}
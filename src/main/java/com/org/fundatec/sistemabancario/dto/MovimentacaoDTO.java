@@ -0,0 +1,55 @@
+package com.org.fundatec.sistemabancario.dto;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import java.time.LocalDateTime;
+
+public class MovimentacaoDTO {
+
+    private Long id;
+    private TipoMovimentacao tipo;
+    private Dinheiro valor;
+    private LocalDateTime dataHora;
+
+    public MovimentacaoDTO() {
+    }
+
+    public MovimentacaoDTO(Long id, TipoMovimentacao tipo, Dinheiro valor, LocalDateTime dataHora) {
+        this.id = id;
+        this.tipo = tipo;
+        this.valor = valor;
+        this.dataHora = dataHora;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TipoMovimentacao getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoMovimentacao tipo) {
+        this.tipo = tipo;
+    }
+
+    public Dinheiro getValor() {
+        return valor;
+    }
+
+    public void setValor(Dinheiro valor) {
+        this.valor = valor;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+}
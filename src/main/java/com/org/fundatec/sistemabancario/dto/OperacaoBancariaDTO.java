@@ -1,20 +1,20 @@
 package com.org.fundatec.sistemabancario.dto;
 
+import com.org.fundatec.sistemabancario.model.Dinheiro;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
-import java.math.BigDecimal;
 
 public class OperacaoBancariaDTO {
 
     @NotNull(message = "Valor é obrigatório")
     @Positive(message = "Valor deve ser positivo")
-    private BigDecimal valor;
+    private Dinheiro valor;
 
     @NotNull(message = "Número da conta é obrigatório")
     private Integer numeroConta;
 
 
-    public BigDecimal getValor() {
+    public Dinheiro getValor() {
         return valor;
     }
 
@@ -22,7 +22,7 @@ public class OperacaoBancariaDTO {
         return numeroConta;
     }
 
-    public void setValor(BigDecimal valor) {
+    public void setValor(Dinheiro valor) {
         this.valor = valor;
     }
 
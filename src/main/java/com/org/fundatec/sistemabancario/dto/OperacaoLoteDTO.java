@@ -0,0 +1,19 @@
+package com.org.fundatec.sistemabancario.dto;
+
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import jakarta.validation.constraints.NotNull;
+
+public class OperacaoLoteDTO extends OperacaoBancariaDTO {
+
+    @NotNull(message = "Tipo da operação é obrigatório")
+    private TipoMovimentacao tipo;
+
+
+    public TipoMovimentacao getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoMovimentacao tipo) {
+        this.tipo = tipo;
+    }
+}
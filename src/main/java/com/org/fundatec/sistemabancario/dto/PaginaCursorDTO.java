@@ -0,0 +1,33 @@
+package com.org.fundatec.sistemabancario.dto;
+
+import java.util.List;
+
+public class PaginaCursorDTO<T> {
+
+    private List<T> itens;
+    private Long proximo;
+
+    public PaginaCursorDTO() {
+    }
+
+    public PaginaCursorDTO(List<T> itens, Long proximo) {
+        this.itens = itens;
+        this.proximo = proximo;
+    }
+
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<T> itens) {
+        this.itens = itens;
+    }
+
+    public Long getProximo() {
+        return proximo;
+    }
+
+    public void setProximo(Long proximo) {
+        this.proximo = proximo;
+    }
+}
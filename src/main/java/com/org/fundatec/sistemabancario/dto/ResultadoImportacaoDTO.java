@@ -0,0 +1,47 @@
+package com.org.fundatec.sistemabancario.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultadoImportacaoDTO {
+
+    private long importados;
+    private List<String> erros = new ArrayList<>();
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public void setImportados(long importados) {
+        this.importados = importados;
+    }
+
+    public List<String> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<String> erros) {
+        this.erros = erros;
+    }
+
+    public void adicionarImportados(int quantidade) {
+        this.importados += quantidade;
+    }
+
+    public void rejeitar(int indice, String mensagem) {
+        this.erros.add("Item " + indice + ": " + mensagem);
+    }
+
+    public void rejeitarMalFormado(int indice) {
+        rejeitar(indice, "Item mal formado; importação interrompida");
+    }
+
+    public void rejeitarLote(List<Integer> indices) {
+        indices.forEach(indice -> rejeitar(indice, "Falha ao gravar o lote; item não importado"));
+    }
+
+    public void incorporar(ResultadoImportacaoDTO parcial) {
+        this.importados += parcial.importados;
+        this.erros.addAll(parcial.erros);
+    }
+}
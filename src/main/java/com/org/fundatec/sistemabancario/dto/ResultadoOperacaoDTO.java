@@ -0,0 +1,59 @@
+package com.org.fundatec.sistemabancario.dto;
+
+public class ResultadoOperacaoDTO {
+
+    public enum Status {
+        SUCESSO,
+        SALDO_INSUFICIENTE,
+        CONTA_NAO_ENCONTRADA,
+        INVALIDA,
+        FALHA
+    }
+
+    private Integer indice;
+    private Integer numeroConta;
+    private Status status;
+    private String mensagem;
+
+    public ResultadoOperacaoDTO() {
+    }
+
+    public ResultadoOperacaoDTO(Integer indice, Integer numeroConta, Status status, String mensagem) {
+        this.indice = indice;
+        this.numeroConta = numeroConta;
+        this.status = status;
+        this.mensagem = mensagem;
+    }
+
+    public Integer getIndice() {
+        return indice;
+    }
+
+    public void setIndice(Integer indice) {
+        this.indice = indice;
+    }
+
+    public Integer getNumeroConta() {
+        return numeroConta;
+    }
+
+    public void setNumeroConta(Integer numeroConta) {
+        this.numeroConta = numeroConta;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
@@ -0,0 +1,33 @@
+package com.org.fundatec.sistemabancario.dto;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+
+public class SaldoDTO {
+
+    private Integer numero;
+    private Dinheiro saldo;
+
+    public SaldoDTO() {
+    }
+
+    public SaldoDTO(Integer numero, Dinheiro saldo) {
+        this.numero = numero;
+        this.saldo = saldo;
+    }
+
+    public Integer getNumero() {
+        return numero;
+    }
+
+    public void setNumero(Integer numero) {
+        this.numero = numero;
+    }
+
+    public Dinheiro getSaldo() {
+        return saldo;
+    }
+
+    public void setSaldo(Dinheiro saldo) {
+        this.saldo = saldo;
+    }
+}
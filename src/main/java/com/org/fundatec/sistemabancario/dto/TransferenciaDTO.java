@@ -0,0 +1,43 @@
+package com.org.fundatec.sistemabancario.dto;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class TransferenciaDTO {
+
+    @NotNull(message = "Número da conta de origem é obrigatório")
+    private Integer numeroContaOrigem;
+
+    @NotNull(message = "Número da conta de destino é obrigatório")
+    private Integer numeroContaDestino;
+
+    @NotNull(message = "Valor é obrigatório")
+    @Positive(message = "Valor deve ser positivo")
+    private Dinheiro valor;
+
+
+    public Integer getNumeroContaOrigem() {
+        return numeroContaOrigem;
+    }
+
+    public Integer getNumeroContaDestino() {
+        return numeroContaDestino;
+    }
+
+    public Dinheiro getValor() {
+        return valor;
+    }
+
+    public void setNumeroContaOrigem(Integer numeroContaOrigem) {
+        this.numeroContaOrigem = numeroContaOrigem;
+    }
+
+    public void setNumeroContaDestino(Integer numeroContaDestino) {
+        this.numeroContaDestino = numeroContaDestino;
+    }
+
+    public void setValor(Dinheiro valor) {
+        this.valor = valor;
+    }
+}
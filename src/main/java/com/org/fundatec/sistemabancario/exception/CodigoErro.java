@@ -0,0 +1,48 @@
+package com.org.fundatec.sistemabancario.exception;
+
+// Códigos das rejeições de domínio. A descrição é a parte fixa da mensagem; os genéricos não têm
+// descrição e servem às exceções criadas com mensagem livre.
+public enum CodigoErro {
+    ENTIDADE_NAO_ENCONTRADA(404, null),
+    CONTA_NAO_ENCONTRADA(404, "Conta não encontrada"),
+    AGENCIA_NAO_ENCONTRADA(404, "Agência não encontrada"),
+    BANCO_NAO_ENCONTRADO(404, "Banco não encontrado"),
+    CLIENTE_NAO_ENCONTRADO(404, "Cliente não encontrado"),
+    CACHE_NAO_ENCONTRADO(404, "Cache não encontrado"),
+    OPERACAO_INVALIDA(400, null),
+    DADOS_INVALIDOS(400, null),
+    SALDO_INSUFICIENTE(400, "Saldo insuficiente para saque"),
+    CONTAS_IGUAIS(400, "Conta de origem e destino devem ser diferentes"),
+    VALOR_EXCEDE_LIMITE(400, "Valor excede o limite suportado"),
+    VALOR_CASAS_DECIMAIS(400, "Valor deve ter no máximo duas casas decimais"),
+    VALOR_INVALIDO(400, "Valor monetário inválido"),
+    CURSOR_INVALIDO(400, "Cursor inválido"),
+    CONFLITO(409, null),
+    CONTA_JA_CADASTRADA(409, "Conta já cadastrada"),
+    CLIENTE_JA_CADASTRADO(409, "Cliente já cadastrado"),
+    AGENCIA_JA_CADASTRADA(409, "Agência já cadastrada"),
+    BANCO_JA_CADASTRADO(409, "Banco já cadastrado"),
+    LIMITE_CLIENTE(429, "Limite de requisições excedido para o cliente"),
+    LIMITE_CONTA(429, "Limite de requisições excedido para a conta"),
+    SERVIDOR_SOBRECARREGADO(429, "Servidor sobrecarregado, tente novamente"),
+    SERVICO_ENCERRANDO(503, "Serviço em encerramento, tente novamente"),
+    RAZAO_INDISPONIVEL(503, "Saldos indisponíveis após falha no log de operações"),
+    IDEMPOTENCIA_ESGOTADA(503, "Limite de chaves de idempotência atingido, tente novamente"),
+    TEMPO_ESGOTADO(503, "Tempo de processamento esgotado, tente novamente");
+
+    private final int status;
+    private final String descricao;
+
+    CodigoErro(int status, String descricao) {
+        this.status = status;
+        this.descricao = descricao;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
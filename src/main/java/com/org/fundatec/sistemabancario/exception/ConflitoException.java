@@ -0,0 +1,11 @@
+package com.org.fundatec.sistemabancario.exception;
+
+public class ConflitoException extends ExcecaoDominio {
+    public ConflitoException(String message) {
+        super(CodigoErro.CONFLITO, message);
+    }
+
+    public ConflitoException(CodigoErro codigo, String campo, Object valor) {
+        super(codigo, campo, valor);
+    }
+}
@@ -1,7 +1,15 @@
 package com.org.fundatec.sistemabancario.exception;
 
-public class EntidadeNaoEncontradaException extends RuntimeException {
+public class EntidadeNaoEncontradaException extends ExcecaoDominio {
     public EntidadeNaoEncontradaException(String message) {
-        super(message);
+        super(CodigoErro.ENTIDADE_NAO_ENCONTRADA, message);
     }
-}
\ No newline at end of file
+
+    public EntidadeNaoEncontradaException(CodigoErro codigo, Object valor) {
+        super(codigo, null, valor);
+    }
+
+    public EntidadeNaoEncontradaException(CodigoErro codigo, String campo, Object valor) {
+        super(codigo, campo, valor);
+    }
+}
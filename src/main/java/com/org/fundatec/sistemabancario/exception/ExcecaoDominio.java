@@ -0,0 +1,61 @@
+package com.org.fundatec.sistemabancario.exception;
+
+// Base das rejeições esperadas (não encontrado, saldo insuficiente, duplicata). São fluxo de controle,
+// não falhas: não preenchem pilha nem admitem supressão, e a mensagem só é montada se alguém a ler.
+public abstract class ExcecaoDominio extends RuntimeException {
+
+    private static final Object SEM_VALOR = new Object();
+
+    private final CodigoErro codigo;
+    private final String campo;
+    private final Object valor;
+    private final String mensagemLivre;
+    private String mensagem;
+
+    protected ExcecaoDominio(CodigoErro codigo) {
+        this(codigo, null, SEM_VALOR, null);
+    }
+
+    protected ExcecaoDominio(CodigoErro codigo, String mensagemLivre) {
+        this(codigo, null, SEM_VALOR, mensagemLivre);
+    }
+
+    protected ExcecaoDominio(CodigoErro codigo, String campo, Object valor) {
+        this(codigo, campo, valor, null);
+    }
+
+    private ExcecaoDominio(CodigoErro codigo, String campo, Object valor, String mensagemLivre) {
+        super(null, null, false, false);
+        this.codigo = codigo;
+        this.campo = campo;
+        this.valor = valor;
+        this.mensagemLivre = mensagemLivre;
+    }
+
+    public CodigoErro getCodigo() {
+        return codigo;
+    }
+
+    // Mensagem escrita por quem lançou; quando presente substitui a descrição do código.
+    public String getMensagemLivre() {
+        return mensagemLivre;
+    }
+
+    // Parte variável da mensagem, depois da descrição do código; null quando a mensagem é só a descrição.
+    public String getDetalhe() {
+        if (valor == SEM_VALOR) {
+            return campo == null ? null : " com " + campo;
+        }
+        return campo == null ? ": " + valor : " com " + campo + ": " + valor;
+    }
+
+    @Override
+    public String getMessage() {
+        if (mensagem == null) {
+            String descricao = codigo.getDescricao() == null ? "" : codigo.getDescricao();
+            String detalhe = getDetalhe();
+            mensagem = mensagemLivre != null ? mensagemLivre : detalhe == null ? descricao : descricao + detalhe;
+        }
+        return mensagem;
+    }
+}
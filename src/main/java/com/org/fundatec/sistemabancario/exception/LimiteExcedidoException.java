@@ -0,0 +1,11 @@
+package com.org.fundatec.sistemabancario.exception;
+
+public class LimiteExcedidoException extends ExcecaoDominio {
+    public LimiteExcedidoException(CodigoErro codigo) {
+        super(codigo);
+    }
+
+    public LimiteExcedidoException(CodigoErro codigo, Object valor) {
+        super(codigo, null, valor);
+    }
+}
@@ -1,7 +1,15 @@
 package com.org.fundatec.sistemabancario.exception;
 
-public class OperacaoInvalidaException extends RuntimeException {
+public class OperacaoInvalidaException extends ExcecaoDominio {
     public OperacaoInvalidaException(String message) {
-        super(message);
+        super(CodigoErro.OPERACAO_INVALIDA, message);
     }
-}
\ No newline at end of file
+
+    public OperacaoInvalidaException(CodigoErro codigo) {
+        super(codigo);
+    }
+
+    public OperacaoInvalidaException(CodigoErro codigo, Object valor) {
+        super(codigo, null, valor);
+    }
+}
@@ -0,0 +1,11 @@
+package com.org.fundatec.sistemabancario.exception;
+
+public class SaldoInsuficienteException extends OperacaoInvalidaException {
+    public SaldoInsuficienteException() {
+        super(CodigoErro.SALDO_INSUFICIENTE);
+    }
+
+    public SaldoInsuficienteException(String message) {
+        super(message);
+    }
+}
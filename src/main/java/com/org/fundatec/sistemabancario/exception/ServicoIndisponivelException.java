@@ -0,0 +1,7 @@
+package com.org.fundatec.sistemabancario.exception;
+
+public class ServicoIndisponivelException extends ExcecaoDominio {
+    public ServicoIndisponivelException(CodigoErro codigo) {
+        super(codigo);
+    }
+}
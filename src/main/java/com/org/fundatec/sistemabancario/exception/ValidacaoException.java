@@ -1,8 +1,8 @@
 package com.org.fundatec.sistemabancario.exception;
 
-public class ValidacaoException extends RuntimeException {
+public class ValidacaoException extends ExcecaoDominio {
     public ValidacaoException(String message){
-        super(message);
+        super(CodigoErro.DADOS_INVALIDOS, message);
     }
 
 }
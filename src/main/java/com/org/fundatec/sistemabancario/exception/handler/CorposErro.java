@@ -0,0 +1,64 @@
+package com.org.fundatec.sistemabancario.exception.handler;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.ExcecaoDominio;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Corpos JSON das rejeições de domínio, no mesmo formato de ErroResponse. O trecho fixo de cada código
+// é serializado uma vez; por resposta só o detalhe (número da conta, CPF...) é escapado e concatenado.
+// Mensagens sem detalhe reutilizam o corpo inteiro, que não deve ser alterado por quem o recebe.
+public final class CorposErro {
+
+    private static final byte[] FIM = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final JsonStringEncoder CODIFICADOR = JsonStringEncoder.getInstance();
+
+    private static final Map<CodigoErro, byte[]> CABECALHOS = new EnumMap<>(CodigoErro.class);
+    private static final Map<CodigoErro, byte[]> PREFIXOS = new EnumMap<>(CodigoErro.class);
+    private static final Map<CodigoErro, byte[]> COMPLETOS = new EnumMap<>(CodigoErro.class);
+
+    static {
+        for (CodigoErro codigo : CodigoErro.values()) {
+            String cabecalho = "{\"codigo\":" + codigo.getStatus() + ",\"erro\":\"" + codigo.name() + "\",\"mensagem\":\"";
+            String descricao = codigo.getDescricao() == null ? "" : codigo.getDescricao();
+            byte[] bytesCabecalho = cabecalho.getBytes(StandardCharsets.UTF_8);
+            byte[] prefixo = concatenar(bytesCabecalho, CODIFICADOR.quoteAsUTF8(descricao));
+            CABECALHOS.put(codigo, bytesCabecalho);
+            PREFIXOS.put(codigo, prefixo);
+            COMPLETOS.put(codigo, concatenar(prefixo, FIM));
+        }
+    }
+
+    private CorposErro() {
+    }
+
+    public static byte[] renderizar(ExcecaoDominio ex) {
+        CodigoErro codigo = ex.getCodigo();
+        if (ex.getMensagemLivre() != null) {
+            return concatenar(CABECALHOS.get(codigo), CODIFICADOR.quoteAsUTF8(ex.getMensagemLivre()), FIM);
+        }
+        String detalhe = ex.getDetalhe();
+        if (detalhe == null) {
+            return COMPLETOS.get(codigo);
+        }
+        return concatenar(PREFIXOS.get(codigo), CODIFICADOR.quoteAsUTF8(detalhe), FIM);
+    }
+
+    private static byte[] concatenar(byte[]... partes) {
+        int tamanho = 0;
+        for (byte[] parte : partes) {
+            tamanho += parte.length;
+        }
+        byte[] resultado = new byte[tamanho];
+        int posicao = 0;
+        for (byte[] parte : partes) {
+            System.arraycopy(parte, 0, resultado, posicao, parte.length);
+            posicao += parte.length;
+        }
+        return resultado;
+    }
+}
@@ -1,8 +1,12 @@
 package com.org.fundatec.sistemabancario.exception.handler;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class ErroResponse {
 
     private Integer codigo;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String erro;
     private String mensagem;
 
     public ErroResponse() {
@@ -13,6 +17,12 @@ public class ErroResponse {
         this.mensagem = mensagem;
     }
 
+    public ErroResponse(Integer codigo, String erro, String mensagem) {
+        this.codigo = codigo;
+        this.erro = erro;
+        this.mensagem = mensagem;
+    }
+
     public Integer getCodigo() {
         return codigo;
     }
@@ -21,6 +31,14 @@ public class ErroResponse {
         this.codigo = codigo;
     }
 
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+
     public String getMensagem() {
         return mensagem;
     }
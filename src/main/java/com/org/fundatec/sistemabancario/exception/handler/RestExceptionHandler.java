@@ -1,37 +1,81 @@
 package com.org.fundatec.sistemabancario.exception.handler;
 
-import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
-import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
-import com.org.fundatec.sistemabancario.exception.ValidacaoException;
+import com.org.fundatec.sistemabancario.exception.ExcecaoDominio;
+import com.org.fundatec.sistemabancario.exception.LimiteExcedidoException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.sql.SQLException;
+
 @ControllerAdvice
 public class RestExceptionHandler {
 
+    private static final String ESTADO_SQL_CHAVE_DUPLICADA = "23505";
+
+
+    // Não encontrado, operação inválida e conflito: o status vem do código do erro e o corpo sai dos
+    // modelos pré-serializados de CorposErro, sem montar ErroResponse nem passar pelo ObjectMapper.
+    @ExceptionHandler(ExcecaoDominio.class)
+    public ResponseEntity<byte[]> trataExcecaoDominio(ExcecaoDominio ex) {
+        return ResponseEntity.status(ex.getCodigo().getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(CorposErro.renderizar(ex));
+    }
+
 
-    @ExceptionHandler(EntidadeNaoEncontradaException.class)
-    @ResponseStatus(HttpStatus.NOT_FOUND)
-    public ResponseEntity<ErroResponse> trataEntidadeNaoEncontrada(EntidadeNaoEncontradaException ex) {
+    // Duplicatas que passaram pelo UnicidadeService (inclusões concorrentes da mesma chave) chegam aqui
+    // como violação de restrição única; as demais violações de integridade seguem como erro interno.
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErroResponse> trataViolacaoIntegridade(DataIntegrityViolationException ex) {
+        if (!chaveDuplicada(ex)) {
+            return trataErroGenerico(ex);
+        }
         ErroResponse errorResponse = new ErroResponse(
-                HttpStatus.NOT_FOUND.value(),
-                ex.getMessage()
+                HttpStatus.CONFLICT.value(),
+                "Registro já cadastrado com a mesma chave"
         );
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    private static boolean chaveDuplicada(DataIntegrityViolationException ex) {
+        if (ex instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable causa = ex.getCause(); causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql && ESTADO_SQL_CHAVE_DUPLICADA.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-    @ExceptionHandler({OperacaoInvalidaException.class, ValidacaoException.class})
+
+    @ExceptionHandler(LimiteExcedidoException.class)
+    public ResponseEntity<byte[]> trataLimiteExcedido(LimiteExcedidoException ex) {
+        return ResponseEntity.status(ex.getCodigo().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(CorposErro.renderizar(ex));
+    }
+
+
+    @ExceptionHandler(PropertyReferenceException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<ErroResponse> trataOperacaoInvalida(RuntimeException ex) {
+    public ResponseEntity<ErroResponse> trataOrdenacaoInvalida(PropertyReferenceException ex) {
         ErroResponse errorResponse = new ErroResponse(
                 HttpStatus.BAD_REQUEST.value(),
-                ex.getMessage()
+                "Campo de ordenação inválido: " + ex.getPropertyName()
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
@@ -57,6 +101,17 @@ public class RestExceptionHandler {
     }
 
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErroResponse> trataCorpoInvalido(HttpMessageNotReadableException ex) {
+        ErroResponse errorResponse = new ErroResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Corpo da requisição inválido"
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<ErroResponse> trataErroGenerico(Exception ex) {
@@ -0,0 +1,73 @@
+package com.org.fundatec.sistemabancario.metricas;
+
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasContaAspect {
+
+    public static final String TEMPO_OPERACAO = "banco.conta.operacao";
+    public static final String VALOR_MOVIMENTADO = "banco.conta.valor.movimentado";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Around("execution(public * com.org.fundatec.sistemabancario.service.ContaService.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operacao = joinPoint.getSignature().getName();
+        Timer.Sample amostra = Timer.start(registry);
+        String resultado = "sucesso";
+        try {
+            Object retorno = joinPoint.proceed();
+            contabilizarValor(operacao, joinPoint.getArgs());
+            return retorno;
+        } catch (Throwable ex) {
+            resultado = resultado(ex);
+            throw ex;
+        } finally {
+            amostra.stop(Timer.builder(TEMPO_OPERACAO)
+                    .description("Tempo das operações de conta")
+                    .tag("operacao", operacao)
+                    .tag("resultado", resultado)
+                    .register(registry));
+        }
+    }
+
+    private void contabilizarValor(String operacao, Object[] argumentos) {
+        if (argumentos.length > 0 && argumentos[argumentos.length - 1] instanceof Dinheiro valor) {
+            Counter.builder(VALOR_MOVIMENTADO)
+                    .description("Valor movimentado pelas operações de conta concluídas")
+                    .baseUnit("reais")
+                    .tag("operacao", operacao)
+                    .register(registry)
+                    .increment(valor.getCentavos() / 100.0);
+        }
+    }
+
+    private String resultado(Throwable ex) {
+        if (ex instanceof SaldoInsuficienteException) {
+            return "saldo_insuficiente";
+        }
+        if (ex instanceof EntidadeNaoEncontradaException) {
+            return "nao_encontrada";
+        }
+        if (ex instanceof OperacaoInvalidaException) {
+            return "invalida";
+        }
+        return "erro";
+    }
+}
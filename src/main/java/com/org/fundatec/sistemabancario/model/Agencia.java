@@ -1,19 +1,35 @@
 package com.org.fundatec.sistemabancario.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.util.Objects;
 
 @Entity
 @Table(name = "AGENCIA")
+@NamedEntityGraph(name = Agencia.GRAFO_COM_BANCO, attributeNodes = @NamedAttributeNode("banco"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = Agencia.REGIAO_CACHE)
+@NaturalIdCache(region = Agencia.REGIAO_CACHE_NUMERO)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Agencia {
 
+    public static final String GRAFO_COM_BANCO = "Agencia.comBanco";
+    public static final String REGIAO_CACHE = "agencia";
+    public static final String REGIAO_CACHE_NUMERO = "agencia-numero";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "AGENCIA_SEQ")
+    @SequenceGenerator(name = "AGENCIA_SEQ", sequenceName = "AGENCIA_SEQ", allocationSize = 50)
     @Column(name = "ID")
     private Long id;
 
+    @NaturalId(mutable = true)
     @NotNull(message = "Número é obrigatório")
     @Column(name = "NUMERO", unique = true)
     private Integer numero;
@@ -23,7 +39,7 @@ public class Agencia {
     private String nome;
 
     @NotNull(message = "Banco é obrigatório")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "BANCO_ID")
     private Banco banco;
 
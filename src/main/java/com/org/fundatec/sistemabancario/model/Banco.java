@@ -1,20 +1,35 @@
 package com.org.fundatec.sistemabancario.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import com.org.fundatec.sistemabancario.validacao.Cnpj;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.util.Objects;
 
 @Entity
-@Table(name = "BANCO")
+@Table(name = "BANCO", indexes = @Index(name = "IDX_BANCO_NOME_NORMALIZADO", columnList = "NOME_NORMALIZADO, ID"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = Banco.REGIAO_CACHE)
+@NaturalIdCache(region = Banco.REGIAO_CACHE_CODIGO)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Banco {
 
+    public static final String REGIAO_CACHE = "banco";
+    public static final String REGIAO_CACHE_CODIGO = "banco-codigo";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "BANCO_SEQ")
+    @SequenceGenerator(name = "BANCO_SEQ", sequenceName = "BANCO_SEQ", allocationSize = 50)
     @Column(name = "ID")
     private Long id;
 
+    @NaturalId(mutable = true)
     @NotNull(message = "Código é obrigatório")
     @Column(name = "CODIGO", unique = true)
     private Integer codigo;
@@ -23,7 +38,11 @@ public class Banco {
     @Column(name = "NOME")
     private String nome;
 
-    @CNPJ(message = "CNPJ inválido")
+    @JsonIgnore
+    @Column(name = "NOME_NORMALIZADO")
+    private String nomeNormalizado;
+
+    @Cnpj
     @NotBlank(message = "CNPJ é obrigatório")
     @Column(name = "CNPJ")
     private String cnpj;
@@ -33,8 +52,8 @@ public class Banco {
 
     public Banco(Integer codigo, String nome, String cnpj) {
         this.codigo = codigo;
-        this.nome = nome;
-        this.cnpj = cnpj;
+        setNome(nome);
+        setCnpj(cnpj);
     }
 
     public Long getId() {
@@ -59,6 +78,11 @@ public class Banco {
 
     public void setNome(String nome) {
         this.nome = nome;
+        this.nomeNormalizado = NormalizadorNome.normalizar(nome);
+    }
+
+    public String getNomeNormalizado() {
+        return nomeNormalizado;
     }
 
     public String getCnpj() {
@@ -66,7 +90,7 @@ public class Banco {
     }
 
     public void setCnpj(String cnpj) {
-        this.cnpj = cnpj;
+        this.cnpj = NormalizadorDocumento.normalizar(cnpj);
     }
 
     @Override
@@ -1,20 +1,35 @@
 package com.org.fundatec.sistemabancario.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import com.org.fundatec.sistemabancario.validacao.Cpf;
 import jakarta.validation.constraints.NotBlank;
-import org.hibernate.validator.constraints.br.CPF;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.util.Objects;
 
 @Entity
-@Table(name = "CLIENTE")
+@Table(name = "CLIENTE", indexes = @Index(name = "IDX_CLIENTE_NOME_NORMALIZADO", columnList = "NOME_NORMALIZADO, ID"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Cliente.REGIAO_CACHE)
+@NaturalIdCache(region = Cliente.REGIAO_CACHE_CPF)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Cliente {
 
+    public static final String REGIAO_CACHE = "cliente";
+    public static final String REGIAO_CACHE_CPF = "cliente-cpf";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CLIENTE_SEQ")
+    @SequenceGenerator(name = "CLIENTE_SEQ", sequenceName = "CLIENTE_SEQ", allocationSize = 50)
     @Column(name = "ID")
     private Long id;
 
-    @CPF(message = "CPF inválido")
+    @NaturalId(mutable = true)
+    @Cpf
     @NotBlank(message = "CPF é obrigatório")
     @Column(name = "CPF", unique = true)
     private String cpf;
@@ -23,12 +38,16 @@ public class Cliente {
     @Column(name = "NOME")
     private String nome;
 
+    @JsonIgnore
+    @Column(name = "NOME_NORMALIZADO")
+    private String nomeNormalizado;
+
     public Cliente() {
     }
 
     public Cliente(String cpf, String nome) {
-        this.cpf = cpf;
-        this.nome = nome;
+        setCpf(cpf);
+        setNome(nome);
     }
 
     public Long getId() {
@@ -44,7 +63,7 @@ public class Cliente {
     }
 
     public void setCpf(String cpf) {
-        this.cpf = cpf;
+        this.cpf = NormalizadorDocumento.normalizar(cpf);
     }
 
     public String getNome() {
@@ -53,6 +72,11 @@ public class Cliente {
 
     public void setNome(String nome) {
         this.nome = nome;
+        this.nomeNormalizado = NormalizadorNome.normalizar(nome);
+    }
+
+    public String getNomeNormalizado() {
+        return nomeNormalizado;
     }
 
     @Override
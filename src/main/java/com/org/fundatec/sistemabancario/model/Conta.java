@@ -3,15 +3,27 @@ package com.org.fundatec.sistemabancario.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
-import java.math.BigDecimal;
 import java.util.Objects;
 
+// Fora do cache de segundo nível: o saldo muda a cada movimentação por UPDATE em massa, que despejaria
+// a região inteira, e nenhuma leitura de saldo pode vir de uma cópia antiga.
 @Entity
 @Table(name = "CONTA")
+@NamedEntityGraph(name = Conta.GRAFO_OPERACAO)
+@NamedEntityGraph(name = Conta.GRAFO_DETALHE,
+        attributeNodes = {
+                @NamedAttributeNode("cliente"),
+                @NamedAttributeNode(value = "agencia", subgraph = "agencia")
+        },
+        subgraphs = @NamedSubgraph(name = "agencia", attributeNodes = @NamedAttributeNode("banco")))
 public class Conta {
 
+    public static final String GRAFO_OPERACAO = "Conta.operacao";
+    public static final String GRAFO_DETALHE = "Conta.detalhe";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CONTA_SEQ")
+    @SequenceGenerator(name = "CONTA_SEQ", sequenceName = "CONTA_SEQ", allocationSize = 50)
     @Column(name = "ID")
     private Long id;
 
@@ -21,15 +33,15 @@ public class Conta {
 
     @PositiveOrZero(message = "Saldo não pode ser negativo")
     @Column(name = "SALDO")
-    private BigDecimal saldo = BigDecimal.ZERO;
+    private Dinheiro saldo = Dinheiro.ZERO;
 
     @NotNull(message = "Cliente é obrigatório")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CLIENTE_ID")
     private Cliente cliente;
 
     @NotNull(message = "Agência é obrigatória")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "AGENCIA_ID")
     private Agencia agencia;
 
@@ -58,11 +70,11 @@ public class Conta {
         this.numero = numero;
     }
 
-    public BigDecimal getSaldo() {
+    public Dinheiro getSaldo() {
         return saldo;
     }
 
-    public void setSaldo(BigDecimal saldo) {
+    public void setSaldo(Dinheiro saldo) {
         this.saldo = saldo;
     }
 
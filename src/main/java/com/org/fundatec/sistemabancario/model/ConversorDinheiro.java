@@ -0,0 +1,21 @@
+package com.org.fundatec.sistemabancario.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+// As colunas continuam DECIMAL; a conversão só acontece na fronteira com o JDBC.
+@Converter(autoApply = true)
+public class ConversorDinheiro implements AttributeConverter<Dinheiro, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Dinheiro valor) {
+        return valor == null ? null : valor.paraBigDecimal();
+    }
+
+    @Override
+    public Dinheiro convertToEntityAttribute(BigDecimal valor) {
+        return valor == null ? null : Dinheiro.de(valor);
+    }
+}
@@ -0,0 +1,189 @@
+package com.org.fundatec.sistemabancario.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+// Valor monetário em centavos. Soma e subtração verificam estouro; nenhuma operação aloca BigDecimal.
+@JsonSerialize(using = Dinheiro.Serializador.class)
+@JsonDeserialize(using = Dinheiro.Desserializador.class)
+public final class Dinheiro implements Comparable<Dinheiro> {
+
+    public static final Dinheiro ZERO = new Dinheiro(0);
+
+    private final long centavos;
+
+    private Dinheiro(long centavos) {
+        this.centavos = centavos;
+    }
+
+    public static Dinheiro deCentavos(long centavos) {
+        return centavos == 0 ? ZERO : new Dinheiro(centavos);
+    }
+
+    public static Dinheiro deReais(long reais) {
+        try {
+            return deCentavos(Math.multiplyExact(reais, 100));
+        } catch (ArithmeticException e) {
+            throw new OperacaoInvalidaException(CodigoErro.VALOR_EXCEDE_LIMITE);
+        }
+    }
+
+    public static Dinheiro de(BigDecimal valor) {
+        try {
+            return deCentavos(valor.movePointRight(2).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new OperacaoInvalidaException(CodigoErro.VALOR_CASAS_DECIMAIS);
+        }
+    }
+
+    public static Dinheiro de(String valor) {
+        int tamanho = valor.length();
+        int i = tamanho > 0 && (valor.charAt(0) == '-' || valor.charAt(0) == '+') ? 1 : 0;
+        int inicioDigitos = i;
+        long inteiro = 0;
+        for (; i < tamanho && Character.isDigit(valor.charAt(i)); i++) {
+            inteiro = inteiro * 10 + (valor.charAt(i) - '0');
+            if (inteiro > Long.MAX_VALUE / 100) {
+                throw new OperacaoInvalidaException(CodigoErro.VALOR_EXCEDE_LIMITE);
+            }
+        }
+        boolean vazio = i == inicioDigitos;
+        int casas = 0;
+        long fracao = 0;
+        if (i < tamanho && valor.charAt(i) == '.') {
+            for (i++; i < tamanho && Character.isDigit(valor.charAt(i)); i++, casas++) {
+                int digito = valor.charAt(i) - '0';
+                if (casas >= 2 && digito != 0) {
+                    throw new OperacaoInvalidaException(CodigoErro.VALOR_CASAS_DECIMAIS);
+                }
+                if (casas < 2) {
+                    fracao = fracao * 10 + digito;
+                }
+            }
+            vazio &= casas == 0;
+        }
+        if (vazio || i < tamanho) {
+            // Notação científica e outros formatos raros seguem pelo caminho genérico.
+            try {
+                return de(new BigDecimal(valor));
+            } catch (NumberFormatException e) {
+                throw new OperacaoInvalidaException(CodigoErro.VALOR_INVALIDO, valor);
+            }
+        }
+        long total;
+        try {
+            total = Math.addExact(Math.multiplyExact(inteiro, 100), casas == 1 ? fracao * 10 : fracao);
+        } catch (ArithmeticException e) {
+            throw new OperacaoInvalidaException(CodigoErro.VALOR_EXCEDE_LIMITE);
+        }
+        return deCentavos(valor.charAt(0) == '-' ? -total : total);
+    }
+
+    public long getCentavos() {
+        return centavos;
+    }
+
+    public Dinheiro somar(Dinheiro outro) {
+        try {
+            return deCentavos(Math.addExact(centavos, outro.centavos));
+        } catch (ArithmeticException e) {
+            throw new OperacaoInvalidaException(CodigoErro.VALOR_EXCEDE_LIMITE);
+        }
+    }
+
+    public Dinheiro subtrair(Dinheiro outro) {
+        try {
+            return deCentavos(Math.subtractExact(centavos, outro.centavos));
+        } catch (ArithmeticException e) {
+            throw new OperacaoInvalidaException(CodigoErro.VALOR_EXCEDE_LIMITE);
+        }
+    }
+
+    public Dinheiro multiplicar(long fator) {
+        try {
+            return deCentavos(Math.multiplyExact(centavos, fator));
+        } catch (ArithmeticException e) {
+            throw new OperacaoInvalidaException(CodigoErro.VALOR_EXCEDE_LIMITE);
+        }
+    }
+
+    public int signum() {
+        return Long.signum(centavos);
+    }
+
+    public boolean menorQue(Dinheiro outro) {
+        return centavos < outro.centavos;
+    }
+
+    public BigDecimal paraBigDecimal() {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    @Override
+    public int compareTo(Dinheiro outro) {
+        return Long.compare(centavos, outro.centavos);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Dinheiro outro && centavos == outro.centavos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centavos);
+    }
+
+    @Override
+    public String toString() {
+        long absoluto = Math.abs(centavos);
+        long resto = absoluto % 100;
+        StringBuilder texto = new StringBuilder(24);
+        if (centavos < 0) {
+            texto.append('-');
+        }
+        texto.append(absoluto / 100).append('.');
+        if (resto < 10) {
+            texto.append('0');
+        }
+        return texto.append(resto).toString();
+    }
+
+    // Escrito como número JSON com duas casas, como o BigDecimal da coluna SALDO era serializado.
+    static final class Serializador extends JsonSerializer<Dinheiro> {
+
+        @Override
+        public void serialize(Dinheiro valor, JsonGenerator gerador, SerializerProvider provedor) throws IOException {
+            gerador.writeNumber(valor.toString());
+        }
+    }
+
+    static final class Desserializador extends JsonDeserializer<Dinheiro> {
+
+        @Override
+        public Dinheiro deserialize(JsonParser parser, DeserializationContext contexto) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                    && token != JsonToken.VALUE_STRING) {
+                return (Dinheiro) contexto.handleUnexpectedToken(Dinheiro.class, parser);
+            }
+            try {
+                return de(parser.getText().trim());
+            } catch (OperacaoInvalidaException e) {
+                return (Dinheiro) contexto.handleWeirdStringValue(Dinheiro.class, parser.getText(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.org.fundatec.sistemabancario.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Linha da outbox: gravada na mesma transação da alteração da conta e removida após a publicação.
+// CONTA_ID não é chave estrangeira para que o evento sobreviva à exclusão da conta.
+@Entity
+@Table(name = "EVENTO_CONTA")
+public class EventoConta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "EVENTO_CONTA_SEQ")
+    @SequenceGenerator(name = "EVENTO_CONTA_SEQ", sequenceName = "EVENTO_CONTA_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "CONTA_ID", nullable = false, updatable = false)
+    private Long contaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TIPO", nullable = false, updatable = false)
+    private TipoEventoConta tipo;
+
+    @Column(name = "VALOR", updatable = false)
+    private Dinheiro valor;
+
+    @Column(name = "DATA_HORA", nullable = false, updatable = false)
+    private LocalDateTime dataHora;
+
+    public EventoConta() {
+    }
+
+    public EventoConta(Long contaId, TipoEventoConta tipo, Dinheiro valor, LocalDateTime dataHora) {
+        this.contaId = contaId;
+        this.tipo = tipo;
+        this.valor = valor;
+        this.dataHora = dataHora;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getContaId() {
+        return contaId;
+    }
+
+    public TipoEventoConta getTipo() {
+        return tipo;
+    }
+
+    public Dinheiro getValor() {
+        return valor;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+}
@@ -0,0 +1,102 @@
+package com.org.fundatec.sistemabancario.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Razão append-only. CONTA_ID não é chave estrangeira para que o histórico sobreviva à exclusão da conta.
+@Entity
+@Table(name = "MOVIMENTACAO", indexes = {
+        @Index(name = "IDX_MOVIMENTACAO_CONTA_DATA_ID", columnList = "CONTA_ID, DATA_HORA, ID")
+})
+public class Movimentacao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "MOVIMENTACAO_SEQ")
+    @SequenceGenerator(name = "MOVIMENTACAO_SEQ", sequenceName = "MOVIMENTACAO_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
+
+    @NotNull(message = "Conta é obrigatória")
+    @Column(name = "CONTA_ID", nullable = false, updatable = false)
+    private Long contaId;
+
+    @NotNull(message = "Tipo é obrigatório")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TIPO", nullable = false, updatable = false)
+    private TipoMovimentacao tipo;
+
+    @NotNull(message = "Valor é obrigatório")
+    @Column(name = "VALOR", nullable = false, updatable = false)
+    private Dinheiro valor;
+
+    @NotNull(message = "Data e hora são obrigatórias")
+    @Column(name = "DATA_HORA", nullable = false, updatable = false)
+    private LocalDateTime dataHora;
+
+    public Movimentacao() {
+    }
+
+    public Movimentacao(Long contaId, TipoMovimentacao tipo, Dinheiro valor, LocalDateTime dataHora) {
+        this.contaId = contaId;
+        this.tipo = tipo;
+        this.valor = valor;
+        this.dataHora = dataHora;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getContaId() {
+        return contaId;
+    }
+
+    public void setContaId(Long contaId) {
+        this.contaId = contaId;
+    }
+
+    public TipoMovimentacao getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoMovimentacao tipo) {
+        this.tipo = tipo;
+    }
+
+    public Dinheiro getValor() {
+        return valor;
+    }
+
+    public void setValor(Dinheiro valor) {
+        this.valor = valor;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Movimentacao movimentacao = (Movimentacao) o;
+        return Objects.equals(id, movimentacao.id) &&
+                tipo == movimentacao.tipo &&
+                Objects.equals(valor, movimentacao.valor) &&
+                Objects.equals(dataHora, movimentacao.dataHora);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, tipo, valor, dataHora);
+    }
+}
@@ -0,0 +1,121 @@
+package com.org.fundatec.sistemabancario.model;
+
+// CPF e CNPJ são gravados só com dígitos. A validação percorre a entrada uma vez, aceitando a máscara
+// usual (pontos, traço e barra nas posições de costume) e conferindo os verificadores sem alocar.
+public final class NormalizadorDocumento {
+
+    public static final int TAMANHO_CPF = 11;
+    public static final int TAMANHO_CNPJ = 14;
+
+    private NormalizadorDocumento() {
+    }
+
+    public static boolean cpfValido(CharSequence cpf) {
+        return valido(cpf, TAMANHO_CPF);
+    }
+
+    public static boolean cnpjValido(CharSequence cnpj) {
+        return valido(cnpj, TAMANHO_CNPJ);
+    }
+
+    // Remove pontos, traços e barras. Entradas com outros caracteres voltam intactas para que a
+    // validação as rejeite; entradas já canônicas voltam sem cópia.
+    public static String normalizar(String documento) {
+        if (documento == null) {
+            return null;
+        }
+        int digitos = 0;
+        for (int i = 0; i < documento.length(); i++) {
+            char c = documento.charAt(i);
+            if (ehDigito(c)) {
+                digitos++;
+            } else if (c != '.' && c != '-' && c != '/') {
+                return documento;
+            }
+        }
+        if (digitos == documento.length()) {
+            return documento;
+        }
+        char[] canonico = new char[digitos];
+        for (int i = 0, j = 0; i < documento.length(); i++) {
+            char c = documento.charAt(i);
+            if (ehDigito(c)) {
+                canonico[j++] = c;
+            }
+        }
+        return new String(canonico);
+    }
+
+    private static boolean valido(CharSequence documento, int tamanho) {
+        if (documento == null) {
+            return false;
+        }
+        int digitos = 0;
+        int primeiro = -1;
+        boolean repetido = true;
+        boolean separadorAnterior = false;
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        for (int i = 0; i < documento.length(); i++) {
+            char c = documento.charAt(i);
+            if (ehDigito(c)) {
+                if (digitos == tamanho) {
+                    return false;
+                }
+                int digito = c - '0';
+                if (digitos == tamanho - 2 && digito != verificador(somaPrimeiro)) {
+                    return false;
+                }
+                if (digitos == tamanho - 1 && digito != verificador(somaSegundo)) {
+                    return false;
+                }
+                if (digitos < tamanho - 2) {
+                    somaPrimeiro += digito * peso(digitos, tamanho - 2, tamanho);
+                }
+                somaSegundo += digito * peso(digitos, tamanho - 1, tamanho);
+                if (primeiro < 0) {
+                    primeiro = digito;
+                }
+                repetido &= digito == primeiro;
+                digitos++;
+                separadorAnterior = false;
+            } else if (!separadorAnterior && c != 0 && c == separador(digitos, tamanho)) {
+                separadorAnterior = true;
+            } else {
+                return false;
+            }
+        }
+        return digitos == tamanho && !repetido && !separadorAnterior;
+    }
+
+    // Pesos da direita para a esquerda a partir de 2; no CNPJ eles voltam a 2 depois do 9.
+    private static int peso(int posicao, int quantidade, int tamanho) {
+        int peso = quantidade - posicao + 1;
+        return tamanho == TAMANHO_CPF ? peso : (peso - 2) % 8 + 2;
+    }
+
+    private static int verificador(int soma) {
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+
+    private static char separador(int digitos, int tamanho) {
+        if (tamanho == TAMANHO_CPF) {
+            return switch (digitos) {
+                case 3, 6 -> '.';
+                case 9 -> '-';
+                default -> 0;
+            };
+        }
+        return switch (digitos) {
+            case 2, 5 -> '.';
+            case 8 -> '/';
+            case 12 -> '-';
+            default -> 0;
+        };
+    }
+
+    private static boolean ehDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,35 @@
+package com.org.fundatec.sistemabancario.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class NormalizadorNome {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private NormalizadorNome() {
+    }
+
+    public static String normalizar(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(nome, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    public static String padraoPrefixo(String nome) {
+        String normalizado = normalizar(nome);
+        StringBuilder padrao = new StringBuilder(normalizado.length() + 1);
+        for (int i = 0; i < normalizado.length(); i++) {
+            char c = normalizado.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                padrao.append('\\');
+            }
+            padrao.append(c);
+        }
+        return padrao.append('%').toString();
+    }
+}
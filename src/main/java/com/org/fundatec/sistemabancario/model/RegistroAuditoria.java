@@ -0,0 +1,82 @@
+package com.org.fundatec.sistemabancario.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "REGISTRO_AUDITORIA", indexes = @Index(name = "IDX_REGISTRO_AUDITORIA_MOMENTO", columnList = "MOMENTO"))
+public class RegistroAuditoria {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "REGISTRO_AUDITORIA_SEQ")
+    @SequenceGenerator(name = "REGISTRO_AUDITORIA_SEQ", sequenceName = "REGISTRO_AUDITORIA_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "USUARIO", nullable = false, updatable = false)
+    private String usuario;
+
+    @Column(name = "OPERACAO", nullable = false, updatable = false)
+    private String operacao;
+
+    @Column(name = "ARGUMENTOS", length = 4000, updatable = false)
+    private String argumentos;
+
+    @Column(name = "ANTES", length = 4000, updatable = false)
+    private String antes;
+
+    @Column(name = "RESULTADO", length = 4000, updatable = false)
+    private String resultado;
+
+    @Column(name = "SUCESSO", nullable = false, updatable = false)
+    private boolean sucesso;
+
+    @Column(name = "MOMENTO", nullable = false, updatable = false)
+    private Instant momento;
+
+    public RegistroAuditoria() {
+    }
+
+    public RegistroAuditoria(String usuario, String operacao, String argumentos, String antes, String resultado, boolean sucesso,
+                             Instant momento) {
+        this.usuario = usuario;
+        this.operacao = operacao;
+        this.argumentos = argumentos;
+        this.antes = antes;
+        this.resultado = resultado;
+        this.sucesso = sucesso;
+        this.momento = momento;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsuario() {
+        return usuario;
+    }
+
+    public String getOperacao() {
+        return operacao;
+    }
+
+    public String getArgumentos() {
+        return argumentos;
+    }
+
+    public String getAntes() {
+        return antes;
+    }
+
+    public String getResultado() {
+        return resultado;
+    }
+
+    public boolean isSucesso() {
+        return sucesso;
+    }
+
+    public Instant getMomento() {
+        return momento;
+    }
+}
@@ -0,0 +1,76 @@
+package com.org.fundatec.sistemabancario.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+import java.time.Instant;
+
+@Entity
+@Table(name = "REGISTRO_IDEMPOTENCIA", indexes = @Index(name = "IDX_REGISTRO_IDEMPOTENCIA_CRIADO_EM", columnList = "CRIADO_EM"))
+public class RegistroIdempotencia implements Persistable<String> {
+
+    @Id
+    @Column(name = "CHAVE", length = 512)
+    private String chave;
+
+    @Column(name = "IMPRESSAO", nullable = false, length = 512)
+    private String impressao;
+
+    @Column(name = "STATUS")
+    private Integer status;
+
+    @Column(name = "CRIADO_EM", nullable = false)
+    private Instant criadoEm;
+
+    @Transient
+    private boolean novo = true;
+
+    public RegistroIdempotencia() {
+    }
+
+    public RegistroIdempotencia(String chave, String impressao, Integer status, Instant criadoEm) {
+        this.chave = chave;
+        this.impressao = impressao;
+        this.status = status;
+        this.criadoEm = criadoEm;
+    }
+
+    public static RegistroIdempotencia emAndamento(String chave, String impressao) {
+        return new RegistroIdempotencia(chave, impressao, null, Instant.now());
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+
+    @Override
+    public String getId() {
+        return chave;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    public boolean isEmAndamento() {
+        return status == null;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public String getImpressao() {
+        return impressao;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+}
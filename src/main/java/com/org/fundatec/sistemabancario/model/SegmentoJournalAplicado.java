@@ -0,0 +1,48 @@
+package com.org.fundatec.sistemabancario.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+import java.time.Instant;
+
+@Entity
+@Table(name = "SEGMENTO_JOURNAL_APLICADO")
+public class SegmentoJournalAplicado implements Persistable<String> {
+
+    @Id
+    @Column(name = "ID", length = 36)
+    private String id;
+
+    @Column(name = "APLICADO_EM", nullable = false)
+    private Instant aplicadoEm;
+
+    @Transient
+    private boolean novo = true;
+
+    public SegmentoJournalAplicado() {
+    }
+
+    public SegmentoJournalAplicado(String id, Instant aplicadoEm) {
+        this.id = id;
+        this.aplicadoEm = aplicadoEm;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    public Instant getAplicadoEm() {
+        return aplicadoEm;
+    }
+}
@@ -0,0 +1,13 @@
+package com.org.fundatec.sistemabancario.model;
+
+public enum TipoEventoConta {
+    CONTA_CRIADA,
+    DEPOSITO,
+    SAQUE,
+    TRANSFERENCIA_ENVIADA,
+    TRANSFERENCIA_RECEBIDA;
+
+    public static TipoEventoConta de(TipoMovimentacao tipo) {
+        return valueOf(tipo.name());
+    }
+}
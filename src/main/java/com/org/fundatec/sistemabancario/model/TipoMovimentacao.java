@@ -0,0 +1,8 @@
+package com.org.fundatec.sistemabancario.model;
+
+public enum TipoMovimentacao {
+    DEPOSITO,
+    SAQUE,
+    TRANSFERENCIA_ENVIADA,
+    TRANSFERENCIA_RECEBIDA
+}
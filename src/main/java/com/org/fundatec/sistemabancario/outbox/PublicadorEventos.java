@@ -0,0 +1,12 @@
+package com.org.fundatec.sistemabancario.outbox;
+
+import com.org.fundatec.sistemabancario.model.EventoConta;
+
+import java.util.List;
+
+// Recebe os eventos em ordem crescente de ID. Só retorna depois que o lote está entregue: uma exceção
+// mantém o lote na outbox para a próxima rodada (entrega pelo menos uma vez).
+public interface PublicadorEventos {
+
+    void publicar(List<EventoConta> eventos) throws Exception;
+}
@@ -0,0 +1,61 @@
+package com.org.fundatec.sistemabancario.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.fundatec.sistemabancario.model.EventoConta;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Um evento JSON por linha, anexado a banco.outbox.arquivo com um único write e um force por lote.
+@Component
+@ConditionalOnProperty(name = "banco.outbox.publicador", havingValue = "arquivo")
+public class PublicadorEventosArquivo implements PublicadorEventos {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${banco.outbox.arquivo:dados/eventos-conta.jsonl}")
+    private Path arquivo;
+
+    private FileChannel canal;
+
+    @PostConstruct
+    void abrir() throws IOException {
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio != null) {
+            Files.createDirectories(diretorio);
+        }
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void publicar(List<EventoConta> eventos) throws IOException {
+        ByteArrayOutputStream linhas = new ByteArrayOutputStream(eventos.size() * 128);
+        for (EventoConta evento : eventos) {
+            objectMapper.writeValue(linhas, evento);
+            linhas.write('\n');
+        }
+        ByteBuffer conteudo = ByteBuffer.wrap(linhas.toByteArray());
+        while (conteudo.hasRemaining()) {
+            canal.write(conteudo);
+        }
+        canal.force(false);
+    }
+
+    @PreDestroy
+    synchronized void fechar() throws IOException {
+        canal.close();
+    }
+}
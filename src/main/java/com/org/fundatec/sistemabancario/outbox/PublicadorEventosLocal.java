@@ -0,0 +1,25 @@
+package com.org.fundatec.sistemabancario.outbox;
+
+import com.org.fundatec.sistemabancario.model.EventoConta;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Entrega cada evento aos @EventListener de EventoConta da própria aplicação, na thread do relay.
+@Component
+@ConditionalOnProperty(name = "banco.outbox.publicador", havingValue = "local", matchIfMissing = true)
+public class PublicadorEventosLocal implements PublicadorEventos {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publicar(List<EventoConta> eventos) {
+        for (EventoConta evento : eventos) {
+            applicationEventPublisher.publishEvent(evento);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.org.fundatec.sistemabancario.outbox;
+
+import com.org.fundatec.sistemabancario.model.EventoConta;
+import com.org.fundatec.sistemabancario.repository.EventoContaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Um único relay lê a outbox em ordem de ID, publica o lote e o remove na mesma transação.
+// Alterações de uma mesma conta são serializadas pelo bloqueio da linha da conta e recebem IDs
+// crescentes, então a ordem por ID preserva a ordem por conta.
+@Component
+public class RelayEventos {
+
+    public static final String PUBLICADOS = "banco.outbox.publicados";
+    public static final String ATRASO = "banco.outbox.atraso";
+    public static final String LOTE = "banco.outbox.relay";
+
+    @Autowired
+    private EventoContaRepository eventoContaRepository;
+
+    @Autowired
+    private PublicadorEventos publicadorEventos;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${banco.outbox.lote:500}")
+    private int tamanhoLote;
+
+    private Counter publicados;
+    private Timer atraso;
+    private Timer lote;
+
+    @PostConstruct
+    void iniciar() {
+        publicados = Counter.builder(PUBLICADOS)
+                .description("Eventos de conta publicados pelo relay")
+                .register(registry);
+        atraso = Timer.builder(ATRASO)
+                .description("Tempo entre a gravação do evento na outbox e sua publicação")
+                .register(registry);
+        lote = Timer.builder(LOTE)
+                .description("Duração de cada lote publicado pelo relay")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${banco.outbox.intervalo:PT0.2S}")
+    public synchronized void retransmitir() {
+        while (retransmitirLote() == tamanhoLote) {
+            // Continua enquanto houver lotes cheios.
+        }
+    }
+
+    private int retransmitirLote() {
+        long inicio = System.nanoTime();
+        List<EventoConta> eventos = transactionTemplate.execute(status -> {
+            List<EventoConta> pendentes = eventoContaRepository.findByOrderByIdAsc(Limit.of(tamanhoLote));
+            if (!pendentes.isEmpty()) {
+                publicar(pendentes);
+                eventoContaRepository.deleteAllByIdInBatch(pendentes.stream().map(EventoConta::getId).toList());
+            }
+            return pendentes;
+        });
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+        lote.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        publicados.increment(eventos.size());
+        LocalDateTime agora = LocalDateTime.now();
+        for (EventoConta evento : eventos) {
+            atraso.record(Duration.between(evento.getDataHora(), agora));
+        }
+        return eventos.size();
+    }
+
+    private void publicar(List<EventoConta> eventos) {
+        try {
+            publicadorEventos.publicar(eventos);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Falha ao publicar eventos de conta", e);
+        }
+    }
+}
@@ -1,13 +1,37 @@
 package com.org.fundatec.sistemabancario.repository;
 
 import com.org.fundatec.sistemabancario.model.Agencia;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface AgenciaRepository extends JpaRepository<Agencia, Long> {
-    Optional<Agencia> findByNumero(Integer numero);
-    List<Agencia> findByBancoId(Long bancoId);
+public interface AgenciaRepository extends RepositorioChaveNatural<Agencia, Long> {
+    @Override
+    @EntityGraph(Agencia.GRAFO_COM_BANCO)
+    Optional<Agencia> findById(Long id);
+
+    default Optional<Agencia> findByNumero(Integer numero) {
+        return buscarPorChaveNatural(numero, Agencia.GRAFO_COM_BANCO);
+    }
+
+    @EntityGraph(Agencia.GRAFO_COM_BANCO)
+    Page<Agencia> findByBancoId(Long bancoId, Pageable pageable);
+
+    @EntityGraph(Agencia.GRAFO_COM_BANCO)
+    List<Agencia> findByBancoIdAndIdGreaterThanOrderById(Long bancoId, Long id, Limit limit);
+
+    @Query("select a.numero from Agencia a")
+    List<Integer> listarNumeros();
+
+    @Query("select a.id from Agencia a where a.id in :ids")
+    Set<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
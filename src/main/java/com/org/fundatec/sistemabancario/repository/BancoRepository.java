@@ -1,13 +1,46 @@
 package com.org.fundatec.sistemabancario.repository;
 
 import com.org.fundatec.sistemabancario.model.Banco;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BancoRepository extends JpaRepository<Banco, Long> {
-    Optional<Banco> findByCodigo(Integer codigo);
-    List<Banco> findByNomeContainingIgnoreCase(String nome);
+public interface BancoRepository extends RepositorioChaveNatural<Banco, Long> {
+    default Optional<Banco> findByCodigo(Integer codigo) {
+        return buscarPorChaveNatural(codigo);
+    }
+
+    @Query("select b.codigo from Banco b")
+    List<Integer> listarCodigos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Banco> findByIdGreaterThanOrderById(Long id, Limit limit);
+
+    @Query("select b from Banco b where b.nomeNormalizado like :padrao escape '\\'")
+    Page<Banco> buscarPorPrefixo(@Param("padrao") String padrao, Pageable pageable);
+
+    @Query("select b from Banco b where b.nomeNormalizado like :padrao escape '\\' " +
+            "order by b.nomeNormalizado, b.id")
+    List<Banco> buscarPorPrefixo(@Param("padrao") String padrao, Limit limit);
+
+    @Query("select b from Banco b where b.nomeNormalizado like :padrao escape '\\' " +
+            "and b.nomeNormalizado >= :nome " +
+            "and (b.nomeNormalizado > :nome or b.id > :id) " +
+            "order by b.nomeNormalizado, b.id")
+    List<Banco> buscarPorPrefixoApos(@Param("padrao") String padrao,
+                                     @Param("nome") String nome,
+                                     @Param("id") Long id,
+                                     Limit limit);
+
+    @Query("select b.nomeNormalizado from Banco b where b.id = :id")
+    Optional<String> findNomeNormalizadoById(@Param("id") Long id);
 }
\ No newline at end of file
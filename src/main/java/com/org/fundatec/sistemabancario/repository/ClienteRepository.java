@@ -1,13 +1,45 @@
 package com.org.fundatec.sistemabancario.repository;
 
 import com.org.fundatec.sistemabancario.model.Cliente;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
-    Optional<Cliente> findByCpf(String cpf);
-    List<Cliente> findByNomeContainingIgnoreCase(String nome);
+public interface ClienteRepository extends RepositorioChaveNatural<Cliente, Long> {
+    default Optional<Cliente> findByCpf(String cpf) {
+        return buscarPorChaveNatural(cpf);
+    }
+
+    @Query("select c.cpf from Cliente c")
+    List<String> listarCpfs();
+
+    @Query("select c.id from Cliente c where c.id in :ids")
+    Set<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    @Query("select c from Cliente c where c.nomeNormalizado like :padrao escape '\\'")
+    Page<Cliente> buscarPorPrefixo(@Param("padrao") String padrao, Pageable pageable);
+
+    @Query("select c from Cliente c where c.nomeNormalizado like :padrao escape '\\' " +
+            "order by c.nomeNormalizado, c.id")
+    List<Cliente> buscarPorPrefixo(@Param("padrao") String padrao, Limit limit);
+
+    @Query("select c from Cliente c where c.nomeNormalizado like :padrao escape '\\' " +
+            "and c.nomeNormalizado >= :nome " +
+            "and (c.nomeNormalizado > :nome or c.id > :id) " +
+            "order by c.nomeNormalizado, c.id")
+    List<Cliente> buscarPorPrefixoApos(@Param("padrao") String padrao,
+                                       @Param("nome") String nome,
+                                       @Param("id") Long id,
+                                       Limit limit);
+
+    @Query("select c.nomeNormalizado from Cliente c where c.id = :id")
+    Optional<String> findNomeNormalizadoById(@Param("id") Long id);
 }
\ No newline at end of file
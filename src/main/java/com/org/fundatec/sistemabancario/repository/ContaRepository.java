@@ -1,11 +1,56 @@
 package com.org.fundatec.sistemabancario.repository;
 
+import com.org.fundatec.sistemabancario.dto.ContaResumoDTO;
+import com.org.fundatec.sistemabancario.dto.SaldoDTO;
 import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ContaRepository extends JpaRepository<Conta, Long> {
+    @EntityGraph(Conta.GRAFO_DETALHE)
     Optional<Conta> findByNumero(Integer numero);
-}
\ No newline at end of file
+
+    @EntityGraph(Conta.GRAFO_OPERACAO)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Conta> findByNumeroInOrderByNumero(Collection<Integer> numeros);
+
+    @Query("select c.numero from Conta c")
+    List<Integer> listarNumeros();
+
+    @Query("select c.id from Conta c where c.numero = :numero")
+    Optional<Long> findIdByNumero(@Param("numero") Integer numero);
+
+    @Query("select new com.org.fundatec.sistemabancario.dto.SaldoDTO(c.numero, c.saldo) " +
+            "from Conta c where c.numero = :numero")
+    Optional<SaldoDTO> buscarSaldo(@Param("numero") Integer numero);
+
+    @Query("select new com.org.fundatec.sistemabancario.dto.SaldoDTO(c.numero, c.saldo) from Conta c")
+    List<SaldoDTO> listarSaldos();
+
+    @Query("select new com.org.fundatec.sistemabancario.dto.ContaResumoDTO(c.numero, c.saldo, cl.nome, a.numero, b.codigo) " +
+            "from Conta c join c.cliente cl join c.agencia a join a.banco b where c.numero = :numero")
+    Optional<ContaResumoDTO> buscarResumo(@Param("numero") Integer numero);
+
+    @Modifying
+    @Query("update Conta c set c.saldo = :saldo where c.numero = :numero")
+    int definirSaldo(@Param("numero") Integer numero, @Param("saldo") Dinheiro saldo);
+
+    @Modifying
+    @Query("update Conta c set c.saldo = c.saldo + :valor where c.id = :id")
+    int creditar(@Param("id") Long id, @Param("valor") Dinheiro valor);
+
+    @Modifying
+    @Query("update Conta c set c.saldo = c.saldo - :valor where c.id = :id and c.saldo >= :valor")
+    int debitar(@Param("id") Long id, @Param("valor") Dinheiro valor);
+}
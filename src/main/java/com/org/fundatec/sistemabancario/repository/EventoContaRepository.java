@@ -0,0 +1,13 @@
+package com.org.fundatec.sistemabancario.repository;
+
+import com.org.fundatec.sistemabancario.model.EventoConta;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface EventoContaRepository extends JpaRepository<EventoConta, Long> {
+
+    List<EventoConta> findByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,29 @@
+package com.org.fundatec.sistemabancario.repository;
+
+import com.org.fundatec.sistemabancario.dto.MovimentacaoDTO;
+import com.org.fundatec.sistemabancario.model.Movimentacao;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MovimentacaoRepository extends JpaRepository<Movimentacao, Long> {
+
+    @Query("select new com.org.fundatec.sistemabancario.dto.MovimentacaoDTO(m.id, m.tipo, m.valor, m.dataHora) " +
+            "from Movimentacao m where m.contaId = :contaId " +
+            "order by m.dataHora, m.id")
+    List<MovimentacaoDTO> buscarExtrato(@Param("contaId") Long contaId, Limit limit);
+
+    @Query("select new com.org.fundatec.sistemabancario.dto.MovimentacaoDTO(m.id, m.tipo, m.valor, m.dataHora) " +
+            "from Movimentacao m where m.contaId = :contaId " +
+            "and (m.dataHora > :dataHora or (m.dataHora = :dataHora and m.id > :id)) " +
+            "order by m.dataHora, m.id")
+    List<MovimentacaoDTO> buscarExtratoApos(@Param("contaId") Long contaId,
+                                            @Param("dataHora") LocalDateTime dataHora,
+                                            @Param("id") Long id,
+                                            Limit limit);
+}
@@ -0,0 +1,9 @@
+package com.org.fundatec.sistemabancario.repository;
+
+import com.org.fundatec.sistemabancario.model.RegistroAuditoria;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RegistroAuditoriaRepository extends JpaRepository<RegistroAuditoria, Long> {
+}
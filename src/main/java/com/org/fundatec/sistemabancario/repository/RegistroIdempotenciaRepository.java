@@ -0,0 +1,17 @@
+package com.org.fundatec.sistemabancario.repository;
+
+import com.org.fundatec.sistemabancario.model.RegistroIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+
+@Repository
+public interface RegistroIdempotenciaRepository extends JpaRepository<RegistroIdempotencia, String> {
+
+    @Modifying
+    @Query("delete from RegistroIdempotencia r where r.criadoEm < :limite")
+    int removerCriadosAntesDe(@Param("limite") Instant limite);
+}
@@ -0,0 +1,63 @@
+package com.org.fundatec.sistemabancario.repository;
+
+import jakarta.persistence.AttributeNode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class RepositorioBase<T, ID> extends SimpleJpaRepository<T, ID> implements RepositorioChaveNatural<T, ID> {
+
+    private final EntityManager entityManager;
+
+    public RepositorioBase(JpaEntityInformation<T, ?> informacao, EntityManager entityManager) {
+        super(informacao, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<T> buscarPorChaveNatural(Object chave) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(getDomainClass()).loadOptional(chave);
+    }
+
+    // Quando a entidade vem do cache de segundo nível o grafo não é aplicado, então as associações
+    // do primeiro nível do grafo são inicializadas aqui, ainda dentro da sessão.
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> buscarPorChaveNatural(Object chave, String grafo) {
+        SessionImplementor sessao = entityManager.unwrap(SessionImplementor.class);
+        RootGraph<T> grafoRaiz = (RootGraph<T>) entityManager.getEntityGraph(grafo);
+        Optional<T> entidade = sessao.bySimpleNaturalId(getDomainClass())
+                .with(grafoRaiz, GraphSemantic.LOAD)
+                .loadOptional(chave);
+        entidade.ifPresent(encontrada -> inicializar(sessao, grafoRaiz, encontrada));
+        return entidade;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> buscarPorId(ID id, String grafo) {
+        SessionImplementor sessao = entityManager.unwrap(SessionImplementor.class);
+        RootGraph<T> grafoRaiz = (RootGraph<T>) entityManager.getEntityGraph(grafo);
+        Optional<T> entidade = sessao.byId(getDomainClass())
+                .with(grafoRaiz, GraphSemantic.LOAD)
+                .loadOptional(id);
+        entidade.ifPresent(encontrada -> inicializar(sessao, grafoRaiz, encontrada));
+        return entidade;
+    }
+
+    private void inicializar(SessionImplementor sessao, RootGraph<T> grafo, T entidade) {
+        EntityPersister persister = sessao.getEntityPersister(null, entidade);
+        for (AttributeNode<?> atributo : grafo.getAttributeNodes()) {
+            Hibernate.initialize(persister.getPropertyValue(entidade, atributo.getAttributeName()));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.org.fundatec.sistemabancario.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+import java.util.Optional;
+
+// Busca pela chave de negócio marcada com @NaturalId, passando pelo cache de chaves naturais do Hibernate.
+// As variantes com grafo garantem as associações do grafo mesmo quando a entidade vem do cache de segundo nível.
+@NoRepositoryBean
+public interface RepositorioChaveNatural<T, ID> extends JpaRepository<T, ID> {
+    Optional<T> buscarPorChaveNatural(Object chave);
+
+    Optional<T> buscarPorChaveNatural(Object chave, String grafo);
+
+    Optional<T> buscarPorId(ID id, String grafo);
+}
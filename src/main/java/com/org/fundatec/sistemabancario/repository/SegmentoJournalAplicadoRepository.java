@@ -0,0 +1,9 @@
+package com.org.fundatec.sistemabancario.repository;
+
+import com.org.fundatec.sistemabancario.model.SegmentoJournalAplicado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SegmentoJournalAplicadoRepository extends JpaRepository<SegmentoJournalAplicado, String> {
+}
@@ -1,12 +1,19 @@
 package com.org.fundatec.sistemabancario.service;
 
+import com.org.fundatec.sistemabancario.auditoria.Auditado;
 import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.model.Agencia;
 import com.org.fundatec.sistemabancario.model.Banco;
 import com.org.fundatec.sistemabancario.repository.AgenciaRepository;
 import com.org.fundatec.sistemabancario.repository.BancoRepository;
+import com.org.fundatec.sistemabancario.service.UnicidadeService.Chave;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,56 +28,84 @@ public class AgenciaService {
     @Autowired
     private BancoRepository bancoRepository;
 
+    @Autowired
+    private UnicidadeService unicidadeService;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int tamanhoMaximoPagina;
+
+    @Auditado
     @Transactional
     public Agencia salvar(AgenciaDTO agenciaDTO) {
+        unicidadeService.verificar(Chave.AGENCIA, agenciaDTO.getNumero());
         Banco banco = bancoRepository.findById(agenciaDTO.getBancoId())
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Banco não encontrado com ID: " + agenciaDTO.getBancoId()));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.BANCO_NAO_ENCONTRADO, "ID", agenciaDTO.getBancoId()));
 
         Agencia agencia = new Agencia();
         agencia.setNumero(agenciaDTO.getNumero());
         agencia.setNome(agenciaDTO.getNome());
         agencia.setBanco(banco);
 
+        unicidadeService.registrar(Chave.AGENCIA, agencia.getNumero());
         return agenciaRepository.save(agencia);
     }
 
     public Agencia buscarPorId(Long id) {
-        return agenciaRepository.findById(id)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Agência não encontrada com ID: " + id));
+        return agenciaRepository.buscarPorId(id, Agencia.GRAFO_COM_BANCO)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.AGENCIA_NAO_ENCONTRADA, "ID", id));
     }
 
     public Agencia buscarPorNumero(Integer numero) {
         return agenciaRepository.findByNumero(numero)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Agência não encontrada com número: " + numero));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.AGENCIA_NAO_ENCONTRADA, "número", numero));
+    }
+
+    public Page<Agencia> buscarPorBanco(Long bancoId, Pageable pageable) {
+        validarBanco(bancoId);
+        return agenciaRepository.findByBancoId(bancoId, pageable);
     }
 
-    public List<Agencia> buscarPorBanco(Long bancoId) {
+    public PaginaCursorDTO<Agencia> buscarPorBanco(Long bancoId, Long apos, int tamanho) {
+        validarBanco(bancoId);
+        int limite = Paginas.tamanho(tamanho, tamanhoMaximoPagina);
+        List<Agencia> agencias = agenciaRepository.findByBancoIdAndIdGreaterThanOrderById(
+                bancoId, Paginas.inicio(apos), Paginas.limite(limite));
+        return Paginas.cursor(agencias, limite, Agencia::getId);
+    }
+
+    private void validarBanco(Long bancoId) {
         if (!bancoRepository.existsById(bancoId)) {
-            throw new EntidadeNaoEncontradaException("Banco não encontrado com ID: " + bancoId);
+            throw new EntidadeNaoEncontradaException(CodigoErro.BANCO_NAO_ENCONTRADO, "ID", bancoId);
         }
-        return agenciaRepository.findByBancoId(bancoId);
     }
 
     @Transactional
+    @Auditado(entidade = Agencia.class)
     public Agencia atualizar(Long id, AgenciaDTO agenciaDTO) {
         Agencia agenciaExistente = agenciaRepository.findById(id)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Agência não encontrada com ID: " + id));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.AGENCIA_NAO_ENCONTRADA, "ID", id));
+        Integer numeroAnterior = agenciaExistente.getNumero();
+        if (!numeroAnterior.equals(agenciaDTO.getNumero())) {
+            unicidadeService.verificar(Chave.AGENCIA, agenciaDTO.getNumero());
+        }
 
         Banco banco = bancoRepository.findById(agenciaDTO.getBancoId())
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Banco não encontrado com ID: " + agenciaDTO.getBancoId()));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.BANCO_NAO_ENCONTRADO, "ID", agenciaDTO.getBancoId()));
 
         agenciaExistente.setNumero(agenciaDTO.getNumero());
         agenciaExistente.setNome(agenciaDTO.getNome());
         agenciaExistente.setBanco(banco);
 
+        unicidadeService.substituir(Chave.AGENCIA, numeroAnterior, agenciaExistente.getNumero());
         return agenciaRepository.save(agenciaExistente);
     }
 
     @Transactional
+    @Auditado(entidade = Agencia.class)
     public void deletar(Long id) {
-        if (!agenciaRepository.existsById(id)) {
-            throw new EntidadeNaoEncontradaException("Agência não encontrada com ID: " + id);
-        }
-        agenciaRepository.deleteById(id);
+        Agencia agencia = agenciaRepository.findById(id)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.AGENCIA_NAO_ENCONTRADA, "ID", id));
+        agenciaRepository.delete(agencia);
+        unicidadeService.remover(Chave.AGENCIA, agencia.getNumero());
     }
 }
\ No newline at end of file
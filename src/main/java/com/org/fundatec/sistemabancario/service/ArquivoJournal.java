@@ -0,0 +1,108 @@
+package com.org.fundatec.sistemabancario.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class ArquivoJournal {
+
+    private final Path arquivo;
+    private final FileChannel canal;
+    private final Object sincronizacao = new Object();
+    private long escrito;
+    private volatile long sincronizado;
+    private volatile IOException falha;
+
+    private ArquivoJournal(Path arquivo, FileChannel canal) {
+        this.arquivo = arquivo;
+        this.canal = canal;
+    }
+
+    static ArquivoJournal criar(Path arquivo) throws IOException {
+        return new ArquivoJournal(arquivo,
+                FileChannel.open(arquivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    synchronized long anexar(ByteBuffer registro) throws IOException {
+        verificar();
+        int tamanho = registro.remaining();
+        try {
+            while (registro.hasRemaining()) {
+                canal.write(registro);
+            }
+        } catch (IOException e) {
+            // Descarta a escrita parcial para que os registros seguintes não fiquem desalinhados.
+            try {
+                canal.truncate(escrito);
+            } catch (IOException falhaTruncamento) {
+                e.addSuppressed(falhaTruncamento);
+            }
+            throw e;
+        }
+        escrito += tamanho;
+        return escrito;
+    }
+
+    // Commit em grupo: um único force cobre todos os registros anexados até o momento. Depois de um
+    // force com falha não se sabe o que chegou ao disco, e um force seguinte pode ter sucesso sem
+    // cobrir as páginas perdidas; o arquivo fica inutilizado e só confirma o que já estava sincronizado.
+    void sincronizar(long posicao) throws IOException {
+        if (sincronizado >= posicao) {
+            return;
+        }
+        synchronized (sincronizacao) {
+            if (sincronizado < posicao) {
+                verificar();
+                forcar();
+            }
+        }
+    }
+
+    boolean isInutilizado() {
+        return falha != null;
+    }
+
+    void fechar() throws IOException {
+        synchronized (sincronizacao) {
+            if (falha == null) {
+                forcar();
+            }
+            canal.close();
+        }
+    }
+
+    void excluir() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    Path getArquivo() {
+        return arquivo;
+    }
+
+    synchronized boolean isVazio() {
+        return escrito == 0;
+    }
+
+    private void forcar() throws IOException {
+        long alvo;
+        synchronized (this) {
+            alvo = escrito;
+        }
+        try {
+            canal.force(false);
+        } catch (IOException e) {
+            falha = e;
+            throw e;
+        }
+        sincronizado = alvo;
+    }
+
+    private void verificar() throws IOException {
+        if (falha != null) {
+            throw new IOException("Journal inutilizado após falha de sincronização: " + arquivo, falha);
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.org.fundatec.sistemabancario.service;
 
+import com.org.fundatec.sistemabancario.auditoria.Auditado;
 import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
 import com.org.fundatec.sistemabancario.model.Banco;
+import com.org.fundatec.sistemabancario.model.NormalizadorNome;
 import com.org.fundatec.sistemabancario.repository.BancoRepository;
+import com.org.fundatec.sistemabancario.service.UnicidadeService.Chave;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,50 +25,86 @@ public class BancoService {
     @Autowired
     private BancoRepository bancoRepository;
 
+    @Autowired
+    private UnicidadeService unicidadeService;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int tamanhoMaximoPagina;
+
+    @Auditado
     @Transactional
     public Banco salvar(BancoDTO bancoDTO) {
+        unicidadeService.verificar(Chave.BANCO, bancoDTO.getCodigo());
         Banco banco = new Banco();
         banco.setCodigo(bancoDTO.getCodigo());
         banco.setNome(bancoDTO.getNome());
         banco.setCnpj(bancoDTO.getCnpj());
+        unicidadeService.registrar(Chave.BANCO, banco.getCodigo());
         return bancoRepository.save(banco);
     }
 
     public Banco buscarPorId(Long id) {
         return bancoRepository.findById(id)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Banco não encontrado com ID: " + id));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.BANCO_NAO_ENCONTRADO, "ID", id));
     }
 
     public Banco buscarPorCodigo(Integer codigo) {
         return bancoRepository.findByCodigo(codigo)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Banco não encontrado com código: " + codigo));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.BANCO_NAO_ENCONTRADO, "código", codigo));
     }
 
-    public List<Banco> buscarPorNome(String nome) {
-        return bancoRepository.findByNomeContainingIgnoreCase(nome);
+    public Page<Banco> buscarPorNome(String nome, Pageable pageable) {
+        return bancoRepository.buscarPorPrefixo(NormalizadorNome.padraoPrefixo(nome), pageable);
     }
 
-    public List<Banco> listarTodos() {
-        return bancoRepository.findAll();
+    public PaginaCursorDTO<Banco> buscarPorNome(String nome, Long apos, int tamanho) {
+        int limite = Paginas.tamanho(tamanho, tamanhoMaximoPagina);
+        String padrao = NormalizadorNome.padraoPrefixo(nome);
+        List<Banco> bancos = apos == null
+                ? bancoRepository.buscarPorPrefixo(padrao, Paginas.limite(limite))
+                : bancoRepository.buscarPorPrefixoApos(padrao, nomeNormalizado(apos), apos, Paginas.limite(limite));
+        return Paginas.cursor(bancos, limite, Banco::getId);
+    }
+
+    private String nomeNormalizado(Long id) {
+        return bancoRepository.findNomeNormalizadoById(id)
+                .orElseThrow(() -> new OperacaoInvalidaException(CodigoErro.CURSOR_INVALIDO, id));
+    }
+
+    public Page<Banco> listarTodos(Pageable pageable) {
+        return bancoRepository.findAll(pageable);
+    }
+
+    public PaginaCursorDTO<Banco> listarTodos(Long apos, int tamanho) {
+        int limite = Paginas.tamanho(tamanho, tamanhoMaximoPagina);
+        List<Banco> bancos = bancoRepository.findByIdGreaterThanOrderById(Paginas.inicio(apos), Paginas.limite(limite));
+        return Paginas.cursor(bancos, limite, Banco::getId);
     }
 
     @Transactional
+    @Auditado(entidade = Banco.class)
     public Banco atualizar(Long id, BancoDTO bancoDTO) {
         Banco bancoExistente = bancoRepository.findById(id)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Banco não encontrado com ID: " + id));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.BANCO_NAO_ENCONTRADO, "ID", id));
 
+        Integer codigoAnterior = bancoExistente.getCodigo();
+        if (!codigoAnterior.equals(bancoDTO.getCodigo())) {
+            unicidadeService.verificar(Chave.BANCO, bancoDTO.getCodigo());
+        }
         bancoExistente.setCodigo(bancoDTO.getCodigo());
         bancoExistente.setNome(bancoDTO.getNome());
         bancoExistente.setCnpj(bancoDTO.getCnpj());
 
+        unicidadeService.substituir(Chave.BANCO, codigoAnterior, bancoExistente.getCodigo());
         return bancoRepository.save(bancoExistente);
     }
 
     @Transactional
+    @Auditado(entidade = Banco.class)
     public void deletar(Long id) {
-        if (!bancoRepository.existsById(id)) {
-            throw new EntidadeNaoEncontradaException("Banco não encontrado com ID: " + id);
-        }
-        bancoRepository.deleteById(id);
+        Banco banco = bancoRepository.findById(id)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.BANCO_NAO_ENCONTRADO, "ID", id));
+        bancoRepository.delete(banco);
+        unicidadeService.remover(Chave.BANCO, banco.getCodigo());
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.org.fundatec.sistemabancario.cache.ArmazenamentoCaffeine;
+import com.org.fundatec.sistemabancario.cache.FabricaRegioesCaffeine;
+import com.org.fundatec.sistemabancario.dto.EstatisticasCacheDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CacheService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<EstatisticasCacheDTO> listarEstatisticas() {
+        List<EstatisticasCacheDTO> estatisticas = new ArrayList<>();
+        if (cacheHibernate().getRegionFactory() instanceof FabricaRegioesCaffeine fabrica) {
+            for (Map.Entry<String, ArmazenamentoCaffeine> regiao : fabrica.getArmazenamentos().entrySet()) {
+                ArmazenamentoCaffeine armazenamento = regiao.getValue();
+                CacheStats stats = armazenamento.estatisticas();
+                estatisticas.add(new EstatisticasCacheDTO(regiao.getKey(), armazenamento.tamanho(),
+                        stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount()));
+            }
+        }
+        return estatisticas;
+    }
+
+    public void limpar(String nome) {
+        Region regiao = cacheHibernate().getRegion(nome);
+        if (regiao == null) {
+            throw new EntidadeNaoEncontradaException(CodigoErro.CACHE_NAO_ENCONTRADO, nome);
+        }
+        regiao.clear();
+    }
+
+    private CacheImplementor cacheHibernate() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+    }
+}
@@ -1,14 +1,31 @@
 package com.org.fundatec.sistemabancario.service;
 
+import com.org.fundatec.sistemabancario.auditoria.Auditado;
 import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
 import com.org.fundatec.sistemabancario.model.Cliente;
+import com.org.fundatec.sistemabancario.model.NormalizadorDocumento;
+import com.org.fundatec.sistemabancario.model.NormalizadorNome;
 import com.org.fundatec.sistemabancario.repository.ClienteRepository;
+import com.org.fundatec.sistemabancario.service.UnicidadeService.Chave;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class ClienteService {
@@ -16,44 +33,140 @@ public class ClienteService {
     @Autowired
     private ClienteRepository clienteRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private UnicidadeService unicidadeService;
+
+    @Value("${banco.lote.tamanho-transacao:500}")
+    private int tamanhoTransacao;
+
+    @Value("${spring.data.web.pageable.max-page-size:100}")
+    private int tamanhoMaximoPagina;
+
+    @Auditado
     @Transactional
     public Cliente salvar(ClienteDTO clienteDTO) {
         Cliente cliente = new Cliente();
         cliente.setCpf(clienteDTO.getCpf());
         cliente.setNome(clienteDTO.getNome());
+        unicidadeService.verificar(Chave.CLIENTE, cliente.getCpf());
+        unicidadeService.registrar(Chave.CLIENTE, cliente.getCpf());
         return clienteRepository.save(cliente);
     }
 
+    @Auditado
+    public ResultadoImportacaoDTO importar(Iterator<ClienteDTO> clientes) {
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+        List<Cliente> lote = new ArrayList<>(tamanhoTransacao);
+        List<Integer> indices = new ArrayList<>(tamanhoTransacao);
+        Set<String> cpfsDoLote = new HashSet<>();
+
+        // Um item mal formado interrompe a leitura do fluxo e um lote que falha ao gravar tem seus
+        // itens rejeitados; nos dois casos o resultado parcial é devolvido.
+        for (int indice = 0; ; indice++) {
+            ClienteDTO clienteDTO;
+            try {
+                if (!clientes.hasNext()) {
+                    break;
+                }
+                clienteDTO = clientes.next();
+            } catch (RuntimeException e) {
+                resultado.rejeitarMalFormado(indice);
+                break;
+            }
+            String violacoes = Violacoes.validar(validator, clienteDTO);
+            if (violacoes != null) {
+                resultado.rejeitar(indice, violacoes);
+                continue;
+            }
+            Cliente cliente = new Cliente(clienteDTO.getCpf(), clienteDTO.getNome());
+            if (unicidadeService.existe(Chave.CLIENTE, cliente.getCpf()) || !cpfsDoLote.add(cliente.getCpf())) {
+                resultado.rejeitar(indice, Chave.CLIENTE.mensagem(cliente.getCpf()));
+                continue;
+            }
+            lote.add(cliente);
+            indices.add(indice);
+            if (lote.size() == tamanhoTransacao) {
+                gravar(lote, indices, resultado);
+                cpfsDoLote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            gravar(lote, indices, resultado);
+        }
+        return resultado;
+    }
+
+    private void gravar(List<Cliente> lote, List<Integer> indices, ResultadoImportacaoDTO resultado) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                clienteRepository.saveAll(lote);
+                lote.forEach(cliente -> unicidadeService.registrar(Chave.CLIENTE, cliente.getCpf()));
+            });
+            resultado.adicionarImportados(lote.size());
+        } catch (RuntimeException e) {
+            resultado.rejeitarLote(indices);
+        }
+        lote.clear();
+        indices.clear();
+    }
+
     public Cliente buscarPorId(Long id) {
         return clienteRepository.findById(id)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Cliente não encontrado com ID: " + id));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CLIENTE_NAO_ENCONTRADO, "ID", id));
     }
 
     public Cliente buscarPorCpf(String cpf) {
-        return clienteRepository.findByCpf(cpf)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Cliente não encontrado com CPF: " + cpf));
+        return clienteRepository.findByCpf(NormalizadorDocumento.normalizar(cpf))
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CLIENTE_NAO_ENCONTRADO, "CPF", cpf));
     }
 
-    public List<Cliente> buscarPorNome(String nome) {
-        return clienteRepository.findByNomeContainingIgnoreCase(nome);
+    public Page<Cliente> buscarPorNome(String nome, Pageable pageable) {
+        return clienteRepository.buscarPorPrefixo(NormalizadorNome.padraoPrefixo(nome), pageable);
     }
 
+    public PaginaCursorDTO<Cliente> buscarPorNome(String nome, Long apos, int tamanho) {
+        int limite = Paginas.tamanho(tamanho, tamanhoMaximoPagina);
+        String padrao = NormalizadorNome.padraoPrefixo(nome);
+        List<Cliente> clientes = apos == null
+                ? clienteRepository.buscarPorPrefixo(padrao, Paginas.limite(limite))
+                : clienteRepository.buscarPorPrefixoApos(padrao, nomeNormalizado(apos), apos, Paginas.limite(limite));
+        return Paginas.cursor(clientes, limite, Cliente::getId);
+    }
+
+    private String nomeNormalizado(Long id) {
+        return clienteRepository.findNomeNormalizadoById(id)
+                .orElseThrow(() -> new OperacaoInvalidaException(CodigoErro.CURSOR_INVALIDO, id));
+    }
+
+    @Auditado(entidade = Cliente.class)
     @Transactional
     public Cliente atualizar(Long id, ClienteDTO clienteDTO) {
         Cliente clienteExistente = clienteRepository.findById(id)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Cliente não encontrado com ID: " + id));
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CLIENTE_NAO_ENCONTRADO, "ID", id));
 
+        String cpfAnterior = clienteExistente.getCpf();
         clienteExistente.setCpf(clienteDTO.getCpf());
         clienteExistente.setNome(clienteDTO.getNome());
+        if (!clienteExistente.getCpf().equals(cpfAnterior)) {
+            unicidadeService.verificar(Chave.CLIENTE, clienteExistente.getCpf());
+        }
 
+        unicidadeService.substituir(Chave.CLIENTE, cpfAnterior, clienteExistente.getCpf());
         return clienteRepository.save(clienteExistente);
     }
 
+    @Auditado(entidade = Cliente.class)
     @Transactional
     public void deletar(Long id) {
-        if (!clienteRepository.existsById(id)) {
-            throw new EntidadeNaoEncontradaException("Cliente não encontrado com ID: " + id);
-        }
-        clienteRepository.deleteById(id);
+        Cliente cliente = clienteRepository.findById(id)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CLIENTE_NAO_ENCONTRADO, "ID", id));
+        clienteRepository.delete(cliente);
+        unicidadeService.remover(Chave.CLIENTE, cliente.getCpf());
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.org.fundatec.sistemabancario.service;
+
+// Conjunto de chaves long com endereçamento aberto (sondagem linear), sem boxing. As operações são
+// curtas e sincronizadas, pois o conjunto é consultado e alterado por requisições concorrentes.
+final class ConjuntoChaves {
+
+    private static final float CARGA_MAXIMA = 0.5f;
+
+    private long[] chaves;
+    private boolean[] ocupados;
+    private int tamanho;
+
+    ConjuntoChaves(int capacidadeInicial) {
+        int capacidade = Integer.highestOneBit(Math.max(capacidadeInicial, 8) * 2 - 1);
+        chaves = new long[capacidade];
+        ocupados = new boolean[capacidade];
+    }
+
+    synchronized boolean contem(long chave) {
+        return ocupados[posicao(chave)];
+    }
+
+    synchronized void adicionar(long chave) {
+        int i = posicao(chave);
+        if (ocupados[i]) {
+            return;
+        }
+        if (tamanho + 1 > chaves.length * CARGA_MAXIMA) {
+            redimensionar();
+            i = posicao(chave);
+        }
+        ocupados[i] = true;
+        chaves[i] = chave;
+        tamanho++;
+    }
+
+    synchronized void remover(long chave) {
+        int i = posicao(chave);
+        if (!ocupados[i]) {
+            return;
+        }
+        ocupados[i] = false;
+        tamanho--;
+        int mascara = chaves.length - 1;
+        // Remoção com deslocamento para trás, mantendo as cadeias de sondagem sem lápides.
+        for (int j = (i + 1) & mascara; ocupados[j]; j = (j + 1) & mascara) {
+            int ideal = indice(chaves[j]);
+            if (((j - ideal) & mascara) >= ((j - i) & mascara)) {
+                chaves[i] = chaves[j];
+                ocupados[i] = true;
+                ocupados[j] = false;
+                i = j;
+            }
+        }
+    }
+
+    synchronized int tamanho() {
+        return tamanho;
+    }
+
+    private int posicao(long chave) {
+        int mascara = chaves.length - 1;
+        int i = indice(chave);
+        while (ocupados[i] && chaves[i] != chave) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    private int indice(long chave) {
+        long espalhado = chave * 0x9E3779B97F4A7C15L;
+        return (int) (espalhado ^ (espalhado >>> 32)) & (chaves.length - 1);
+    }
+
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        boolean[] ocupadosAntigos = ocupados;
+        int capacidade = chavesAntigas.length * 2;
+        chaves = new long[capacidade];
+        ocupados = new boolean[capacidade];
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            if (ocupadosAntigos[i]) {
+                int j = posicao(chavesAntigas[i]);
+                ocupados[j] = true;
+                chaves[j] = chavesAntigas[i];
+            }
+        }
+    }
+}
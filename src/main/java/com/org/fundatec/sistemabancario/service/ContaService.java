@@ -1,15 +1,36 @@
 package com.org.fundatec.sistemabancario.service;
 
+import com.org.fundatec.sistemabancario.auditoria.Auditado;
 import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.dto.ContaResumoDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
+import com.org.fundatec.sistemabancario.dto.SaldoDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
 import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoEventoConta;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.AgenciaRepository;
+import com.org.fundatec.sistemabancario.repository.ClienteRepository;
 import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.service.UnicidadeService.Chave;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class ContaService {
@@ -23,45 +44,248 @@ public class ContaService {
     @Autowired
     private AgenciaService agenciaService;
 
+    @Autowired
+    private MovimentacaoService movimentacaoService;
+
+    @Autowired
+    private DepositoAgregadoService depositoAgregadoService;
+
+    @Autowired
+    private RazaoSaldosService razaoSaldosService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private AgenciaRepository agenciaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EventoContaService eventoContaService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private UnicidadeService unicidadeService;
+
+    @Value("${banco.lote.tamanho-transacao:500}")
+    private int tamanhoTransacao;
+
+    @Auditado
     @Transactional
     public Conta salvar(ContaDTO contaDTO) {
+        unicidadeService.verificar(Chave.CONTA, contaDTO.getNumero());
         Conta conta = new Conta();
         conta.setNumero(contaDTO.getNumero());
         conta.setSaldo(contaDTO.getSaldo());
         conta.setCliente(clienteService.buscarPorId(contaDTO.getClienteId()));
         conta.setAgencia(agenciaService.buscarPorId(contaDTO.getAgenciaId()));
-        return contaRepository.save(conta);
+        unicidadeService.registrar(Chave.CONTA, conta.getNumero());
+        Conta contaSalva = contaRepository.save(conta);
+        eventoContaService.registrar(contaSalva.getId(), TipoEventoConta.CONTA_CRIADA, null, LocalDateTime.now());
+
+        if (contaSalva.getSaldo() != null && contaSalva.getSaldo().signum() > 0) {
+            movimentacaoService.registrar(contaSalva.getId(), TipoMovimentacao.DEPOSITO, contaSalva.getSaldo());
+        }
+        return contaSalva;
+    }
+
+    @Auditado
+    public ResultadoImportacaoDTO importar(Iterator<ContaDTO> contas) {
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+        List<ContaDTO> lote = new ArrayList<>(tamanhoTransacao);
+        List<Integer> indices = new ArrayList<>(tamanhoTransacao);
+        Set<Integer> numerosDoLote = new HashSet<>();
+
+        // Um item mal formado interrompe a leitura do fluxo e um lote que falha ao gravar tem seus
+        // itens rejeitados; nos dois casos o resultado parcial é devolvido.
+        for (int indice = 0; ; indice++) {
+            ContaDTO contaDTO;
+            try {
+                if (!contas.hasNext()) {
+                    break;
+                }
+                contaDTO = contas.next();
+            } catch (RuntimeException e) {
+                resultado.rejeitarMalFormado(indice);
+                break;
+            }
+            String violacoes = Violacoes.validar(validator, contaDTO);
+            if (violacoes != null) {
+                resultado.rejeitar(indice, violacoes);
+                continue;
+            }
+            if (unicidadeService.existe(Chave.CONTA, contaDTO.getNumero()) || !numerosDoLote.add(contaDTO.getNumero())) {
+                resultado.rejeitar(indice, Chave.CONTA.mensagem(contaDTO.getNumero()));
+                continue;
+            }
+            lote.add(contaDTO);
+            indices.add(indice);
+            if (lote.size() == tamanhoTransacao) {
+                gravar(lote, indices, resultado);
+                numerosDoLote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            gravar(lote, indices, resultado);
+        }
+        return resultado;
+    }
+
+    private void gravar(List<ContaDTO> lote, List<Integer> indices, ResultadoImportacaoDTO resultado) {
+        ResultadoImportacaoDTO parcial = new ResultadoImportacaoDTO();
+        try {
+            transactionTemplate.executeWithoutResult(status -> gravarNaTransacao(lote, indices, parcial));
+            resultado.incorporar(parcial);
+        } catch (RuntimeException e) {
+            resultado.rejeitarLote(indices);
+        }
+        lote.clear();
+        indices.clear();
+    }
+
+    private void gravarNaTransacao(List<ContaDTO> lote, List<Integer> indices, ResultadoImportacaoDTO resultado) {
+        Set<Long> clientes = clienteRepository.findIdsExistentes(
+                lote.stream().map(ContaDTO::getClienteId).collect(Collectors.toSet()));
+        Set<Long> agencias = agenciaRepository.findIdsExistentes(
+                lote.stream().map(ContaDTO::getAgenciaId).collect(Collectors.toSet()));
+
+        List<Conta> novas = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            ContaDTO contaDTO = lote.get(i);
+            if (!clientes.contains(contaDTO.getClienteId())) {
+                resultado.rejeitar(indices.get(i), "Cliente não encontrado com ID: " + contaDTO.getClienteId());
+            } else if (!agencias.contains(contaDTO.getAgenciaId())) {
+                resultado.rejeitar(indices.get(i), "Agência não encontrada com ID: " + contaDTO.getAgenciaId());
+            } else {
+                Conta conta = new Conta(contaDTO.getNumero(),
+                        clienteRepository.getReferenceById(contaDTO.getClienteId()),
+                        agenciaRepository.getReferenceById(contaDTO.getAgenciaId()));
+                conta.setSaldo(contaDTO.getSaldo());
+                novas.add(conta);
+            }
+        }
+
+        for (Conta conta : contaRepository.saveAll(novas)) {
+            unicidadeService.registrar(Chave.CONTA, conta.getNumero());
+            eventoContaService.registrar(conta.getId(), TipoEventoConta.CONTA_CRIADA, null, LocalDateTime.now());
+            if (conta.getSaldo() != null && conta.getSaldo().signum() > 0) {
+                movimentacaoService.registrar(conta, TipoMovimentacao.DEPOSITO, conta.getSaldo());
+            }
+        }
+        resultado.adicionarImportados(novas.size());
     }
 
     public Conta buscarPorNumero(Integer numero) {
-        return contaRepository.findByNumero(numero)
-                .orElseThrow(() -> new EntidadeNaoEncontradaException("Conta não encontrada com número: " + numero));
+        Conta conta = contaRepository.findByNumero(numero)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", numero));
+        if (razaoSaldosService.isAtivo()) {
+            conta.setSaldo(saldoEmMemoria(numero));
+        }
+        return conta;
     }
 
-    @Transactional
-    public void depositar(Integer numero, BigDecimal valor) {
-        Conta conta = buscarPorNumero(numero);
-        conta.setSaldo(conta.getSaldo().add(valor));
-        contaRepository.save(conta);
+    public SaldoDTO buscarSaldo(Integer numero) {
+        if (razaoSaldosService.isAtivo()) {
+            return new SaldoDTO(numero, saldoEmMemoria(numero));
+        }
+        return contaRepository.buscarSaldo(numero)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", numero));
     }
 
-    @Transactional
-    public void sacar(Integer numero, BigDecimal valor) {
-        Conta conta = buscarPorNumero(numero);
+    public ContaResumoDTO buscarResumo(Integer numero) {
+        ContaResumoDTO resumo = contaRepository.buscarResumo(numero)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", numero));
+        if (razaoSaldosService.isAtivo()) {
+            resumo.setSaldo(saldoEmMemoria(numero));
+        }
+        return resumo;
+    }
+
+    private Dinheiro saldoEmMemoria(Integer numero) {
+        return Dinheiro.deCentavos(razaoSaldosService.saldo(numero));
+    }
+
+    public Long buscarIdPorNumero(Integer numero) {
+        return contaRepository.findIdByNumero(numero)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", numero));
+    }
+
+    @Auditado
+    public void depositar(Integer numero, Dinheiro valor) {
+        if (razaoSaldosService.isAtivo()) {
+            razaoSaldosService.depositar(numero, valor.getCentavos());
+            return;
+        }
+        if (depositoAgregadoService.isAgregada(numero)) {
+            depositoAgregadoService.depositar(numero, valor);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> creditar(numero, valor, TipoMovimentacao.DEPOSITO));
+    }
+
+    @Auditado
+    public void sacar(Integer numero, Dinheiro valor) {
+        if (razaoSaldosService.isAtivo()) {
+            razaoSaldosService.sacar(numero, valor.getCentavos());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> debitar(numero, valor, TipoMovimentacao.SAQUE));
+    }
 
-        if (conta.getSaldo().compareTo(valor) < 0) {
-            throw new OperacaoInvalidaException("Saldo insuficiente para saque");
+    @Auditado
+    public void transferir(Integer numeroOrigem, Integer numeroDestino, Dinheiro valor) {
+        if (numeroOrigem.equals(numeroDestino)) {
+            throw new OperacaoInvalidaException(CodigoErro.CONTAS_IGUAIS);
         }
+        if (razaoSaldosService.isAtivo()) {
+            razaoSaldosService.transferir(numeroOrigem, numeroDestino, valor.getCentavos());
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> transferirNoBanco(numeroOrigem, numeroDestino, valor));
+    }
 
-        conta.setSaldo(conta.getSaldo().subtract(valor));
-        contaRepository.save(conta);
+    private void transferirNoBanco(Integer numeroOrigem, Integer numeroDestino, Dinheiro valor) {
+        // As linhas são sempre bloqueadas em ordem crescente de número para que
+        // transferências em sentidos opostos não entrem em deadlock.
+        if (numeroOrigem < numeroDestino) {
+            debitar(numeroOrigem, valor, TipoMovimentacao.TRANSFERENCIA_ENVIADA);
+            creditar(numeroDestino, valor, TipoMovimentacao.TRANSFERENCIA_RECEBIDA);
+        } else {
+            creditar(numeroDestino, valor, TipoMovimentacao.TRANSFERENCIA_RECEBIDA);
+            debitar(numeroOrigem, valor, TipoMovimentacao.TRANSFERENCIA_ENVIADA);
+        }
+    }
+
+    private void creditar(Integer numero, Dinheiro valor, TipoMovimentacao tipo) {
+        Long contaId = buscarIdPorNumero(numero);
+        if (contaRepository.creditar(contaId, valor) == 0) {
+            throw new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", numero);
+        }
+        movimentacaoService.registrar(contaId, tipo, valor);
+    }
+
+    private void debitar(Integer numero, Dinheiro valor, TipoMovimentacao tipo) {
+        Long contaId = buscarIdPorNumero(numero);
+        if (contaRepository.debitar(contaId, valor) == 0) {
+            throw new SaldoInsuficienteException();
+        }
+        movimentacaoService.registrar(contaId, tipo, valor);
     }
 
+    @Auditado(entidade = Conta.class)
     @Transactional
     public void deletar(Long id) {
-        if (!contaRepository.existsById(id)) {
-            throw new EntidadeNaoEncontradaException("Conta não encontrada com ID: " + id);
+        Conta conta = contaRepository.findById(id)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "ID", id));
+        if (razaoSaldosService.isAtivo()) {
+            razaoSaldosService.remover(conta.getNumero(), conta.getId());
         }
-        contaRepository.deleteById(id);
+        contaRepository.delete(conta);
+        unicidadeService.remover(Chave.CONTA, conta.getNumero());
+        depositoAgregadoService.esquecer(conta.getNumero());
     }
 }
\ No newline at end of file
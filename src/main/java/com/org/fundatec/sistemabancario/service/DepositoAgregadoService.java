@@ -0,0 +1,304 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.ServicoIndisponivelException;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.SegmentoJournalAplicado;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.repository.SegmentoJournalAplicadoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Depósitos em contas de alto volume (banco.agregacao.contas) são confirmados após gravação em um
+// journal local e aplicados ao saldo em um único UPDATE por conta a cada intervalo. Um segmento que
+// falha não bloqueia os seguintes; depois de banco.agregacao.tentativas falhas ele vai para a
+// quarentena, assim como os totais de contas que deixaram de existir.
+@Service
+public class DepositoAgregadoService {
+
+    public static final String QUARENTENA = "banco.agregacao.quarentena";
+
+    private static final String DIRETORIO_QUARENTENA = "quarentena";
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private MovimentacaoService movimentacaoService;
+
+    @Autowired
+    private SegmentoJournalAplicadoRepository segmentoJournalAplicadoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private RazaoSaldosService razaoSaldosService;
+
+    @Value("${banco.agregacao.contas:}")
+    private Set<Integer> contas;
+
+    @Value("${banco.agregacao.diretorio:dados/journal-depositos}")
+    private Path diretorio;
+
+    @Value("${banco.agregacao.tentativas:50}")
+    private int tentativas;
+
+    private final ReadWriteLock rotacao = new ReentrantReadWriteLock();
+    private final Map<Integer, Long> ids = new ConcurrentHashMap<>();
+    private final List<Pendente> pendentes = new ArrayList<>();
+    private volatile SegmentoJournal atual;
+    private Counter depositosOrfaos;
+    private Counter segmentosFalhos;
+
+    @PostConstruct
+    void iniciar() throws IOException {
+        depositosOrfaos = Counter.builder(QUARENTENA)
+                .description("Totais de depósito agregado de contas excluídas, gravados na quarentena em vez de creditados")
+                .tag("motivo", "conta-inexistente")
+                .register(registry);
+        segmentosFalhos = Counter.builder(QUARENTENA)
+                .description("Totais de depósito agregado de segmentos movidos para a quarentena após esgotar as tentativas")
+                .tag("motivo", "falhas")
+                .register(registry);
+        if (contas.isEmpty()) {
+            return;
+        }
+        // O snapshot do razão grava saldos absolutos e sobrescreveria os créditos agregados.
+        if (razaoSaldosService.isAtivo()) {
+            throw new IllegalStateException("banco.agregacao.contas não é suportado com banco.saldos.armazenamento=memoria");
+        }
+        Files.createDirectories(diretorio);
+        recuperar();
+        atual = SegmentoJournal.criar(diretorio);
+    }
+
+    public boolean isAtivo() {
+        return !contas.isEmpty();
+    }
+
+    public boolean isAgregada(Integer numero) {
+        return contas.contains(numero);
+    }
+
+    // O read lock cobre também o force: a rotação só lê os totais de um segmento depois que os depósitos
+    // em andamento nele foram sincronizados ou recusados.
+    public void depositar(Integer numero, Dinheiro valor) {
+        buscarId(numero);
+        rotacao.readLock().lock();
+        try {
+            SegmentoJournal segmento = atual;
+            if (segmento == null) {
+                throw new ServicoIndisponivelException(CodigoErro.SERVICO_ENCERRANDO);
+            }
+            segmento.anexar(numero, valor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rotacao.readLock().unlock();
+        }
+    }
+
+    // Chamado na exclusão da conta; repetido após o commit para descartar um ID recarregado no meio tempo.
+    public void esquecer(Integer numero) {
+        ids.remove(numero);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.remove(numero);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${banco.agregacao.intervalo:PT0.2S}")
+    public synchronized void descarregar() throws IOException {
+        if (atual == null) {
+            return;
+        }
+        SegmentoJournal anterior;
+        rotacao.writeLock().lock();
+        try {
+            anterior = atual;
+            if (!anterior.isVazio()) {
+                atual = SegmentoJournal.criar(diretorio);
+            }
+        } finally {
+            rotacao.writeLock().unlock();
+        }
+        if (anterior != atual) {
+            // Os totais já estão sincronizados, então o segmento fica pendente mesmo se o fechamento falhar.
+            pendentes.add(new Pendente(anterior.getId(), anterior.getArquivo(), anterior.getTotais()));
+            anterior.fechar();
+        }
+        processarPendentes();
+    }
+
+    @PreDestroy
+    synchronized void encerrar() throws IOException {
+        if (atual == null) {
+            return;
+        }
+        descarregar();
+        SegmentoJournal ultimo;
+        rotacao.writeLock().lock();
+        try {
+            ultimo = atual;
+            atual = null;
+        } finally {
+            rotacao.writeLock().unlock();
+        }
+        ultimo.fechar();
+        if (ultimo.isVazio()) {
+            ultimo.excluir();
+        }
+    }
+
+    private void recuperar() throws IOException {
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, SegmentoJournal.PADRAO_ARQUIVO)) {
+            for (Path arquivo : arquivos) {
+                String id = SegmentoJournal.id(arquivo);
+                if (segmentoJournalAplicadoRepository.existsById(id)) {
+                    Files.delete(arquivo);
+                } else {
+                    pendentes.add(new Pendente(id, arquivo, SegmentoJournal.ler(arquivo)));
+                }
+            }
+        }
+        processarPendentes();
+    }
+
+    // Os créditos são comutativos, então cada segmento é tentado independentemente dos anteriores.
+    private void processarPendentes() throws IOException {
+        Iterator<Pendente> iterador = pendentes.iterator();
+        while (iterador.hasNext()) {
+            Pendente pendente = iterador.next();
+            try {
+                aplicar(pendente.id, pendente.totais);
+                Files.deleteIfExists(pendente.arquivo);
+                iterador.remove();
+            } catch (RuntimeException e) {
+                if (++pendente.falhas >= tentativas) {
+                    Files.move(pendente.arquivo, quarentena().resolve(pendente.arquivo.getFileName()),
+                            StandardCopyOption.REPLACE_EXISTING);
+                    segmentosFalhos.increment(pendente.totais.size());
+                    iterador.remove();
+                }
+            }
+        }
+    }
+
+    // Totais de contas excluídas são gravados na quarentena antes da transação e removidos se ela não
+    // confirmar; uma nova tentativa sobrescreve o mesmo arquivo. Uma conta excluída entre a consulta e o
+    // crédito desfaz a transação, e a tentativa seguinte a encontra entre os órfãos.
+    private void aplicar(String segmento, Map<Integer, Dinheiro> totais) {
+        if (totais.isEmpty()) {
+            return;
+        }
+        Map<Long, Dinheiro> creditos = new HashMap<>();
+        Map<Integer, Dinheiro> orfaos = new TreeMap<>();
+        totais.forEach((numero, total) -> contaRepository.findIdByNumero(numero).ifPresentOrElse(
+                contaId -> creditos.put(contaId, total), () -> orfaos.put(numero, total)));
+        Path arquivoOrfaos = orfaos.isEmpty() ? null : gravarOrfaos(segmento, orfaos);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                creditos.forEach((contaId, total) -> {
+                    if (contaRepository.creditar(contaId, total) == 0) {
+                        throw new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "id", contaId);
+                    }
+                    movimentacaoService.registrar(contaId, TipoMovimentacao.DEPOSITO, total);
+                });
+                segmentoJournalAplicadoRepository.save(new SegmentoJournalAplicado(segmento, Instant.now()));
+            });
+        } catch (RuntimeException e) {
+            if (arquivoOrfaos != null) {
+                try {
+                    Files.deleteIfExists(arquivoOrfaos);
+                } catch (IOException falhaExclusao) {
+                    e.addSuppressed(falhaExclusao);
+                }
+            }
+            throw e;
+        }
+        depositosOrfaos.increment(orfaos.size());
+    }
+
+    private Path gravarOrfaos(String segmento, Map<Integer, Dinheiro> orfaos) {
+        StringBuilder conteudo = new StringBuilder();
+        orfaos.forEach((numero, total) -> conteudo.append(numero).append(';').append(total).append('\n'));
+        try {
+            Path arquivo = quarentena().resolve("depositos-" + segmento + ".orfaos");
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer registro = ByteBuffer.wrap(conteudo.toString().getBytes(StandardCharsets.UTF_8));
+                while (registro.hasRemaining()) {
+                    canal.write(registro);
+                }
+                canal.force(false);
+            }
+            return arquivo;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path quarentena() throws IOException {
+        return Files.createDirectories(diretorio.resolve(DIRETORIO_QUARENTENA));
+    }
+
+    private Long buscarId(Integer numero) {
+        return ids.computeIfAbsent(numero, n -> contaRepository.findIdByNumero(n)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", n)));
+    }
+
+    private static final class Pendente {
+
+        private final String id;
+        private final Path arquivo;
+        private final Map<Integer, Dinheiro> totais;
+        private int falhas;
+
+        private Pendente(String id, Path arquivo, Map<Integer, Dinheiro> totais) {
+            this.id = id;
+            this.arquivo = arquivo;
+            this.totais = totais;
+        }
+    }
+}
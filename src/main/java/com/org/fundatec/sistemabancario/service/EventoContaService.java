@@ -0,0 +1,24 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.EventoConta;
+import com.org.fundatec.sistemabancario.model.TipoEventoConta;
+import com.org.fundatec.sistemabancario.repository.EventoContaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+public class EventoContaService {
+
+    @Autowired
+    private EventoContaRepository eventoContaRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EventoConta registrar(Long contaId, TipoEventoConta tipo, Dinheiro valor, LocalDateTime dataHora) {
+        return eventoContaRepository.save(new EventoConta(contaId, tipo, valor, dataHora));
+    }
+}
@@ -0,0 +1,152 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.ServicoIndisponivelException;
+import com.org.fundatec.sistemabancario.model.RegistroIdempotencia;
+import com.org.fundatec.sistemabancario.repository.RegistroIdempotenciaRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+// As chaves são do cliente (usuário autenticado ou endereço de origem): a mesma chave enviada por
+// clientes diferentes identifica operações diferentes. O armazenamento é limitado só pela validade;
+// cheio, recusa chaves novas com 503 em vez de descartar uma ainda válida.
+@Service
+public class IdempotenciaService {
+
+    public static final String CABECALHO = "Idempotency-Key";
+    public static final String CABECALHO_REPETICAO = "Idempotency-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    @Autowired
+    private RegistroIdempotenciaRepository registroIdempotenciaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RazaoSaldosService razaoSaldosService;
+
+    @Autowired
+    private DepositoAgregadoService depositoAgregadoService;
+
+    @Value("${banco.idempotencia.validade:PT24H}")
+    private Duration validade;
+
+    @Value("${banco.idempotencia.capacidade:100000}")
+    private long capacidade;
+
+    @Value("${banco.idempotencia.persistente:false}")
+    private boolean persistente;
+
+    private Cache<String, RegistroIdempotencia> registros;
+
+    @PostConstruct
+    void iniciar() {
+        // O registro persistente só é atômico com operações gravadas na mesma transação JPA; o razão em
+        // memória e os depósitos agregados confirmam fora dela.
+        if (persistente && (razaoSaldosService.isAtivo() || depositoAgregadoService.isAtivo())) {
+            throw new IllegalStateException("banco.idempotencia.persistente não é suportado com "
+                    + "banco.saldos.armazenamento=memoria nem com banco.agregacao.contas");
+        }
+        registros = Caffeine.newBuilder()
+                .expireAfterWrite(validade)
+                .build();
+    }
+
+    public ResponseEntity<Void> executar(String cliente, String chave, String impressao,
+                                         Supplier<ResponseEntity<Void>> operacao) {
+        if (chave == null) {
+            return operacao.get();
+        }
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new OperacaoInvalidaException(CABECALHO + " inválida");
+        }
+        String chaveCliente = chaveCliente(cliente, chave);
+
+        RegistroIdempotencia existente = reservar(chaveCliente, impressao);
+        if (existente != null) {
+            return repetir(existente, chave, impressao);
+        }
+
+        try {
+            ResponseEntity<Void> resposta = persistente
+                    ? transactionTemplate.execute(status -> executarRegistrando(chaveCliente, impressao, operacao))
+                    : operacao.get();
+            registros.put(chaveCliente,
+                    new RegistroIdempotencia(chaveCliente, impressao, resposta.getStatusCode().value(), Instant.now()));
+            return resposta;
+        } catch (RuntimeException e) {
+            registros.invalidate(chaveCliente);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${banco.idempotencia.limpeza:PT1H}", initialDelayString = "${banco.idempotencia.limpeza:PT1H}")
+    @Transactional
+    public void removerExpirados() {
+        if (persistente) {
+            registroIdempotenciaRepository.removerCriadosAntesDe(Instant.now().minus(validade));
+        }
+    }
+
+    // O tamanho do cliente no prefixo impede que dois pares (cliente, chave) formem o mesmo texto.
+    private static String chaveCliente(String cliente, String chave) {
+        return cliente.length() + ":" + cliente + ":" + chave;
+    }
+
+    private RegistroIdempotencia reservar(String chave, String impressao) {
+        RegistroIdempotencia existente = registros.getIfPresent(chave);
+        if (existente != null) {
+            return existente;
+        }
+        if (registros.estimatedSize() >= capacidade) {
+            registros.cleanUp();
+            if (registros.estimatedSize() >= capacidade) {
+                throw new ServicoIndisponivelException(CodigoErro.IDEMPOTENCIA_ESGOTADA);
+            }
+        }
+        existente = registros.asMap().putIfAbsent(chave, RegistroIdempotencia.emAndamento(chave, impressao));
+        if (existente == null && persistente) {
+            RegistroIdempotencia gravado = registroIdempotenciaRepository.findById(chave).orElse(null);
+            if (gravado != null && gravado.getCriadoEm().plus(validade).isBefore(Instant.now())) {
+                registroIdempotenciaRepository.delete(gravado);
+            } else if (gravado != null) {
+                registros.put(chave, gravado);
+                existente = gravado;
+            }
+        }
+        return existente;
+    }
+
+    private ResponseEntity<Void> executarRegistrando(String chave, String impressao, Supplier<ResponseEntity<Void>> operacao) {
+        ResponseEntity<Void> resposta = operacao.get();
+        registroIdempotenciaRepository.save(
+                new RegistroIdempotencia(chave, impressao, resposta.getStatusCode().value(), Instant.now()));
+        return resposta;
+    }
+
+    private ResponseEntity<Void> repetir(RegistroIdempotencia registro, String chave, String impressao) {
+        if (!registro.getImpressao().equals(impressao)) {
+            throw new OperacaoInvalidaException(CABECALHO + " já utilizada em outra requisição: " + chave);
+        }
+        if (registro.isEmAndamento()) {
+            throw new ConflitoException("Requisição com esta " + CABECALHO + " ainda em processamento: " + chave);
+        }
+        return ResponseEntity.status(registro.getStatus()).header(CABECALHO_REPETICAO, "true").build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.org.fundatec.sistemabancario.service;
+
+// Tabela de endereçamento aberto (sondagem linear) de número de conta para saldo em centavos,
+// sem boxing. Não é thread-safe: cada instância pertence a um único shard.
+final class MapaSaldos {
+
+    interface Visitante {
+        void visitar(int numero, long centavos);
+    }
+
+    private static final float CARGA_MAXIMA = 0.5f;
+
+    private int[] numeros;
+    private long[] saldos;
+    private boolean[] ocupados;
+    private boolean[] alterados;
+    private int tamanho;
+
+    MapaSaldos(int capacidadeInicial) {
+        int capacidade = Integer.highestOneBit(Math.max(capacidadeInicial, 8) * 2 - 1);
+        numeros = new int[capacidade];
+        saldos = new long[capacidade];
+        ocupados = new boolean[capacidade];
+        alterados = new boolean[capacidade];
+    }
+
+    boolean contem(int numero) {
+        return ocupados[posicao(numero)];
+    }
+
+    // Retorna o saldo ou Long.MIN_VALUE quando a conta não está carregada.
+    long obter(int numero) {
+        int i = posicao(numero);
+        return ocupados[i] ? saldos[i] : Long.MIN_VALUE;
+    }
+
+    void carregar(int numero, long centavos) {
+        int i = posicao(numero);
+        if (!ocupados[i]) {
+            if (tamanho + 1 > numeros.length * CARGA_MAXIMA) {
+                redimensionar();
+                i = posicao(numero);
+            }
+            ocupados[i] = true;
+            numeros[i] = numero;
+            tamanho++;
+        }
+        saldos[i] = centavos;
+    }
+
+    // A conta precisa estar carregada.
+    void somar(int numero, long centavos) {
+        int i = posicao(numero);
+        saldos[i] += centavos;
+        alterados[i] = true;
+    }
+
+    void marcarAlterado(int numero) {
+        int i = posicao(numero);
+        if (ocupados[i]) {
+            alterados[i] = true;
+        }
+    }
+
+    void remover(int numero) {
+        int i = posicao(numero);
+        if (!ocupados[i]) {
+            return;
+        }
+        ocupados[i] = false;
+        alterados[i] = false;
+        tamanho--;
+        int mascara = numeros.length - 1;
+        // Remoção com deslocamento para trás, mantendo as cadeias de sondagem sem lápides.
+        for (int j = (i + 1) & mascara; ocupados[j]; j = (j + 1) & mascara) {
+            int ideal = indice(numeros[j]);
+            if (((j - ideal) & mascara) >= ((j - i) & mascara)) {
+                numeros[i] = numeros[j];
+                saldos[i] = saldos[j];
+                alterados[i] = alterados[j];
+                ocupados[i] = true;
+                ocupados[j] = false;
+                alterados[j] = false;
+                i = j;
+            }
+        }
+    }
+
+    void drenarAlterados(Visitante visitante) {
+        for (int i = 0; i < numeros.length; i++) {
+            if (alterados[i]) {
+                alterados[i] = false;
+                visitante.visitar(numeros[i], saldos[i]);
+            }
+        }
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    private int posicao(int numero) {
+        int mascara = numeros.length - 1;
+        int i = indice(numero);
+        while (ocupados[i] && numeros[i] != numero) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    private int indice(int numero) {
+        int espalhado = numero * 0x9E3779B9;
+        return (espalhado ^ (espalhado >>> 16)) & (numeros.length - 1);
+    }
+
+    private void redimensionar() {
+        int[] numerosAntigos = numeros;
+        long[] saldosAntigos = saldos;
+        boolean[] ocupadosAntigos = ocupados;
+        boolean[] alteradosAntigos = alterados;
+        int capacidade = numerosAntigos.length * 2;
+        numeros = new int[capacidade];
+        saldos = new long[capacidade];
+        ocupados = new boolean[capacidade];
+        alterados = new boolean[capacidade];
+        for (int i = 0; i < numerosAntigos.length; i++) {
+            if (ocupadosAntigos[i]) {
+                int j = posicao(numerosAntigos[i]);
+                ocupados[j] = true;
+                numeros[j] = numerosAntigos[i];
+                saldos[j] = saldosAntigos[i];
+                alterados[j] = alteradosAntigos[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.dto.MovimentacaoDTO;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.Movimentacao;
+import com.org.fundatec.sistemabancario.model.TipoEventoConta;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.MovimentacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class MovimentacaoService {
+
+    @Autowired
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Autowired
+    private EventoContaService eventoContaService;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Movimentacao registrar(Conta conta, TipoMovimentacao tipo, Dinheiro valor) {
+        return registrar(conta.getId(), tipo, valor);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Movimentacao registrar(Long contaId, TipoMovimentacao tipo, Dinheiro valor) {
+        return registrar(contaId, tipo, valor, LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Movimentacao registrar(Long contaId, TipoMovimentacao tipo, Dinheiro valor, LocalDateTime dataHora) {
+        eventoContaService.registrar(contaId, TipoEventoConta.de(tipo), valor, dataHora);
+        return movimentacaoRepository.save(new Movimentacao(contaId, tipo, valor, dataHora));
+    }
+
+    public List<MovimentacaoDTO> buscarExtrato(Long contaId, MovimentacaoDTO ultima, int tamanho) {
+        if (ultima == null) {
+            return movimentacaoRepository.buscarExtrato(contaId, Limit.of(tamanho));
+        }
+        return movimentacaoRepository.buscarExtratoApos(contaId, ultima.getDataHora(), ultima.getId(),
+                Limit.of(tamanho));
+    }
+}
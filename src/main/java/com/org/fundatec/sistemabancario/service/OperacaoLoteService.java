@@ -0,0 +1,190 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.dto.OperacaoLoteDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoOperacaoDTO;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class OperacaoLoteService {
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private MovimentacaoService movimentacaoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RazaoSaldosService razaoSaldosService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${banco.lote.tamanho-transacao:500}")
+    private int tamanhoTransacao;
+
+    public List<ResultadoOperacaoDTO> processar(Iterator<OperacaoLoteDTO> operacoes) {
+        List<ResultadoOperacaoDTO> resultados = new ArrayList<>();
+        List<OperacaoLoteDTO> lote = new ArrayList<>(tamanhoTransacao);
+
+        // Uma falha de leitura do fluxo interrompe o processamento com um resultado INVALIDA; um lote
+        // que falha ao gravar tem suas operações marcadas FALHA e os seguintes continuam. Nos dois
+        // casos o resultado parcial é devolvido.
+        String interrupcao = null;
+        while (true) {
+            try {
+                if (!operacoes.hasNext()) {
+                    break;
+                }
+                lote.add(operacoes.next());
+            } catch (RuntimeException e) {
+                interrupcao = "Operação mal formada; processamento interrompido";
+                break;
+            }
+            if (lote.size() == tamanhoTransacao) {
+                resultados.addAll(processarLote(lote, resultados.size()));
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            resultados.addAll(processarLote(lote, resultados.size()));
+        }
+        if (interrupcao != null) {
+            resultados.add(new ResultadoOperacaoDTO(resultados.size(), null, ResultadoOperacaoDTO.Status.INVALIDA, interrupcao));
+        }
+        return resultados;
+    }
+
+    private List<ResultadoOperacaoDTO> processarLote(List<OperacaoLoteDTO> lote, int primeiroIndice) {
+        ResultadoOperacaoDTO[] resultados = new ResultadoOperacaoDTO[lote.size()];
+
+        // Agrupa por conta em ordem crescente de número, a mesma ordem de bloqueio usada em transferências.
+        Map<Integer, List<Integer>> posicoesPorConta = new TreeMap<>();
+        for (int i = 0; i < lote.size(); i++) {
+            OperacaoLoteDTO operacao = lote.get(i);
+            String invalida = validar(operacao);
+            if (invalida != null) {
+                resultados[i] = resultado(primeiroIndice + i, operacao, ResultadoOperacaoDTO.Status.INVALIDA, invalida);
+            } else {
+                posicoesPorConta.computeIfAbsent(operacao.getNumeroConta(), numero -> new ArrayList<>()).add(i);
+            }
+        }
+
+        if (!posicoesPorConta.isEmpty() && razaoSaldosService.isAtivo()) {
+            posicoesPorConta.forEach((numero, posicoes) -> {
+                for (int posicao : posicoes) {
+                    resultados[posicao] = aplicarNoRazao(lote.get(posicao), primeiroIndice + posicao);
+                }
+            });
+        } else if (!posicoesPorConta.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<Integer, Conta> contas = contaRepository.findByNumeroInOrderByNumero(posicoesPorConta.keySet())
+                            .stream()
+                            .collect(Collectors.toMap(Conta::getNumero, Function.identity()));
+
+                    posicoesPorConta.forEach((numero, posicoes) -> {
+                        Conta conta = contas.get(numero);
+                        for (int posicao : posicoes) {
+                            resultados[posicao] = aplicar(conta, lote.get(posicao), primeiroIndice + posicao);
+                        }
+                    });
+                });
+            } catch (RuntimeException e) {
+                // A transação foi desfeita: nenhuma operação do lote foi aplicada, nem as já avaliadas.
+                posicoesPorConta.forEach((numero, posicoes) -> {
+                    for (int posicao : posicoes) {
+                        resultados[posicao] = falha(lote.get(posicao), primeiroIndice + posicao);
+                    }
+                });
+            }
+        }
+        return List.of(resultados);
+    }
+
+    private ResultadoOperacaoDTO aplicar(Conta conta, OperacaoLoteDTO operacao, int indice) {
+        if (conta == null) {
+            return resultado(indice, operacao, ResultadoOperacaoDTO.Status.CONTA_NAO_ENCONTRADA,
+                    "Conta não encontrada com número: " + operacao.getNumeroConta());
+        }
+
+        Dinheiro valor = operacao.getValor();
+        if (operacao.getTipo() == TipoMovimentacao.SAQUE) {
+            if (conta.getSaldo().menorQue(valor)) {
+                return resultado(indice, operacao, ResultadoOperacaoDTO.Status.SALDO_INSUFICIENTE,
+                        "Saldo insuficiente para saque");
+            }
+            conta.setSaldo(conta.getSaldo().subtrair(valor));
+        } else {
+            conta.setSaldo(conta.getSaldo().somar(valor));
+        }
+        movimentacaoService.registrar(conta, operacao.getTipo(), valor);
+        return resultado(indice, operacao, ResultadoOperacaoDTO.Status.SUCESSO, null);
+    }
+
+    // Com os saldos em memória a operação passa pelo razão, que grava o log e as movimentações.
+    private ResultadoOperacaoDTO aplicarNoRazao(OperacaoLoteDTO operacao, int indice) {
+        long centavos = operacao.getValor().getCentavos();
+        try {
+            if (operacao.getTipo() == TipoMovimentacao.SAQUE) {
+                razaoSaldosService.sacar(operacao.getNumeroConta(), centavos);
+            } else {
+                razaoSaldosService.depositar(operacao.getNumeroConta(), centavos);
+            }
+        } catch (EntidadeNaoEncontradaException e) {
+            return resultado(indice, operacao, ResultadoOperacaoDTO.Status.CONTA_NAO_ENCONTRADA,
+                    "Conta não encontrada com número: " + operacao.getNumeroConta());
+        } catch (SaldoInsuficienteException e) {
+            return resultado(indice, operacao, ResultadoOperacaoDTO.Status.SALDO_INSUFICIENTE,
+                    "Saldo insuficiente para saque");
+        } catch (RuntimeException e) {
+            return falha(operacao, indice);
+        }
+        return resultado(indice, operacao, ResultadoOperacaoDTO.Status.SUCESSO, null);
+    }
+
+    private ResultadoOperacaoDTO falha(OperacaoLoteDTO operacao, int indice) {
+        return resultado(indice, operacao, ResultadoOperacaoDTO.Status.FALHA,
+                "Falha ao gravar o lote; operação não aplicada");
+    }
+
+    private String validar(OperacaoLoteDTO operacao) {
+        if (operacao == null) {
+            return "Operação é obrigatória";
+        }
+        String violacoes = Violacoes.validar(validator, operacao);
+        if (violacoes != null) {
+            return violacoes;
+        }
+        if (operacao.getTipo() != TipoMovimentacao.DEPOSITO && operacao.getTipo() != TipoMovimentacao.SAQUE) {
+            return "tipo - Operação em lote deve ser DEPOSITO ou SAQUE;";
+        }
+        return null;
+    }
+
+    private ResultadoOperacaoDTO resultado(int indice, OperacaoLoteDTO operacao,
+                                           ResultadoOperacaoDTO.Status status, String mensagem) {
+        Integer numeroConta = operacao != null ? operacao.getNumeroConta() : null;
+        return new ResultadoOperacaoDTO(indice, numeroConta, status, mensagem);
+    }
+}
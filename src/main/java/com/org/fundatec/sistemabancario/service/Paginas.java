@@ -0,0 +1,33 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+final class Paginas {
+
+    private Paginas() {
+    }
+
+    static long inicio(Long apos) {
+        return apos == null ? 0L : apos;
+    }
+
+    static int tamanho(int solicitado, int maximo) {
+        return Math.max(1, Math.min(solicitado, maximo));
+    }
+
+    static Limit limite(int tamanho) {
+        return Limit.of(tamanho + 1);
+    }
+
+    static <T> PaginaCursorDTO<T> cursor(List<T> encontrados, int tamanho, Function<T, Long> id) {
+        if (encontrados.size() <= tamanho) {
+            return new PaginaCursorDTO<>(encontrados, null);
+        }
+        List<T> itens = encontrados.subList(0, tamanho);
+        return new PaginaCursorDTO<>(List.copyOf(itens), id.apply(itens.get(tamanho - 1)));
+    }
+}
@@ -0,0 +1,551 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.dto.SaldoDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.exception.ServicoIndisponivelException;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.SegmentoJournalAplicado;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.repository.SegmentoJournalAplicadoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Com banco.saldos.armazenamento=memoria os saldos são mantidos em memória, em centavos, particionados
+// em shards por número de conta. Cada operação é gravada em um log de escrita antecipada antes de ser
+// confirmada e os saldos alterados são gravados em CONTA a cada banco.saldos.intervalo-snapshot, na mesma
+// transação que grava as movimentações e os eventos de conta dos logs encerrados.
+// O saldo em memória muda antes da confirmação durável do registro; se o log falha, a memória deixa de
+// ser confiável e o serviço é cercado: recusa operações, consultas e snapshots até reiniciar, quando os
+// saldos são reconstruídos a partir do banco e do que chegou aos logs.
+@Service
+public class RazaoSaldosService {
+
+    private static final byte DEPOSITO = 'D';
+    private static final byte SAQUE = 'S';
+    private static final byte TRANSFERENCIA = 'T';
+    private static final byte REMOCAO = 'R';
+    private static final int TAMANHO_REGISTRO = 25;
+
+    private static final String PREFIXO = "saldos-";
+    private static final String SUFIXO = ".wal";
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private SegmentoJournalAplicadoRepository segmentoJournalAplicadoRepository;
+
+    @Autowired
+    private MovimentacaoService movimentacaoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${banco.saldos.armazenamento:jpa}")
+    private String armazenamento;
+
+    @Value("${banco.saldos.diretorio:dados/razao-saldos}")
+    private Path diretorio;
+
+    @Value("${banco.saldos.shards:0}")
+    private int quantidadeShards;
+
+    @Value("${banco.saldos.sincronizar-log:true}")
+    private boolean sincronizarLog;
+
+    private Shard[] shards;
+    private final Map<String, Path> pendentes = new LinkedHashMap<>();
+    private volatile String idLog;
+    private volatile ArquivoJournal log;
+    private volatile boolean cercado;
+
+    @PostConstruct
+    void iniciar() throws IOException {
+        if (!isAtivo()) {
+            return;
+        }
+        int quantidade = quantidadeShards > 0 ? quantidadeShards : Runtime.getRuntime().availableProcessors() * 4;
+        shards = new Shard[Integer.highestOneBit(quantidade * 2 - 1)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i);
+        }
+        for (SaldoDTO saldo : contaRepository.listarSaldos()) {
+            shard(saldo.getNumero()).saldos.carregar(saldo.getNumero(), saldo.getSaldo().getCentavos());
+        }
+        Files.createDirectories(diretorio);
+        recuperar();
+        abrirLog();
+        gravarSnapshot();
+    }
+
+    public boolean isAtivo() {
+        return "memoria".equals(armazenamento);
+    }
+
+    public long saldo(int numero) {
+        disponivel();
+        garantirCarregada(numero);
+        Shard shard = shard(numero);
+        shard.trava.lock();
+        try {
+            return existente(shard, numero);
+        } finally {
+            shard.trava.unlock();
+        }
+    }
+
+    public void depositar(int numero, long centavos) {
+        disponivel();
+        garantirCarregada(numero);
+        Shard shard = shard(numero);
+        ArquivoJournal arquivo;
+        long posicao;
+        shard.trava.lock();
+        try {
+            existente(shard, numero);
+            arquivo = log;
+            posicao = anexar(arquivo, DEPOSITO, numero, 0, centavos);
+            shard.saldos.somar(numero, centavos);
+        } finally {
+            shard.trava.unlock();
+        }
+        confirmar(arquivo, posicao);
+    }
+
+    public void sacar(int numero, long centavos) {
+        disponivel();
+        garantirCarregada(numero);
+        Shard shard = shard(numero);
+        ArquivoJournal arquivo;
+        long posicao;
+        shard.trava.lock();
+        try {
+            if (existente(shard, numero) < centavos) {
+                throw new SaldoInsuficienteException();
+            }
+            arquivo = log;
+            posicao = anexar(arquivo, SAQUE, numero, 0, centavos);
+            shard.saldos.somar(numero, -centavos);
+        } finally {
+            shard.trava.unlock();
+        }
+        confirmar(arquivo, posicao);
+    }
+
+    public void transferir(int origem, int destino, long centavos) {
+        if (origem == destino) {
+            throw new OperacaoInvalidaException(CodigoErro.CONTAS_IGUAIS);
+        }
+        disponivel();
+        garantirCarregada(origem);
+        garantirCarregada(destino);
+        Shard shardOrigem = shard(origem);
+        Shard shardDestino = shard(destino);
+        // Os shards são sempre travados em ordem de índice para que transferências
+        // em sentidos opostos não entrem em deadlock.
+        Shard primeiro = shardOrigem.indice <= shardDestino.indice ? shardOrigem : shardDestino;
+        Shard segundo = primeiro == shardOrigem ? shardDestino : shardOrigem;
+        ArquivoJournal arquivo;
+        long posicao;
+        primeiro.trava.lock();
+        segundo.trava.lock();
+        try {
+            existente(shardDestino, destino);
+            if (existente(shardOrigem, origem) < centavos) {
+                throw new SaldoInsuficienteException();
+            }
+            arquivo = log;
+            posicao = anexar(arquivo, TRANSFERENCIA, origem, destino, centavos);
+            shardOrigem.saldos.somar(origem, -centavos);
+            shardDestino.saldos.somar(destino, centavos);
+        } finally {
+            segundo.trava.unlock();
+            primeiro.trava.unlock();
+        }
+        confirmar(arquivo, posicao);
+    }
+
+    // A remoção é registrada no log após o commit da exclusão para que as operações anteriores ainda
+    // não gravadas pelo snapshot gerem movimentações com o ID da conta excluída e não sejam reaplicadas
+    // a uma conta criada depois com o mesmo número. Com o log cercado a exclusão é recusada antes do
+    // commit, já que o marcador não poderia ser gravado.
+    public void remover(int numero, Long contaId) {
+        disponivel();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            descartar(numero, contaId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                descartar(numero, contaId);
+            }
+        });
+    }
+
+    private void descartar(int numero, long contaId) {
+        Shard shard = shard(numero);
+        ArquivoJournal arquivo;
+        long posicao;
+        shard.trava.lock();
+        try {
+            shard.saldos.remover(numero);
+            arquivo = log;
+            posicao = anexar(arquivo, REMOCAO, numero, 0, contaId);
+        } finally {
+            shard.trava.unlock();
+        }
+        confirmar(arquivo, posicao);
+    }
+
+    // Com todos os shards travados nenhuma operação está em andamento, então os saldos copiados
+    // correspondem exatamente aos registros dos logs encerrados até aqui.
+    @Scheduled(fixedDelayString = "${banco.saldos.intervalo-snapshot:PT5S}")
+    public synchronized void gravarSnapshot() throws IOException {
+        if (log == null || cercado) {
+            return;
+        }
+        Alteracoes alteracoes = new Alteracoes();
+        String idAnterior = idLog;
+        ArquivoJournal anterior = log;
+        for (Shard shard : shards) {
+            shard.trava.lock();
+        }
+        try {
+            if (!anterior.isVazio()) {
+                abrirLog();
+            }
+            for (Shard shard : shards) {
+                shard.saldos.drenarAlterados(alteracoes);
+            }
+        } finally {
+            for (int i = shards.length - 1; i >= 0; i--) {
+                shards[i].trava.unlock();
+            }
+        }
+        if (anterior != log) {
+            anterior.fechar();
+            pendentes.put(idAnterior, anterior.getArquivo());
+        }
+        if (alteracoes.tamanho == 0 && pendentes.isEmpty()) {
+            return;
+        }
+        List<Registro> registros;
+        try {
+            registros = new ArrayList<>();
+            for (Path arquivo : pendentes.values()) {
+                registros.addAll(ler(arquivo));
+            }
+        } catch (IOException e) {
+            alteracoes.remarcar();
+            throw e;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < alteracoes.tamanho; i++) {
+                    contaRepository.definirSaldo(alteracoes.numeros[i], Dinheiro.deCentavos(alteracoes.centavos[i]));
+                }
+                registrarMovimentacoes(registros);
+                Instant agora = Instant.now();
+                pendentes.keySet().forEach(id -> segmentoJournalAplicadoRepository.save(new SegmentoJournalAplicado(id, agora)));
+            });
+        } catch (RuntimeException e) {
+            alteracoes.remarcar();
+            throw e;
+        }
+        for (Path arquivo : pendentes.values()) {
+            Files.deleteIfExists(arquivo);
+        }
+        pendentes.clear();
+    }
+
+    @PreDestroy
+    synchronized void encerrar() throws IOException {
+        if (log == null) {
+            return;
+        }
+        if (cercado) {
+            log = null;
+            return;
+        }
+        gravarSnapshot();
+        log.fechar();
+        if (log.isVazio()) {
+            log.excluir();
+        }
+        log = null;
+    }
+
+    // Os registros são percorridos de trás para frente: operações anteriores à remoção de uma conta
+    // usam o ID gravado no registro de remoção e as demais usam o ID atual da conta.
+    private void registrarMovimentacoes(List<Registro> registros) {
+        Map<Integer, Long> removidas = new HashMap<>();
+        Map<Integer, Optional<Long>> atuais = new HashMap<>();
+        for (int i = registros.size() - 1; i >= 0; i--) {
+            Registro registro = registros.get(i);
+            if (registro.tipo == REMOCAO) {
+                removidas.put(registro.conta, registro.centavos);
+                continue;
+            }
+            registro.idConta = resolver(registro.conta, removidas, atuais);
+            if (registro.tipo == TRANSFERENCIA) {
+                registro.idContraparte = resolver(registro.contraparte, removidas, atuais);
+            }
+        }
+        for (Registro registro : registros) {
+            Dinheiro valor = Dinheiro.deCentavos(registro.centavos);
+            LocalDateTime dataHora = LocalDateTime.ofInstant(Instant.ofEpochMilli(registro.instante), ZoneId.systemDefault());
+            switch (registro.tipo) {
+                case DEPOSITO -> registrar(registro.idConta, TipoMovimentacao.DEPOSITO, valor, dataHora);
+                case SAQUE -> registrar(registro.idConta, TipoMovimentacao.SAQUE, valor, dataHora);
+                case TRANSFERENCIA -> {
+                    registrar(registro.idConta, TipoMovimentacao.TRANSFERENCIA_ENVIADA, valor, dataHora);
+                    registrar(registro.idContraparte, TipoMovimentacao.TRANSFERENCIA_RECEBIDA, valor, dataHora);
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private Long resolver(int numero, Map<Integer, Long> removidas, Map<Integer, Optional<Long>> atuais) {
+        Long removida = removidas.get(numero);
+        if (removida != null) {
+            return removida;
+        }
+        return atuais.computeIfAbsent(numero, contaRepository::findIdByNumero).orElse(null);
+    }
+
+    private void registrar(Long contaId, TipoMovimentacao tipo, Dinheiro valor, LocalDateTime dataHora) {
+        if (contaId != null) {
+            movimentacaoService.registrar(contaId, tipo, valor, dataHora);
+        }
+    }
+
+    // Registros de logs sem marcador de aplicação são reaplicados como deltas sobre o saldo gravado;
+    // o snapshot seguinte grava o resultado, as movimentações e marca os logs, na ordem em que foram escritos.
+    // Os registros são percorridos de trás para frente para que os anteriores à remoção de uma conta
+    // não sejam somados a uma conta criada depois com o mesmo número.
+    private void recuperar() throws IOException {
+        Map<String, List<Registro>> recuperados = new HashMap<>();
+        Map<String, Path> arquivosRecuperados = new HashMap<>();
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, PREFIXO + "*" + SUFIXO)) {
+            for (Path arquivo : arquivos) {
+                String nome = arquivo.getFileName().toString();
+                String id = nome.substring(PREFIXO.length(), nome.length() - SUFIXO.length());
+                if (segmentoJournalAplicadoRepository.existsById(id)) {
+                    Files.delete(arquivo);
+                    continue;
+                }
+                recuperados.put(id, ler(arquivo));
+                arquivosRecuperados.put(id, arquivo);
+            }
+        }
+        List<String> ordem = recuperados.keySet().stream()
+                .sorted(Comparator.comparingLong(id -> recuperados.get(id).isEmpty() ? 0 : recuperados.get(id).get(0).instante))
+                .toList();
+        Set<Integer> removidas = new HashSet<>();
+        for (int i = ordem.size() - 1; i >= 0; i--) {
+            List<Registro> registros = recuperados.get(ordem.get(i));
+            for (int j = registros.size() - 1; j >= 0; j--) {
+                Registro registro = registros.get(j);
+                if (registro.tipo == REMOCAO) {
+                    removidas.add(registro.conta);
+                    continue;
+                }
+                if (!removidas.contains(registro.conta)) {
+                    reaplicar(registro.conta, registro.tipo == DEPOSITO ? registro.centavos : -registro.centavos);
+                }
+                if (registro.tipo == TRANSFERENCIA && !removidas.contains(registro.contraparte)) {
+                    reaplicar(registro.contraparte, registro.centavos);
+                }
+            }
+        }
+        ordem.forEach(id -> pendentes.put(id, arquivosRecuperados.get(id)));
+    }
+
+    private static List<Registro> ler(Path arquivo) throws IOException {
+        ByteBuffer conteudo = ByteBuffer.wrap(Files.readAllBytes(arquivo));
+        List<Registro> registros = new ArrayList<>(conteudo.remaining() / TAMANHO_REGISTRO);
+        while (conteudo.remaining() >= TAMANHO_REGISTRO) {
+            registros.add(new Registro(conteudo.get(), conteudo.getInt(), conteudo.getInt(), conteudo.getLong(), conteudo.getLong()));
+        }
+        return registros;
+    }
+
+    private void reaplicar(int numero, long centavos) {
+        MapaSaldos saldos = shard(numero).saldos;
+        if (saldos.contem(numero)) {
+            saldos.somar(numero, centavos);
+        }
+    }
+
+    private void abrirLog() throws IOException {
+        String id = UUID.randomUUID().toString();
+        log = ArquivoJournal.criar(diretorio.resolve(PREFIXO + id + SUFIXO));
+        idLog = id;
+    }
+
+    private long anexar(ArquivoJournal arquivo, byte tipo, int conta, int contraparte, long centavos) {
+        if (arquivo == null) {
+            throw new ServicoIndisponivelException(CodigoErro.SERVICO_ENCERRANDO);
+        }
+        disponivel();
+        ByteBuffer registro = ByteBuffer.allocate(TAMANHO_REGISTRO)
+                .put(tipo).putInt(conta).putInt(contraparte).putLong(centavos).putLong(System.currentTimeMillis()).flip();
+        try {
+            return arquivo.anexar(registro);
+        } catch (IOException e) {
+            cercado = true;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void confirmar(ArquivoJournal arquivo, long posicao) {
+        if (!sincronizarLog) {
+            return;
+        }
+        try {
+            arquivo.sincronizar(posicao);
+        } catch (IOException e) {
+            cercado = true;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void disponivel() {
+        if (cercado) {
+            throw new ServicoIndisponivelException(CodigoErro.RAZAO_INDISPONIVEL);
+        }
+    }
+
+    // Contas criadas depois da inicialização são carregadas na primeira operação; a consulta
+    // ao banco acontece fora da trava do shard.
+    private void garantirCarregada(int numero) {
+        Shard shard = shard(numero);
+        shard.trava.lock();
+        try {
+            if (shard.saldos.contem(numero)) {
+                return;
+            }
+        } finally {
+            shard.trava.unlock();
+        }
+        SaldoDTO saldo = contaRepository.buscarSaldo(numero)
+                .orElseThrow(() -> new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", numero));
+        shard.trava.lock();
+        try {
+            if (!shard.saldos.contem(numero)) {
+                shard.saldos.carregar(numero, saldo.getSaldo().getCentavos());
+            }
+        } finally {
+            shard.trava.unlock();
+        }
+    }
+
+    private long existente(Shard shard, int numero) {
+        long saldo = shard.saldos.obter(numero);
+        if (saldo == Long.MIN_VALUE) {
+            throw new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", numero);
+        }
+        return saldo;
+    }
+
+    // Usa os bits altos de um multiplicador diferente do MapaSaldos para não concentrar
+    // em cada shard somente chaves que colidem na mesma faixa da tabela.
+    private Shard shard(int numero) {
+        return shards[((numero * 0x85EBCA6B) >>> 16) & (shards.length - 1)];
+    }
+
+    private static final class Shard {
+
+        private final int indice;
+        private final ReentrantLock trava = new ReentrantLock();
+        private final MapaSaldos saldos = new MapaSaldos(1024);
+
+        private Shard(int indice) {
+            this.indice = indice;
+        }
+    }
+
+    private static final class Registro {
+
+        private final byte tipo;
+        private final int conta;
+        private final int contraparte;
+        private final long centavos;
+        private final long instante;
+        private Long idConta;
+        private Long idContraparte;
+
+        private Registro(byte tipo, int conta, int contraparte, long centavos, long instante) {
+            this.tipo = tipo;
+            this.conta = conta;
+            this.contraparte = contraparte;
+            this.centavos = centavos;
+            this.instante = instante;
+        }
+    }
+
+    private final class Alteracoes implements MapaSaldos.Visitante {
+
+        private int[] numeros = new int[64];
+        private long[] centavos = new long[64];
+        private int tamanho;
+
+        @Override
+        public void visitar(int numero, long saldo) {
+            if (tamanho == numeros.length) {
+                numeros = Arrays.copyOf(numeros, tamanho * 2);
+                centavos = Arrays.copyOf(centavos, tamanho * 2);
+            }
+            numeros[tamanho] = numero;
+            centavos[tamanho++] = saldo;
+        }
+
+        private void remarcar() {
+            for (int i = 0; i < tamanho; i++) {
+                Shard shard = shard(numeros[i]);
+                shard.trava.lock();
+                try {
+                    shard.saldos.marcarAlterado(numeros[i]);
+                } finally {
+                    shard.trava.unlock();
+                }
+            }
+        }
+    }
+}
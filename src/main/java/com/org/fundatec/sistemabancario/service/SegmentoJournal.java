@@ -0,0 +1,87 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class SegmentoJournal {
+
+    static final String PADRAO_ARQUIVO = "depositos-*.journal";
+
+    private static final String PREFIXO = "depositos-";
+    private static final String SUFIXO = ".journal";
+
+    private final String id;
+    private final ArquivoJournal arquivo;
+    private final Map<Integer, Dinheiro> totais = new ConcurrentHashMap<>();
+
+    private SegmentoJournal(String id, ArquivoJournal arquivo) {
+        this.id = id;
+        this.arquivo = arquivo;
+    }
+
+    static SegmentoJournal criar(Path diretorio) throws IOException {
+        String id = UUID.randomUUID().toString();
+        return new SegmentoJournal(id, ArquivoJournal.criar(diretorio.resolve(PREFIXO + id + SUFIXO)));
+    }
+
+    static String id(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return nome.substring(PREFIXO.length(), nome.length() - SUFIXO.length());
+    }
+
+    // Registros incompletos no fim do arquivo nunca foram sincronizados, logo nunca foram confirmados.
+    static Map<Integer, Dinheiro> ler(Path arquivo) throws IOException {
+        String conteudo = Files.readString(arquivo, StandardCharsets.UTF_8);
+        Map<Integer, Dinheiro> totais = new HashMap<>();
+        int inicio = 0;
+        for (int fim = conteudo.indexOf('\n'); fim >= 0; fim = conteudo.indexOf('\n', inicio)) {
+            String registro = conteudo.substring(inicio, fim);
+            int separador = registro.indexOf(';');
+            totais.merge(Integer.valueOf(registro.substring(0, separador)),
+                    Dinheiro.de(registro.substring(separador + 1)), Dinheiro::somar);
+            inicio = fim + 1;
+        }
+        return totais;
+    }
+
+    // Só entra nos totais o depósito já sincronizado; um registro cujo force falhou não é confirmado
+    // ao cliente e, portanto, também não é aplicado ao saldo.
+    void anexar(Integer numero, Dinheiro valor) throws IOException {
+        long fim = arquivo.anexar(ByteBuffer.wrap((numero + ";" + valor + "\n").getBytes(StandardCharsets.UTF_8)));
+        arquivo.sincronizar(fim);
+        totais.merge(numero, valor, Dinheiro::somar);
+    }
+
+    void fechar() throws IOException {
+        arquivo.fechar();
+    }
+
+    void excluir() throws IOException {
+        arquivo.excluir();
+    }
+
+    boolean isVazio() {
+        return arquivo.isVazio();
+    }
+
+    Path getArquivo() {
+        return arquivo.getArquivo();
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Map<Integer, Dinheiro> getTotais() {
+        return totais;
+    }
+}
@@ -0,0 +1,152 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
+import com.org.fundatec.sistemabancario.repository.AgenciaRepository;
+import com.org.fundatec.sistemabancario.repository.BancoRepository;
+import com.org.fundatec.sistemabancario.repository.ClienteRepository;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Chaves únicas de Conta, Cliente, Agencia e Banco mantidas em memória para recusar duplicatas antes
+// do INSERT. São carregadas na partida e alteradas só depois do commit; duas inclusões concorrentes da
+// mesma chave ainda chegam à restrição do banco, que o RestExceptionHandler responde com 409.
+@Service
+public class UnicidadeService {
+
+    public enum Chave {
+        CONTA(CodigoErro.CONTA_JA_CADASTRADA, "número"),
+        CLIENTE(CodigoErro.CLIENTE_JA_CADASTRADO, "CPF"),
+        AGENCIA(CodigoErro.AGENCIA_JA_CADASTRADA, "número"),
+        BANCO(CodigoErro.BANCO_JA_CADASTRADO, "código");
+
+        private final CodigoErro codigo;
+        private final String campo;
+
+        Chave(CodigoErro codigo, String campo) {
+            this.codigo = codigo;
+            this.campo = campo;
+        }
+
+        public ConflitoException conflito(Object valor) {
+            return new ConflitoException(codigo, campo, valor);
+        }
+
+        public String mensagem(Object valor) {
+            return conflito(valor).getMessage();
+        }
+    }
+
+    private static final long SEM_CHAVE = Long.MIN_VALUE;
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private AgenciaRepository agenciaRepository;
+
+    @Autowired
+    private BancoRepository bancoRepository;
+
+    @Value("${banco.unicidade.habilitada:true}")
+    private boolean habilitada;
+
+    private final Map<Chave, ConjuntoChaves> conjuntos = new EnumMap<>(Chave.class);
+
+    @PostConstruct
+    void iniciar() {
+        for (Chave chave : Chave.values()) {
+            conjuntos.put(chave, new ConjuntoChaves(1024));
+        }
+        if (!habilitada) {
+            return;
+        }
+        contaRepository.listarNumeros().forEach(numero -> adicionar(Chave.CONTA, numero));
+        clienteRepository.listarCpfs().forEach(cpf -> adicionar(Chave.CLIENTE, cpf));
+        agenciaRepository.listarNumeros().forEach(numero -> adicionar(Chave.AGENCIA, numero));
+        bancoRepository.listarCodigos().forEach(codigo -> adicionar(Chave.BANCO, codigo));
+    }
+
+    public boolean existe(Chave chave, Object valor) {
+        long codificada = codificar(valor);
+        return habilitada && codificada != SEM_CHAVE && conjuntos.get(chave).contem(codificada);
+    }
+
+    public void verificar(Chave chave, Object valor) {
+        if (existe(chave, valor)) {
+            throw chave.conflito(valor);
+        }
+    }
+
+    public void registrar(Chave chave, Object valor) {
+        aposCommit(() -> adicionar(chave, valor));
+    }
+
+    public void remover(Chave chave, Object valor) {
+        aposCommit(() -> {
+            long codificada = codificar(valor);
+            if (codificada != SEM_CHAVE) {
+                conjuntos.get(chave).remover(codificada);
+            }
+        });
+    }
+
+    public void substituir(Chave chave, Object anterior, Object atual) {
+        if (!Objects.equals(anterior, atual)) {
+            remover(chave, anterior);
+            registrar(chave, atual);
+        }
+    }
+
+    private void adicionar(Chave chave, Object valor) {
+        long codificada = codificar(valor);
+        if (habilitada && codificada != SEM_CHAVE) {
+            conjuntos.get(chave).adicionar(codificada);
+        }
+    }
+
+    // Fora de uma transação a alteração vale na hora; dentro, só se ela for confirmada.
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    // Números e códigos são usados diretamente; CPF canônico (11 dígitos) cabe em um long.
+    private static long codificar(Object valor) {
+        if (valor instanceof Integer numero) {
+            return numero;
+        }
+        if (!(valor instanceof CharSequence texto) || texto.isEmpty() || texto.length() > 18) {
+            return SEM_CHAVE;
+        }
+        long codificada = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return SEM_CHAVE;
+            }
+            codificada = codificada * 10 + (c - '0');
+        }
+        return codificada;
+    }
+}
@@ -0,0 +1,27 @@
+package com.org.fundatec.sistemabancario.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.Set;
+
+final class Violacoes {
+
+    private Violacoes() {
+    }
+
+    static <T> String validar(Validator validator, T objeto) {
+        Set<ConstraintViolation<T>> violacoes = validator.validate(objeto);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (ConstraintViolation<T> violacao : violacoes) {
+            sb.append(violacao.getPropertyPath())
+                    .append(" - ")
+                    .append(violacao.getMessage())
+                    .append("; ");
+        }
+        return sb.toString().trim();
+    }
+}
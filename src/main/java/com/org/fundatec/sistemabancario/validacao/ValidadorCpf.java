@@ -0,0 +1,13 @@
+package com.org.fundatec.sistemabancario.validacao;
+
+import com.org.fundatec.sistemabancario.model.NormalizadorDocumento;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidadorCpf implements ConstraintValidator<Cpf, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence valor, ConstraintValidatorContext contexto) {
+        return valor == null || NormalizadorDocumento.cpfValido(valor);
+    }
+}
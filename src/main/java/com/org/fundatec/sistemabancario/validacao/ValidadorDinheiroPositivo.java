@@ -0,0 +1,14 @@
+package com.org.fundatec.sistemabancario.validacao;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Positive;
+
+public class ValidadorDinheiroPositivo implements ConstraintValidator<Positive, Dinheiro> {
+
+    @Override
+    public boolean isValid(Dinheiro valor, ConstraintValidatorContext contexto) {
+        return valor == null || valor.signum() > 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.org.fundatec.sistemabancario.validacao;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public class ValidadorDinheiroPositivoOuZero implements ConstraintValidator<PositiveOrZero, Dinheiro> {
+
+    @Override
+    public boolean isValid(Dinheiro valor, ConstraintValidatorContext contexto) {
+        return valor == null || valor.signum() >= 0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.org.fundatec.sistemabancario;
+
+import com.org.fundatec.sistemabancario.carga.CenarioCarga;
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Cliente;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ClienteService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "banco.auditoria.intervalo=PT1H",
+        "banco.outbox.intervalo=PT1H",
+        "banco.admissao.habilitada=false"
+})
+@AutoConfigureMockMvc
+@Import(CenarioCarga.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CacheSegundoNivelTest {
+
+    private static final int CONTA = 880_001;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CenarioCarga cenario;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+    private Agencia agencia;
+    private Conta conta;
+
+    @BeforeAll
+    void criarCenario() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        agencia = cenario.criarAgencia(8801);
+        conta = cenario.criarConta(CONTA, agencia, Dinheiro.de("100.00"));
+    }
+
+    @Test
+    void deveBuscarPorChaveNaturalSemConsultaQuandoEmCache() throws Exception {
+        Cliente cliente = clienteService.salvar(new ClienteDTO(null, CenarioCarga.cpf(880_002), "Cliente Cache"));
+        consultas(get("/agencias/numero/{numero}", agencia.getNumero()));
+        consultas(get("/bancos/codigo/{codigo}", agencia.getBanco().getCodigo()));
+        consultas(get("/clientes/cpf/{cpf}", cliente.getCpf()));
+
+        assertEquals(0, consultas(get("/agencias/numero/{numero}", agencia.getNumero())));
+        assertEquals(0, consultas(get("/bancos/codigo/{codigo}", agencia.getBanco().getCodigo())));
+        assertEquals(0, consultas(get("/clientes/cpf/{cpf}", cliente.getCpf())));
+    }
+
+    @Test
+    void deveServirAgenciaComBancoDoCachePorId() throws Exception {
+        consultas(get("/agencias/{id}", agencia.getId()));
+
+        assertEquals(0, consultas(get("/agencias/{id}", agencia.getId())));
+        mockMvc.perform(get("/agencias/{id}", agencia.getId()))
+                .andExpect(jsonPath("$.banco.codigo").value(agencia.getBanco().getCodigo()));
+    }
+
+    @Test
+    void deveRefletirAlteracaoDoClienteNaBuscaPorCpf() throws Exception {
+        Cliente cliente = clienteService.salvar(new ClienteDTO(null, CenarioCarga.cpf(880_003), "Nome Antigo"));
+        mockMvc.perform(get("/clientes/cpf/{cpf}", cliente.getCpf()))
+                .andExpect(jsonPath("$.nome").value("Nome Antigo"));
+
+        mockMvc.perform(put("/clientes/{id}", cliente.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"cpf\": \"" + cliente.getCpf() + "\", \"nome\": \"Nome Novo\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/clientes/cpf/{cpf}", cliente.getCpf()))
+                .andExpect(jsonPath("$.nome").value("Nome Novo"));
+    }
+
+    @Test
+    void deveServirSaldoDaContaSempreAtualizado() throws Exception {
+        String movimentacao = "{\"numeroConta\": " + CONTA + ", \"valor\": 10.00}";
+        String saldoInicial = mockMvc.perform(get("/contas/{numero}/saldo", CONTA))
+                .andReturn().getResponse().getContentAsString();
+        Dinheiro saldo = Dinheiro.de(saldoInicial.replaceAll(".*\"saldo\":([0-9.]+).*", "$1"));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/contas/{numero}", CONTA))
+                    .andExpect(jsonPath("$.saldo").value(saldo.paraBigDecimal().doubleValue()));
+            mockMvc.perform(post("/contas/depositar").contentType(MediaType.APPLICATION_JSON).content(movimentacao))
+                    .andExpect(status().is2xxSuccessful());
+            saldo = saldo.somar(Dinheiro.de("10.00"));
+
+            mockMvc.perform(get("/contas/{numero}", CONTA))
+                    .andExpect(jsonPath("$.saldo").value(saldo.paraBigDecimal().doubleValue()));
+            mockMvc.perform(get("/contas/{numero}/saldo", CONTA))
+                    .andExpect(jsonPath("$.saldo").value(saldo.paraBigDecimal().doubleValue()));
+        }
+        mockMvc.perform(post("/contas/sacar").contentType(MediaType.APPLICATION_JSON).content(movimentacao))
+                .andExpect(status().is2xxSuccessful());
+        saldo = saldo.subtrair(Dinheiro.de("10.00"));
+
+        mockMvc.perform(get("/contas/{numero}", CONTA))
+                .andExpect(jsonPath("$.saldo").value(saldo.paraBigDecimal().doubleValue()));
+        assertEquals(saldo, cenario.saldo(CONTA));
+        assertFalse(entityManagerFactory.getCache().contains(Conta.class, conta.getId()));
+    }
+
+    @Test
+    void deveExporEstatisticasDasRegioes() throws Exception {
+        mockMvc.perform(get("/agencias/numero/{numero}", agencia.getNumero()));
+
+        mockMvc.perform(get("/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.nome == 'agencia')]").exists())
+                .andExpect(jsonPath("$[?(@.nome == 'agencia-numero')]").exists())
+                .andExpect(jsonPath("$[?(@.nome == 'cliente')]").exists());
+    }
+
+    private long consultas(RequestBuilder requisicao) throws Exception {
+        estatisticas.clear();
+        mockMvc.perform(requisicao).andExpect(status().isOk());
+        return estatisticas.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,138 @@
+package com.org.fundatec.sistemabancario;
+
+import com.org.fundatec.sistemabancario.carga.CenarioCarga;
+import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Cliente;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.AgenciaService;
+import com.org.fundatec.sistemabancario.service.ClienteService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// O gravador de auditoria e o relay da outbox rodam em segundo plano; aqui só contam as consultas
+// feitas pela requisição.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "banco.auditoria.intervalo=PT1H",
+        "banco.outbox.intervalo=PT1H"
+})
+@AutoConfigureMockMvc
+@Import(CenarioCarga.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ContagemConsultasTest {
+
+    private static final int ORIGEM = 770_001;
+    private static final int DESTINO = 770_002;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CenarioCarga cenario;
+
+    @Autowired
+    private AgenciaService agenciaService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+    private Agencia agencia;
+
+    @BeforeAll
+    void criarCenario() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        agencia = cenario.criarAgencia(7701);
+        cenario.criarConta(ORIGEM, agencia, Dinheiro.de("1000.00"));
+        cenario.criarConta(DESTINO, agencia, Dinheiro.ZERO);
+    }
+
+    @BeforeEach
+    void limparCaches() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void deveBuscarContaComClienteAgenciaEBancoEmUmaConsulta() throws Exception {
+        assertEquals(1, consultas(get("/contas/{numero}", ORIGEM)));
+    }
+
+    @Test
+    void deveBuscarSaldoEResumoEmUmaConsulta() throws Exception {
+        assertEquals(1, consultas(get("/contas/{numero}/saldo", ORIGEM)));
+        assertEquals(1, consultas(get("/contas/{numero}/resumo", ORIGEM)));
+    }
+
+    @Test
+    void deveBuscarAgenciaComBancoEmUmaConsulta() throws Exception {
+        assertEquals(1, consultas(get("/agencias/{id}", agencia.getId())));
+        entityManagerFactory.getCache().evictAll();
+        assertEquals(1, consultas(get("/agencias/numero/{numero}", agencia.getNumero())));
+    }
+
+    @Test
+    void deveListarAgenciasDoBancoSemConsultaPorAgencia() throws Exception {
+        Long bancoId = agencia.getBanco().getId();
+        AgenciaDTO agenciaDTO = new AgenciaDTO();
+        agenciaDTO.setNumero(7702);
+        agenciaDTO.setNome("Agência Carga");
+        agenciaDTO.setBancoId(bancoId);
+        agenciaService.salvar(agenciaDTO);
+
+        assertEquals(2, consultas(get("/agencias/banco/{bancoId}", bancoId)));
+        assertEquals(2, consultas(get("/agencias/banco/{bancoId}/cursor", bancoId)));
+    }
+
+    @Test
+    void deveCriarContaComAgenciaEmCache() throws Exception {
+        Cliente cliente = clienteService.salvar(new ClienteDTO(null, CenarioCarga.cpf(770_003), "Cliente Carga"));
+        agenciaService.buscarPorId(agencia.getId());
+        String conta = "{\"numero\": 770003, \"saldo\": 0, \"clienteId\": " + cliente.getId()
+                + ", \"agenciaId\": " + agencia.getId() + "}";
+
+        // O cliente recém-gravado já está no cache de segundo nível; sobram os INSERTs da conta e do
+        // evento CONTA_CRIADA na outbox.
+        assertEquals(2, consultas(post("/contas").contentType(MediaType.APPLICATION_JSON).content(conta)));
+    }
+
+    @Test
+    void deveMovimentarContaSemCarregarAssociacoes() throws Exception {
+        String deposito = "{\"numeroConta\": " + ORIGEM + ", \"valor\": 10.00}";
+        mockMvc.perform(post("/contas/depositar").contentType(MediaType.APPLICATION_JSON).content(deposito));
+
+        // Cada movimentação grava também seu evento na outbox, com um INSERT em lote por tabela.
+        assertEquals(4, consultas(post("/contas/depositar").contentType(MediaType.APPLICATION_JSON).content(deposito)));
+        assertEquals(4, consultas(post("/contas/sacar").contentType(MediaType.APPLICATION_JSON).content(deposito)));
+        assertEquals(6, consultas(post("/contas/transferir").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"numeroContaOrigem\": " + ORIGEM + ", \"numeroContaDestino\": " + DESTINO + ", \"valor\": 1.00}")));
+    }
+
+    private long consultas(RequestBuilder requisicao) throws Exception {
+        estatisticas.clear();
+        mockMvc.perform(requisicao).andExpect(status().is2xxSuccessful());
+        return estatisticas.getPrepareStatementCount();
+    }
+}
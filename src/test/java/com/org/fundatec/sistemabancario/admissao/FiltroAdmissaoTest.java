@@ -0,0 +1,143 @@
+package com.org.fundatec.sistemabancario.admissao;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class FiltroAdmissaoTest {
+
+    @Mock
+    private LimitadorTaxa limitadorTaxa;
+
+    @Mock
+    private LimitadorConcorrencia limitadorConcorrencia;
+
+    private FiltroAdmissao filtro;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        filtro = new FiltroAdmissao(limitadorTaxa, limitadorConcorrencia);
+    }
+
+    @Test
+    void deveAdmitirELiberarAoFinal() throws Exception {
+        when(limitadorTaxa.admitirCliente("10.0.0.7")).thenReturn(true);
+        when(limitadorConcorrencia.adquirir()).thenReturn(true);
+        MockFilterChain cadeia = new MockFilterChain();
+
+        filtro.doFilter(requisicao("10.0.0.7"), new MockHttpServletResponse(), cadeia);
+
+        assertNotNull(cadeia.getRequest());
+        verify(limitadorConcorrencia).liberar(anyLong(), anyLong());
+    }
+
+    @Test
+    void deveRecusarClienteAcimaDaTaxaSemConsumirConcorrencia() throws Exception {
+        when(limitadorTaxa.admitirCliente("10.0.0.7")).thenReturn(false);
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+        MockFilterChain cadeia = new MockFilterChain();
+
+        filtro.doFilter(requisicao("10.0.0.7"), resposta, cadeia);
+
+        assertEquals(429, resposta.getStatus());
+        assertEquals("1", resposta.getHeader("Retry-After"));
+        assertEquals("{\"codigo\":429,\"erro\":\"LIMITE_CLIENTE\",\"mensagem\":\"Limite de requisições excedido para o cliente: 10.0.0.7\"}",
+                resposta.getContentAsString(StandardCharsets.UTF_8));
+        assertNull(cadeia.getRequest());
+        verify(limitadorConcorrencia, never()).adquirir();
+    }
+
+    @Test
+    void deveIgnorarIdentificacaoEscolhidaPeloChamador() throws Exception {
+        when(limitadorTaxa.admitirCliente("10.0.0.7")).thenReturn(false);
+        MockHttpServletRequest requisicao = requisicao("10.0.0.7");
+        requisicao.addHeader("X-Cliente", "outro-" + System.nanoTime());
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+
+        filtro.doFilter(requisicao, resposta, new MockFilterChain());
+
+        assertEquals(429, resposta.getStatus());
+        verify(limitadorTaxa).admitirCliente("10.0.0.7");
+    }
+
+    @Test
+    void deveIdentificarClientePeloUsuarioAutenticado() throws Exception {
+        when(limitadorTaxa.admitirCliente("integrador")).thenReturn(true);
+        when(limitadorConcorrencia.adquirir()).thenReturn(true);
+        MockHttpServletRequest requisicao = requisicao("10.0.0.7");
+        requisicao.setUserPrincipal(() -> "integrador");
+
+        filtro.doFilter(requisicao, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(limitadorTaxa).admitirCliente("integrador");
+        verify(limitadorTaxa, never()).admitirCliente("10.0.0.7");
+    }
+
+    @Test
+    void deveRecusarQuandoLimiteDeConcorrenciaEsgotado() throws Exception {
+        when(limitadorTaxa.admitirCliente("127.0.0.1")).thenReturn(true);
+        when(limitadorConcorrencia.adquirir()).thenReturn(false);
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+        MockFilterChain cadeia = new MockFilterChain();
+
+        filtro.doFilter(requisicao(null), resposta, cadeia);
+
+        assertEquals(429, resposta.getStatus());
+        assertNull(cadeia.getRequest());
+        verify(limitadorConcorrencia, never()).liberar(anyLong(), anyLong());
+    }
+
+    @Test
+    void deveLiberarRequisicaoAssincronaSomenteAoConcluir() throws Exception {
+        when(limitadorTaxa.admitirCliente("10.0.0.7")).thenReturn(true);
+        when(limitadorConcorrencia.adquirir()).thenReturn(true);
+        MockHttpServletRequest requisicao = requisicao("10.0.0.7");
+        requisicao.setAsyncSupported(true);
+        MockFilterChain cadeia = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.startAsync();
+            }
+        });
+
+        filtro.doFilter(requisicao, new MockHttpServletResponse(), cadeia);
+
+        verify(limitadorConcorrencia, never()).liberar(anyLong(), anyLong());
+        ((MockAsyncContext) requisicao.getAsyncContext()).complete();
+        verify(limitadorConcorrencia).liberar(anyLong(), anyLong());
+    }
+
+    @Test
+    void naoDeveFiltrarConsultas() throws Exception {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest("GET", "/contas/12345/saldo");
+        MockFilterChain cadeia = new MockFilterChain();
+
+        filtro.doFilter(requisicao, new MockHttpServletResponse(), cadeia);
+
+        assertNotNull(cadeia.getRequest());
+        verifyNoInteractions(limitadorTaxa, limitadorConcorrencia);
+    }
+
+    private MockHttpServletRequest requisicao(String cliente) {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest("POST", "/contas/depositar");
+        if (cliente != null) {
+            requisicao.setRemoteAddr(cliente);
+        }
+        return requisicao;
+    }
+}
@@ -0,0 +1,94 @@
+package com.org.fundatec.sistemabancario.admissao;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimitadorConcorrenciaTest {
+
+    private static final long RAPIDA = Duration.ofMillis(1).toNanos();
+    private static final long LENTA = Duration.ofMillis(500).toNanos();
+
+    private MeterRegistry registry;
+
+    private LimitadorConcorrencia limitador;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limitador = new LimitadorConcorrencia();
+        ReflectionTestUtils.setField(limitador, "registry", registry);
+        ReflectionTestUtils.setField(limitador, "inicial", 4);
+        ReflectionTestUtils.setField(limitador, "minimo", 2);
+        ReflectionTestUtils.setField(limitador, "maximo", 6);
+        ReflectionTestUtils.setField(limitador, "latenciaAlvo", Duration.ofMillis(100));
+        limitador.iniciar();
+    }
+
+    @Test
+    void deveRecusarAcimaDoLimite() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limitador.adquirir());
+        }
+
+        assertFalse(limitador.adquirir());
+        assertEquals(4.0, registry.get(LimitadorConcorrencia.EM_ANDAMENTO).gauge().value());
+        assertEquals(1.0, registry.get(LimitadorTaxa.RECUSADAS).tag("motivo", "concorrencia").counter().count());
+    }
+
+    @Test
+    void deveAumentarLimiteComOperacoesRapidasAteOMaximo() {
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertTrue(limitador.adquirir());
+            }
+            for (int j = 0; j < 3; j++) {
+                limitador.liberar(0, RAPIDA);
+            }
+        }
+
+        assertEquals(6, limitador.getLimite());
+    }
+
+    @Test
+    void naoDeveAumentarLimiteOcioso() {
+        assertTrue(limitador.adquirir());
+        limitador.liberar(0, RAPIDA);
+
+        assertEquals(4, limitador.getLimite());
+    }
+
+    @Test
+    void deveReduzirLimiteUmaVezPorJanela() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limitador.adquirir());
+        }
+        limitador.liberar(0, LENTA);
+        limitador.liberar(0, LENTA + 1);
+        limitador.liberar(10, LENTA + 2);
+        assertEquals(3, limitador.getLimite());
+
+        assertTrue(limitador.adquirir());
+        limitador.liberar(LENTA + 1, 2 * LENTA + 1);
+        assertEquals(2, limitador.getLimite());
+    }
+
+    @Test
+    void deveReduzirLimiteComOperacoesLentasAteOMinimo() {
+        long inicio = 0;
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limitador.adquirir());
+            limitador.liberar(inicio, inicio + LENTA);
+            inicio += LENTA + 1;
+        }
+
+        assertEquals(2, limitador.getLimite());
+        assertEquals(2.0, registry.get(LimitadorConcorrencia.LIMITE).gauge().value());
+    }
+}
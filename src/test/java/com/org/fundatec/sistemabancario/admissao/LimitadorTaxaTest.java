@@ -0,0 +1,114 @@
+package com.org.fundatec.sistemabancario.admissao;
+
+import com.org.fundatec.sistemabancario.exception.LimiteExcedidoException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimitadorTaxaTest {
+
+    private static final long SEGUNDO = 1_000_000_000L;
+
+    private MeterRegistry registry;
+
+    private LimitadorTaxa limitador;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limitador = new LimitadorTaxa();
+        ReflectionTestUtils.setField(limitador, "registry", registry);
+        ReflectionTestUtils.setField(limitador, "habilitada", true);
+        ReflectionTestUtils.setField(limitador, "taxaCliente", 1.0);
+        ReflectionTestUtils.setField(limitador, "rajadaCliente", 2);
+        ReflectionTestUtils.setField(limitador, "taxaConta", 1.0);
+        ReflectionTestUtils.setField(limitador, "rajadaConta", 1);
+        ReflectionTestUtils.setField(limitador, "capacidade", 100L);
+        limitador.iniciar();
+    }
+
+    @Test
+    void baldeDeveAdmitirRajadaERepor() {
+        BaldeTokens balde = new BaldeTokens(10, 3);
+        long agora = 5 * SEGUNDO;
+
+        assertTrue(balde.consumir(agora));
+        assertTrue(balde.consumir(agora));
+        assertTrue(balde.consumir(agora));
+        assertFalse(balde.consumir(agora));
+        assertFalse(balde.consumir(agora + SEGUNDO / 20));
+        assertTrue(balde.consumir(agora + SEGUNDO / 10));
+        assertFalse(balde.consumir(agora + SEGUNDO / 10));
+        assertTrue(balde.consumir(agora + 10 * SEGUNDO));
+    }
+
+    @Test
+    void baldeNaoDeveAdmitirAlemDaRajadaSobConcorrencia() throws Exception {
+        BaldeTokens balde = new BaldeTokens(0.001, 100);
+        long agora = System.nanoTime();
+        AtomicInteger admitidas = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            tarefas.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    if (balde.consumir(agora)) {
+                        admitidas.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(100, admitidas.get());
+    }
+
+    @Test
+    void deveLimitarCadaClienteSeparadamente() {
+        assertTrue(limitador.admitirCliente("a"));
+        assertTrue(limitador.admitirCliente("a"));
+        assertFalse(limitador.admitirCliente("a"));
+        assertTrue(limitador.admitirCliente("b"));
+
+        assertEquals(1.0, registry.get(LimitadorTaxa.RECUSADAS).tag("motivo", "cliente").counter().count());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoContaExcedeLimite() {
+        limitador.verificarConta(1);
+        limitador.verificarConta(2);
+
+        LimiteExcedidoException erro = assertThrows(LimiteExcedidoException.class, () -> limitador.verificarConta(1));
+
+        assertEquals("Limite de requisições excedido para a conta: 1", erro.getMessage());
+        assertEquals(0, erro.getStackTrace().length);
+        assertEquals(1.0, registry.get(LimitadorTaxa.RECUSADAS).tag("motivo", "conta").counter().count());
+    }
+
+    @Test
+    void naoDeveLimitarComTaxaZeroOuDesabilitado() {
+        ReflectionTestUtils.setField(limitador, "taxaCliente", 0.0);
+        ReflectionTestUtils.setField(limitador, "habilitada", false);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limitador.admitirCliente("a"));
+            limitador.verificarConta(1);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.org.fundatec.sistemabancario.auditoria;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuditoriaAspectTest {
+
+    private MeterRegistry registry;
+
+    private FilaAuditoria fila;
+
+    private EntityManager entityManager;
+
+    private ContaService contaService;
+
+    private ContaService proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        fila = novaFila(registry, 10, Duration.ZERO);
+        entityManager = mock(EntityManager.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        AuditoriaAspect aspect = new AuditoriaAspect();
+        ReflectionTestUtils.setField(aspect, "filaAuditoria", fila);
+        ReflectionTestUtils.setField(aspect, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(aspect, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(aspect, "entityManager", entityManager);
+
+        contaService = mock(ContaService.class);
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(contaService);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(aspect);
+        proxy = fabrica.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void deveRegistrarOperacaoComUsuarioAutenticado() {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest();
+        requisicao.setUserPrincipal(() -> "gerente");
+        requisicao.addHeader("X-Usuario", "outro");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(requisicao));
+
+        proxy.depositar(12345, Dinheiro.deReais(10));
+
+        EventoAuditoria evento = fila.retirar();
+        assertEquals("gerente", evento.getUsuario());
+        assertEquals("ContaService.depositar", evento.getOperacao());
+        assertEquals("[12345,10.00]", evento.getArgumentos());
+        assertNull(evento.getAntes());
+        assertEquals("null", evento.getResultado());
+        assertTrue(evento.isSucesso());
+        assertNull(fila.retirar());
+    }
+
+    @Test
+    void deveUsarEnderecoRemotoSemAutenticacaoESistemaForaDeRequisicao() {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest();
+        requisicao.setRemoteAddr("10.0.0.7");
+        requisicao.addHeader("X-Usuario", "gerente");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(requisicao));
+        proxy.deletar(1L);
+        RequestContextHolder.resetRequestAttributes();
+        proxy.deletar(2L);
+
+        assertEquals("10.0.0.7", fila.retirar().getUsuario());
+        assertEquals("sistema", fila.retirar().getUsuario());
+    }
+
+    @Test
+    void deveRegistrarEstadoAnteriorDaEntidade() {
+        Conta conta = new Conta();
+        conta.setNumero(12345);
+        when(entityManager.find(Conta.class, 1L)).thenReturn(conta);
+        doAnswer(invocacao -> {
+            conta.setNumero(54321);
+            return null;
+        }).when(contaService).deletar(1L);
+
+        proxy.deletar(1L);
+
+        EventoAuditoria evento = fila.retirar();
+        assertEquals("[1]", evento.getArgumentos());
+        assertTrue(evento.getAntes().contains("\"numero\":12345"));
+    }
+
+    @Test
+    void deveSerializarResultadoNaThreadDaChamada() {
+        Conta conta = new Conta();
+        conta.setNumero(12345);
+        ContaDTO dto = new ContaDTO();
+        when(contaService.salvar(dto)).thenReturn(conta);
+
+        proxy.salvar(dto);
+        conta.setNumero(54321);
+
+        EventoAuditoria evento = fila.retirar();
+        assertNull(evento.getAntes());
+        assertTrue(evento.getResultado().contains("\"numero\":12345"));
+    }
+
+    @Test
+    void deveRegistrarErroEPropagarExcecao() {
+        SaldoInsuficienteException erro = new SaldoInsuficienteException("Saldo insuficiente para saque");
+        doThrow(erro).when(contaService).sacar(12345, Dinheiro.deReais(10));
+
+        assertThrows(SaldoInsuficienteException.class, () -> proxy.sacar(12345, Dinheiro.deReais(10)));
+
+        EventoAuditoria evento = fila.retirar();
+        assertEquals("ContaService.sacar", evento.getOperacao());
+        assertFalse(evento.isSucesso());
+        assertEquals("SaldoInsuficienteException: Saldo insuficiente para saque", evento.getResultado());
+    }
+
+    @Test
+    void deveSubstituirFluxoDeImportacao() {
+        proxy.importar(List.<ContaDTO>of().iterator());
+
+        assertEquals("[\"<fluxo>\"]", fila.retirar().getArgumentos());
+    }
+
+    @Test
+    void naoDeveAuditarConsultas() {
+        proxy.buscarPorNumero(12345);
+
+        assertNull(fila.retirar());
+    }
+
+    @Test
+    void deveDescartarEventosComFilaCheiaSemFalharAChamada() {
+        for (int i = 0; i < 12; i++) {
+            proxy.depositar(12345, Dinheiro.deReais(1));
+        }
+
+        verify(contaService, times(12)).depositar(12345, Dinheiro.deReais(1));
+        assertEquals(10.0, registry.get(FilaAuditoria.TAMANHO_FILA).gauge().value());
+        assertEquals(2.0, registry.get(FilaAuditoria.DESCARTADOS).counter().count());
+    }
+
+    static FilaAuditoria novaFila(MeterRegistry registry, int capacidade, Duration esperaMaxima) {
+        FilaAuditoria fila = new FilaAuditoria();
+        ReflectionTestUtils.setField(fila, "registry", registry);
+        ReflectionTestUtils.setField(fila, "capacidade", capacidade);
+        ReflectionTestUtils.setField(fila, "esperaMaxima", esperaMaxima);
+        fila.iniciar();
+        return fila;
+    }
+}
@@ -0,0 +1,164 @@
+package com.org.fundatec.sistemabancario.auditoria;
+
+import com.org.fundatec.sistemabancario.model.RegistroAuditoria;
+import com.org.fundatec.sistemabancario.repository.RegistroAuditoriaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class GravadorAuditoriaTest {
+
+    @Mock
+    private RegistroAuditoriaRepository registroAuditoriaRepository;
+
+    private MeterRegistry registry;
+
+    private FilaAuditoria fila;
+
+    private GravadorAuditoria gravador;
+
+    private final List<List<RegistroAuditoria>> lotes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        fila = AuditoriaAspectTest.novaFila(registry, 100, Duration.ZERO);
+        gravador = new GravadorAuditoria();
+        ReflectionTestUtils.setField(gravador, "filaAuditoria", fila);
+        ReflectionTestUtils.setField(gravador, "registroAuditoriaRepository", registroAuditoriaRepository);
+        ReflectionTestUtils.setField(gravador, "tamanhoLote", 2);
+        ReflectionTestUtils.setField(gravador, "tentativas", 3);
+        when(registroAuditoriaRepository.saveAll(anyList())).thenAnswer(invocacao -> {
+            List<RegistroAuditoria> lote = invocacao.getArgument(0);
+            lotes.add(new ArrayList<>(lote));
+            return lote;
+        });
+    }
+
+    @Test
+    void deveGravarFilaEmLotes() {
+        for (int i = 0; i < 5; i++) {
+            fila.publicar(evento(i, null));
+        }
+
+        gravador.gravar();
+
+        assertEquals(List.of(2, 2, 1), lotes.stream().map(List::size).toList());
+        assertEquals(5.0, registry.get(FilaAuditoria.GRAVADOS).counter().count());
+        assertEquals(0.0, registry.get(FilaAuditoria.TAMANHO_FILA).gauge().value());
+        RegistroAuditoria registro = lotes.get(0).get(0);
+        assertEquals("gerente", registro.getUsuario());
+        assertEquals("ContaService.depositar", registro.getOperacao());
+        assertEquals("[0,10.00]", registro.getArgumentos());
+        assertEquals("null", registro.getResultado());
+        assertTrue(registro.isSucesso());
+    }
+
+    @Test
+    void deveGravarErroComoResultado() {
+        fila.publicar(evento(1, "SaldoInsuficienteException: Saldo insuficiente para saque"));
+
+        gravador.gravar();
+
+        RegistroAuditoria registro = lotes.get(0).get(0);
+        assertFalse(registro.isSucesso());
+        assertEquals("SaldoInsuficienteException: Saldo insuficiente para saque", registro.getResultado());
+    }
+
+    @Test
+    void deveLimitarTamanhoDosTextos() {
+        String texto = String.join("", Collections.nCopies(5000, "a"));
+        fila.publicar(new EventoAuditoria("sistema", "ContaService.atualizar", texto, texto, texto, true, Instant.now()));
+
+        gravador.gravar();
+
+        RegistroAuditoria registro = lotes.get(0).get(0);
+        assertEquals(4000, registro.getArgumentos().length());
+        assertEquals(4000, registro.getAntes().length());
+        assertEquals(4000, registro.getResultado().length());
+    }
+
+    @Test
+    void deveManterLoteQueFalhouParaNovaTentativa() {
+        fila.publicar(evento(1, null));
+        doThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .doAnswer(invocacao -> {
+                    lotes.add(new ArrayList<>(invocacao.<List<RegistroAuditoria>>getArgument(0)));
+                    return null;
+                })
+                .when(registroAuditoriaRepository).saveAll(anyList());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> gravador.gravar());
+        assertEquals(0.0, registry.get(FilaAuditoria.GRAVADOS).counter().count());
+
+        gravador.gravar();
+
+        assertEquals(1, lotes.size());
+        assertEquals("[1,10.00]", lotes.get(0).get(0).getArgumentos());
+        assertEquals(1.0, registry.get(FilaAuditoria.GRAVADOS).counter().count());
+    }
+
+    @Test
+    void deveDescartarLoteAposFalhasSeguidas() {
+        fila.publicar(evento(1, null));
+        fila.publicar(evento(2, null));
+        fila.publicar(evento(3, null));
+        doThrow(new DataAccessResourceFailureException("violação"))
+                .doThrow(new DataAccessResourceFailureException("violação"))
+                .doThrow(new DataAccessResourceFailureException("violação"))
+                .doAnswer(invocacao -> {
+                    lotes.add(new ArrayList<>(invocacao.<List<RegistroAuditoria>>getArgument(0)));
+                    return null;
+                })
+                .when(registroAuditoriaRepository).saveAll(anyList());
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(DataAccessResourceFailureException.class, () -> gravador.gravar());
+        }
+        gravador.gravar();
+
+        assertEquals(2.0, registry.get(FilaAuditoria.PERDIDOS).counter().count());
+        assertEquals(1, lotes.size());
+        assertEquals("[3,10.00]", lotes.get(0).get(0).getArgumentos());
+        assertEquals(1.0, registry.get(FilaAuditoria.GRAVADOS).counter().count());
+    }
+
+    @Test
+    void deveLimitarUsuario() {
+        fila.publicar(new EventoAuditoria(String.join("", Collections.nCopies(1000, "u")), "ContaService.depositar",
+                "[1]", null, "null", true, Instant.now()));
+
+        gravador.gravar();
+
+        assertEquals(255, lotes.get(0).get(0).getUsuario().length());
+    }
+
+    @Test
+    void naoDeveAcessarRepositorioComFilaVazia() {
+        gravador.gravar();
+
+        verify(registroAuditoriaRepository, never()).saveAll(anyList());
+    }
+
+    private EventoAuditoria evento(int numero, String erro) {
+        return new EventoAuditoria("gerente", "ContaService.depositar", "[" + numero + ",10.00]", null,
+                erro == null ? "null" : erro, erro == null, Instant.now());
+    }
+}
@@ -0,0 +1,149 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.SistemabancarioApplication;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Clientes bem-comportados medem o p99 sozinhos e depois ao lado de um integrador que dispara
+// depósitos sem pausa, com e sem o controle de admissão. Cada cliente se apresenta com um endereço
+// próprio no X-Forwarded-For, aceito porque a conexão vem do loopback, um proxy confiável.
+@Tag("carga")
+public class AdmissaoCargaTest {
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 4);
+    private static final int REQUISICOES = Integer.getInteger("carga.requisicoes", 500);
+    private static final int ABUSIVAS = Integer.getInteger("carga.threads", 32);
+    private static final int CONTAS = 100;
+    private static final int PRIMEIRA_CONTA = 4001;
+
+    @Test
+    void deveManterP99EstavelSobSobrecarga() throws Exception {
+        Resultado semControle = medir(false);
+        Resultado comControle = medir(true);
+
+        System.out.printf("[carga] admissão: p99 isolado %.1f ms; sob sobrecarga %.1f ms sem controle e %.1f ms com controle "
+                        + "(%d recusas 429 ao integrador abusivo)%n",
+                comControle.p99Isolado, semControle.p99Sobrecarga, comControle.p99Sobrecarga, comControle.recusasAbusivas);
+
+        assertEquals(0, comControle.falhas);
+        assertTrue(comControle.recusasAbusivas > 0);
+        assertTrue(comControle.p99Sobrecarga < semControle.p99Sobrecarga);
+        assertTrue(comControle.p99Sobrecarga <= Math.max(5 * comControle.p99Isolado, comControle.p99Isolado + 25));
+    }
+
+    private Resultado medir(boolean habilitada) throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(SistemabancarioApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:admissao-" + habilitada,
+                        "--spring.jpa.show-sql=false",
+                        "--server.forward-headers-strategy=native",
+                        "--banco.admissao.habilitada=" + habilitada,
+                        "--banco.admissao.conta.taxa=0")) {
+            CenarioCarga cenario = contexto.getAutowireCapableBeanFactory().createBean(CenarioCarga.class);
+            Agencia agencia = cenario.criarAgencia(PRIMEIRA_CONTA);
+            for (int i = 0; i < CONTAS; i++) {
+                cenario.criarConta(PRIMEIRA_CONTA + i, agencia, Dinheiro.ZERO);
+            }
+            String url = "http://localhost:" + ((WebServerApplicationContext) contexto).getWebServer().getPort()
+                    + "/contas/depositar";
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            Resultado resultado = new Resultado();
+            resultado.p99Isolado = bemComportados(http, url, resultado);
+
+            AtomicBoolean ativo = new AtomicBoolean(true);
+            AtomicInteger recusas = new AtomicInteger();
+            ExecutorService abusivo = Executors.newFixedThreadPool(ABUSIVAS);
+            for (int t = 0; t < ABUSIVAS; t++) {
+                int conta = PRIMEIRA_CONTA + t % CONTAS;
+                abusivo.submit(() -> {
+                    while (ativo.get()) {
+                        if (depositar(http, url, "10.0.0.1", conta) == 429) {
+                            recusas.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(500);
+            resultado.p99Sobrecarga = bemComportados(http, url, resultado);
+            ativo.set(false);
+            abusivo.shutdown();
+            resultado.recusasAbusivas = recusas.get();
+            return resultado;
+        }
+    }
+
+    private double bemComportados(HttpClient http, String url, Resultado resultado) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTES);
+        try {
+            List<Future<long[]>> clientes = new ArrayList<>();
+            for (int c = 0; c < CLIENTES; c++) {
+                String cliente = "10.0.1." + (c + 1);
+                int conta = PRIMEIRA_CONTA + c;
+                clientes.add(executor.submit(() -> {
+                    long[] latencias = new long[REQUISICOES];
+                    for (int i = 0; i < REQUISICOES; i++) {
+                        long inicio = System.nanoTime();
+                        int status = depositar(http, url, cliente, conta);
+                        latencias[i] = System.nanoTime() - inicio;
+                        // 429 é a resposta rápida esperada sob sobrecarga; qualquer outro erro é falha.
+                        if (status != 200 && status != 429) {
+                            synchronized (resultado) {
+                                resultado.falhas++;
+                            }
+                        }
+                    }
+                    return latencias;
+                }));
+            }
+            long[] todas = new long[0];
+            for (Future<long[]> cliente : clientes) {
+                long[] latencias = cliente.get();
+                int anterior = todas.length;
+                todas = Arrays.copyOf(todas, anterior + latencias.length);
+                System.arraycopy(latencias, 0, todas, anterior, latencias.length);
+            }
+            Arrays.sort(todas);
+            return todas[(int) Math.ceil(todas.length * 0.99) - 1] / 1_000_000.0;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int depositar(HttpClient http, String url, String cliente, int conta) throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", cliente)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"numeroConta\": " + conta + ", \"valor\": 1.00}"))
+                .build();
+        return http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static final class Resultado {
+        private double p99Isolado;
+        private double p99Sobrecarga;
+        private int recusasAbusivas;
+        private int falhas;
+    }
+}
@@ -0,0 +1,108 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.SistemabancarioApplication;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Mesma carga de alta concorrência contra /contas (MVC bloqueante) e /assincrono/contas.
+@Tag("carga")
+public class AssincronoCargaTest {
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 2000);
+    private static final int REQUISICOES = Integer.getInteger("carga.requisicoes", 10);
+    private static final int CONTAS = 1000;
+    private static final int PRIMEIRA_CONTA = 5001;
+
+    @Test
+    void deveCompararCaminhoMvcComAssincrono() throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(SistemabancarioApplication.class)
+                .profiles("assincrono")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:carga-assincrono",
+                        "--spring.jpa.show-sql=false",
+                        "--banco.admissao.habilitada=false")) {
+            CenarioCarga cenario = contexto.getAutowireCapableBeanFactory().createBean(CenarioCarga.class);
+            Agencia agencia = cenario.criarAgencia(PRIMEIRA_CONTA);
+            for (int i = 0; i < CONTAS; i++) {
+                cenario.criarConta(PRIMEIRA_CONTA + i, agencia, Dinheiro.ZERO);
+            }
+            String base = "http://localhost:" + ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // Aquecimento dos dois caminhos antes das medições.
+            medir(http, "aquecimento", cliente -> consulta(base + "/contas/", cliente), 200, 5);
+            medir(http, "aquecimento", cliente -> consulta(base + "/assincrono/contas/", cliente), 200, 5);
+
+            medir(http, "mvc buscarPorNumero", cliente -> consulta(base + "/contas/", cliente), CLIENTES, REQUISICOES);
+            medir(http, "assincrono buscarPorNumero", cliente -> consulta(base + "/assincrono/contas/", cliente), CLIENTES, REQUISICOES);
+            medir(http, "mvc depositar", cliente -> deposito(base + "/contas/depositar", cliente), CLIENTES, REQUISICOES);
+            medir(http, "assincrono depositar", cliente -> deposito(base + "/assincrono/contas/depositar", cliente), CLIENTES, REQUISICOES);
+        }
+    }
+
+    private static HttpRequest consulta(String prefixo, int cliente) {
+        return HttpRequest.newBuilder(URI.create(prefixo + (PRIMEIRA_CONTA + cliente % CONTAS))).build();
+    }
+
+    private static HttpRequest deposito(String url, int cliente) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"numeroConta\": " + (PRIMEIRA_CONTA + cliente % CONTAS) + ", \"valor\": 1.00}"))
+                .build();
+    }
+
+    private void medir(HttpClient http, String cenario, IntFunction<HttpRequest> requisicoes, int clientes, int porCliente) {
+        long[] latencias = new long[clientes * porCliente];
+        AtomicInteger total = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+        CompletableFuture<?>[] execucoes = new CompletableFuture<?>[clientes];
+        long inicio = System.nanoTime();
+        for (int i = 0; i < clientes; i++) {
+            execucoes[i] = requisitar(http, requisicoes.apply(i), porCliente, latencias, total, falhas);
+        }
+        CompletableFuture.allOf(execucoes).join();
+        long decorrido = System.nanoTime() - inicio;
+
+        assertEquals(0, falhas.get());
+        long[] ordenadas = Arrays.copyOf(latencias, total.get());
+        Arrays.sort(ordenadas);
+        double segundos = decorrido / 1_000_000_000.0;
+        double p99 = ordenadas[(int) Math.ceil(ordenadas.length * 0.99) - 1] / 1_000_000.0;
+        System.out.printf("[carga] %s: %d requisições de %d clientes em %.3f s (%.0f req/s, p99 %.1f ms)%n",
+                cenario, ordenadas.length, clientes, segundos, ordenadas.length / segundos, p99);
+    }
+
+    private CompletableFuture<Void> requisitar(HttpClient http, HttpRequest requisicao, int restantes, long[] latencias,
+                                               AtomicInteger total, AtomicInteger falhas) {
+        if (restantes == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long inicio = System.nanoTime();
+        return http.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                .handle((resposta, erro) -> {
+                    latencias[total.getAndIncrement()] = System.nanoTime() - inicio;
+                    if (erro != null || resposta.statusCode() != 200) {
+                        falhas.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignorado -> requisitar(http, requisicao, restantes - 1, latencias, total, falhas));
+    }
+}
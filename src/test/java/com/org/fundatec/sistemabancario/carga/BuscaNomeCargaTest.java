@@ -0,0 +1,95 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.model.Cliente;
+import com.org.fundatec.sistemabancario.model.NormalizadorNome;
+import com.org.fundatec.sistemabancario.service.ClienteService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("carga")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class BuscaNomeCargaTest {
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 1_000_000);
+    private static final int BUSCAS = Integer.getInteger("carga.buscas", 200);
+    private static final int PRIMEIRO = 20_000_000;
+    private static final String[] PRENOMES = {"José", "João", "Maria", "Ângela", "Luís", "Conceição", "Érica", "Otávio"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Araújo", "Gonçalves", "Müller", "Lima", "Brandão"};
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deveBuscarPorPrefixoNormalizadoMaisRapidoQueLike() {
+        clienteService.importar(gerarClientes(PRIMEIRO, CLIENTES));
+        String[] termos = new String[BUSCAS];
+        for (int i = 0; i < BUSCAS; i++) {
+            termos[i] = nome(PRIMEIRO + (int) ((long) i * 7919 % CLIENTES));
+        }
+
+        long like = medir(termos, termo -> jdbcTemplate.queryForList(
+                "select ID from CLIENTE where lower(NOME) like ? order by ID limit 21",
+                Long.class, "%" + termo.toLowerCase() + "%"));
+        long prefixo = medir(termos, termo -> jdbcTemplate.queryForList(
+                "select ID from CLIENTE where NOME_NORMALIZADO like ? escape '\\' order by NOME_NORMALIZADO, ID limit 21",
+                Long.class, NormalizadorNome.padraoPrefixo(termo)));
+        long servico = medir(termos, termo -> {
+            List<Cliente> encontrados = clienteService.buscarPorNome(termo, null, 20).getItens();
+            assertEquals(termo, encontrados.get(0).getNome());
+            return encontrados;
+        });
+
+        CenarioCarga.relatar("busca por nome com LIKE '%termo%'", BUSCAS, 1, like);
+        CenarioCarga.relatar("busca por prefixo normalizado", BUSCAS, 1, prefixo);
+        CenarioCarga.relatar("busca por prefixo normalizado via serviço", BUSCAS, 1, servico);
+        System.out.printf("[carga] média por busca em %d clientes: LIKE %.3f ms, prefixo %.3f ms, serviço %.3f ms%n",
+                CLIENTES, like / 1e6 / BUSCAS, prefixo / 1e6 / BUSCAS, servico / 1e6 / BUSCAS);
+        assertTrue(prefixo < like);
+    }
+
+    private long medir(String[] termos, Function<String, List<?>> busca) {
+        for (String termo : termos) {
+            assertFalse(busca.apply(termo).isEmpty());
+        }
+        long inicio = System.nanoTime();
+        for (String termo : termos) {
+            busca.apply(termo);
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private Iterator<ClienteDTO> gerarClientes(int primeiro, int quantidade) {
+        return new Iterator<>() {
+            private int gerados;
+
+            @Override
+            public boolean hasNext() {
+                return gerados < quantidade;
+            }
+
+            @Override
+            public ClienteDTO next() {
+                int base = primeiro + gerados++;
+                return new ClienteDTO(null, CenarioCarga.cpf(base), nome(base));
+            }
+        };
+    }
+
+    private static String nome(int base) {
+        return PRENOMES[base % PRENOMES.length] + " "
+                + SOBRENOMES[(base / PRENOMES.length) % SOBRENOMES.length] + " " + base;
+    }
+}
@@ -0,0 +1,109 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Banco;
+import com.org.fundatec.sistemabancario.model.Cliente;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.AgenciaService;
+import com.org.fundatec.sistemabancario.service.BancoService;
+import com.org.fundatec.sistemabancario.service.ClienteService;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@TestComponent
+public class CenarioCarga {
+
+    @Autowired
+    private BancoService bancoService;
+
+    @Autowired
+    private AgenciaService agenciaService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ContaService contaService;
+
+    public Agencia criarAgencia(int numero) {
+        Banco banco = bancoService.salvar(new BancoDTO(null, numero, "Banco Carga", "60.872.504/0001-23"));
+
+        AgenciaDTO agenciaDTO = new AgenciaDTO();
+        agenciaDTO.setNumero(numero);
+        agenciaDTO.setNome("Agência Carga");
+        agenciaDTO.setBancoId(banco.getId());
+        return agenciaService.salvar(agenciaDTO);
+    }
+
+    public Conta criarConta(int numero) {
+        return criarConta(numero, criarAgencia(numero), Dinheiro.ZERO);
+    }
+
+    public Conta criarConta(int numero, Agencia agencia, Dinheiro saldo) {
+        Cliente cliente = clienteService.salvar(new ClienteDTO(null, cpf(numero), "Cliente Carga"));
+
+        ContaDTO contaDTO = new ContaDTO();
+        contaDTO.setNumero(numero);
+        contaDTO.setSaldo(saldo);
+        contaDTO.setClienteId(cliente.getId());
+        contaDTO.setAgenciaId(agencia.getId());
+        return contaService.salvar(contaDTO);
+    }
+
+    public Dinheiro saldo(Integer numero) {
+        return contaService.buscarPorNumero(numero).getSaldo();
+    }
+
+    public static int executarConcorrente(int operacoes, int threads, Callable<Boolean> operacao) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> resultados = new ArrayList<>(operacoes);
+            for (int i = 0; i < operacoes; i++) {
+                resultados.add(executor.submit(operacao));
+            }
+            int sucessos = 0;
+            for (Future<Boolean> resultado : resultados) {
+                if (resultado.get()) {
+                    sucessos++;
+                }
+            }
+            return sucessos;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static void relatar(String cenario, int operacoes, int threads, long nanos) {
+        double segundos = nanos / 1_000_000_000.0;
+        System.out.printf("[carga] %s: %d operações em %.3f s (%.0f ops/s, %d threads)%n",
+                cenario, operacoes, segundos, operacoes / segundos, threads);
+    }
+
+    public static String cpf(long base) {
+        String digitos = String.format("%09d", base % 1_000_000_000L);
+        int primeiro = digitoVerificador(digitos, 10);
+        return digitos + primeiro + digitoVerificador(digitos + primeiro, 11);
+    }
+
+    private static int digitoVerificador(String digitos, int pesoInicial) {
+        int soma = 0;
+        for (int i = 0; i < digitos.length(); i++) {
+            soma += (digitos.charAt(i) - '0') * (pesoInicial - i);
+        }
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+}
@@ -0,0 +1,107 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.org.fundatec.sistemabancario.carga.CenarioCarga.executarConcorrente;
+import static com.org.fundatec.sistemabancario.carga.CenarioCarga.relatar;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("carga")
+@SpringBootTest
+@Import(CenarioCarga.class)
+public class ContaServiceCargaTest {
+
+    private static final int OPERACOES = Integer.getInteger("carga.operacoes", 2000);
+    private static final int THREADS = Integer.getInteger("carga.threads", 64);
+    private static final Dinheiro VALOR = Dinheiro.deReais(10);
+
+    @Autowired
+    private CenarioCarga cenario;
+
+    @Autowired
+    private ContaService contaService;
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void naoDevePerderDepositosConcorrentesNaMesmaConta() throws Exception {
+        Conta conta = cenario.criarConta(1001);
+
+        long inicio = System.nanoTime();
+        executarConcorrente(OPERACOES, THREADS, () -> {
+            contaService.depositar(conta.getNumero(), VALOR);
+            return true;
+        });
+        long decorrido = System.nanoTime() - inicio;
+
+        Dinheiro esperado = VALOR.multiplicar(OPERACOES);
+        assertEquals(0, esperado.compareTo(cenario.saldo(conta.getNumero())));
+        relatar("depositar (update atômico)", OPERACOES, THREADS, decorrido);
+    }
+
+    @Test
+    void naoDeveSacarAlemDoSaldoComSaquesConcorrentes() throws Exception {
+        Conta conta = cenario.criarConta(1002);
+        int saquesPossiveis = OPERACOES / 2;
+        contaService.depositar(conta.getNumero(), VALOR.multiplicar(saquesPossiveis));
+
+        AtomicInteger recusados = new AtomicInteger();
+        long inicio = System.nanoTime();
+        int realizados = executarConcorrente(OPERACOES, THREADS, () -> {
+            try {
+                contaService.sacar(conta.getNumero(), VALOR);
+                return true;
+            } catch (OperacaoInvalidaException e) {
+                recusados.incrementAndGet();
+                return false;
+            }
+        });
+        long decorrido = System.nanoTime() - inicio;
+
+        assertEquals(saquesPossiveis, realizados);
+        assertEquals(OPERACOES - saquesPossiveis, recusados.get());
+        assertEquals(0, Dinheiro.ZERO.compareTo(cenario.saldo(conta.getNumero())));
+        relatar("sacar (update condicional)", OPERACOES, THREADS, decorrido);
+    }
+
+    @Test
+    void deveCompararComLeituraSeguidaDeEscrita() throws Exception {
+        Conta conta = cenario.criarConta(1003);
+
+        long inicio = System.nanoTime();
+        int confirmados = executarConcorrente(OPERACOES, THREADS, () -> {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Conta atual = contaRepository.findByNumero(conta.getNumero()).orElseThrow();
+                    atual.setSaldo(atual.getSaldo().somar(VALOR));
+                    contaRepository.save(atual);
+                    return true;
+                });
+            } catch (RuntimeException e) {
+                return false;
+            }
+        });
+        long decorrido = System.nanoTime() - inicio;
+
+        long aplicados = cenario.saldo(conta.getNumero()).getCentavos() / VALOR.getCentavos();
+        relatar("depositar (leitura + save, referência)", OPERACOES, THREADS, decorrido);
+        System.out.printf("[carga] referência: %d confirmados, %d aplicados, %d com erro%n",
+                confirmados, aplicados, OPERACOES - confirmados);
+    }
+}
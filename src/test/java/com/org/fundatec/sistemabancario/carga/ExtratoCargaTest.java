@@ -0,0 +1,88 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.service.MovimentacaoService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+@Import(CenarioCarga.class)
+public class ExtratoCargaTest {
+
+    private static final int MOVIMENTACOES = Integer.getInteger("carga.movimentacoes", 100_000);
+    private static final int LOTE = 1_000;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private CenarioCarga cenario;
+
+    @Autowired
+    private MovimentacaoService movimentacaoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void deveExportarExtratoGrandeEmStreaming() throws Exception {
+        Conta conta = cenario.criarConta(4000);
+        for (int inseridas = 0; inseridas < MOVIMENTACOES; inseridas += LOTE) {
+            int lote = Math.min(LOTE, MOVIMENTACOES - inseridas);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < lote; i++) {
+                    movimentacaoService.registrar(conta.getId(), TipoMovimentacao.DEPOSITO, Dinheiro.deReais(1));
+                }
+            });
+        }
+
+        HttpRequest requisicao = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + porta + "/contas/" + conta.getNumero() + "/extrato")).build();
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapAntes = runtime.totalMemory() - runtime.freeMemory();
+        long heapMaximo = heapAntes;
+
+        long inicio = System.nanoTime();
+        HttpResponse<InputStream> resposta = HttpClient.newHttpClient()
+                .send(requisicao, HttpResponse.BodyHandlers.ofInputStream());
+        int lidas = 0;
+        try (JsonParser parser = new JsonFactory().createParser(resposta.body())) {
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                if (++lidas % 10_000 == 0) {
+                    heapMaximo = Math.max(heapMaximo, runtime.totalMemory() - runtime.freeMemory());
+                }
+            }
+        }
+        long decorrido = System.nanoTime() - inicio;
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals(MOVIMENTACOES, lidas);
+        CenarioCarga.relatar("extrato em streaming", lidas, 1, decorrido);
+        System.out.printf("[carga] heap: %d MB antes, pico observado %d MB%n",
+                heapAntes / (1024 * 1024), heapMaximo / (1024 * 1024));
+    }
+}
@@ -0,0 +1,76 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
+import com.org.fundatec.sistemabancario.repository.ClienteRepository;
+import com.org.fundatec.sistemabancario.service.ClienteService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("carga")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class ImportacaoCargaTest {
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 1_000_000);
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Test
+    void deveImportarClientesEmLote() {
+        long existentes = clienteRepository.count();
+
+        long inicio = System.nanoTime();
+        ResultadoImportacaoDTO resultado = clienteService.importar(gerarClientes(10_000_000, CLIENTES));
+        long decorrido = System.nanoTime() - inicio;
+
+        assertEquals(CLIENTES, resultado.getImportados());
+        assertTrue(resultado.getErros().isEmpty());
+        assertEquals(existentes + CLIENTES, clienteRepository.count());
+        CenarioCarga.relatar("importação de clientes", CLIENTES, 1, decorrido);
+    }
+
+    // Metade do arquivo repete clientes já gravados: as duplicatas são recusadas pelo UnicidadeService
+    // antes do lote, sem INSERT e sem derrubar a transação do restante.
+    @Test
+    void deveRecusarDuplicatasNaImportacaoSemGravar() {
+        int metade = CLIENTES / 2;
+        assertEquals(metade, clienteService.importar(gerarClientes(20_000_000, metade)).getImportados());
+        long existentes = clienteRepository.count();
+
+        long inicio = System.nanoTime();
+        ResultadoImportacaoDTO resultado = clienteService.importar(gerarClientes(20_000_000, CLIENTES));
+        long decorrido = System.nanoTime() - inicio;
+
+        assertEquals(CLIENTES - metade, resultado.getImportados());
+        assertEquals(metade, resultado.getErros().size());
+        assertEquals(existentes + CLIENTES - metade, clienteRepository.count());
+        CenarioCarga.relatar("importação de clientes com 50% de duplicatas", CLIENTES, 1, decorrido);
+    }
+
+    private Iterator<ClienteDTO> gerarClientes(int primeiro, int quantidade) {
+        return new Iterator<>() {
+            private int gerados;
+
+            @Override
+            public boolean hasNext() {
+                return gerados < quantidade;
+            }
+
+            @Override
+            public ClienteDTO next() {
+                int base = primeiro + gerados++;
+                return new ClienteDTO(null, CenarioCarga.cpf(base), "Cliente " + base);
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.SistemabancarioApplication;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("carga")
+public class ModoExecucaoCargaTest {
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 5000);
+    private static final int REQUISICOES = Integer.getInteger("carga.requisicoes", 20);
+    private static final int CONTAS = 100;
+    private static final int PRIMEIRA_CONTA = 3001;
+
+    @Test
+    void deveAtenderClientesConcorrentesEmThreadsDePlataforma() throws Exception {
+        medir("plataforma");
+    }
+
+    @Test
+    void deveAtenderClientesConcorrentesEmThreadsVirtuais() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Threads virtuais exigem JRE 21+");
+        medir("virtual", "virtual");
+    }
+
+    private void medir(String modo, String... perfis) throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(SistemabancarioApplication.class)
+                .profiles(perfis)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:carga-" + modo,
+                        "--spring.jpa.show-sql=false")) {
+            CenarioCarga cenario = contexto.getAutowireCapableBeanFactory().createBean(CenarioCarga.class);
+            Agencia agencia = cenario.criarAgencia(PRIMEIRA_CONTA);
+            for (int i = 0; i < CONTAS; i++) {
+                cenario.criarConta(PRIMEIRA_CONTA + i, agencia, Dinheiro.deReais(10));
+            }
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+
+            Medicao medicao = new Medicao(CLIENTES * REQUISICOES);
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            CompletableFuture<?>[] clientes = new CompletableFuture<?>[CLIENTES];
+            long inicio = System.nanoTime();
+            for (int i = 0; i < CLIENTES; i++) {
+                HttpRequest requisicao = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + porta + "/contas/" + (PRIMEIRA_CONTA + i % CONTAS) + "/saldo")).build();
+                clientes[i] = requisitar(http, requisicao, REQUISICOES, medicao);
+            }
+            CompletableFuture.allOf(clientes).join();
+            long decorrido = System.nanoTime() - inicio;
+
+            assertEquals(0, medicao.falhas.get());
+            medicao.relatar(modo, decorrido);
+        }
+    }
+
+    private CompletableFuture<Void> requisitar(HttpClient http, HttpRequest requisicao, int restantes, Medicao medicao) {
+        if (restantes == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long inicio = System.nanoTime();
+        return http.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding())
+                .handle((resposta, erro) -> {
+                    medicao.registrar(System.nanoTime() - inicio, erro == null && resposta.statusCode() == 200);
+                    return null;
+                })
+                .thenCompose(ignorado -> requisitar(http, requisicao, restantes - 1, medicao));
+    }
+
+    private static final class Medicao {
+
+        private final long[] latencias;
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger falhas = new AtomicInteger();
+
+        private Medicao(int requisicoes) {
+            this.latencias = new long[requisicoes];
+        }
+
+        private void registrar(long nanos, boolean sucesso) {
+            latencias[total.getAndIncrement()] = nanos;
+            if (!sucesso) {
+                falhas.incrementAndGet();
+            }
+        }
+
+        private void relatar(String modo, long nanos) {
+            long[] ordenadas = Arrays.copyOf(latencias, total.get());
+            Arrays.sort(ordenadas);
+            double segundos = nanos / 1_000_000_000.0;
+            double p99 = ordenadas[(int) Math.ceil(ordenadas.length * 0.99) - 1] / 1_000_000.0;
+            System.out.printf("[carga] modo %s: %d requisições de %d clientes em %.3f s (%.0f req/s, p99 %.1f ms)%n",
+                    modo, ordenadas.length, CLIENTES, segundos, ordenadas.length / segundos, p99);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static com.org.fundatec.sistemabancario.carga.CenarioCarga.executarConcorrente;
+import static com.org.fundatec.sistemabancario.carga.CenarioCarga.relatar;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+@Import(CenarioCarga.class)
+public class OperacaoLoteCargaTest {
+
+    private static final int OPERACOES = Integer.getInteger("carga.operacoes", 10_000);
+    private static final int CONTAS = Integer.getInteger("carga.contas", 100);
+    private static final int THREADS = Integer.getInteger("carga.threads", 16);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private CenarioCarga cenario;
+
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    @Test
+    void deveCompararLoteComOperacoesIndividuais() throws Exception {
+        int contasIndividuais = 5000;
+        int contasLote = 6000;
+        Agencia agencia = cenario.criarAgencia(contasIndividuais);
+        for (int i = 0; i < CONTAS; i++) {
+            cenario.criarConta(contasIndividuais + i, agencia, Dinheiro.ZERO);
+            cenario.criarConta(contasLote + i, agencia, Dinheiro.ZERO);
+        }
+
+        long inicioIndividual = System.nanoTime();
+        int[] sequencia = {0};
+        executarConcorrente(OPERACOES, THREADS, () -> {
+            int numero;
+            synchronized (sequencia) {
+                numero = contasIndividuais + sequencia[0]++ % CONTAS;
+            }
+            HttpResponse<Void> resposta = cliente.send(HttpRequest.newBuilder(uri("/contas/depositar"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"numeroConta\":" + numero + ",\"valor\":1}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            return resposta.statusCode() == 200;
+        });
+        long individual = System.nanoTime() - inicioIndividual;
+
+        StringBuilder ndjson = new StringBuilder(OPERACOES * 48);
+        for (int i = 0; i < OPERACOES; i++) {
+            ndjson.append("{\"tipo\":\"DEPOSITO\",\"numeroConta\":").append(contasLote + i % CONTAS)
+                    .append(",\"valor\":1}\n");
+        }
+        long inicioLote = System.nanoTime();
+        HttpResponse<String> resposta = cliente.send(HttpRequest.newBuilder(uri("/contas/operacoes"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        long lote = System.nanoTime() - inicioLote;
+
+        assertEquals(200, resposta.statusCode());
+        Dinheiro esperadoPorConta = Dinheiro.deReais(OPERACOES / CONTAS);
+        for (int i = 0; i < CONTAS; i++) {
+            assertEquals(0, esperadoPorConta.compareTo(cenario.saldo(contasIndividuais + i)));
+            assertEquals(0, esperadoPorConta.compareTo(cenario.saldo(contasLote + i)));
+        }
+
+        relatar("POST /contas/depositar individual", OPERACOES, THREADS, individual);
+        relatar("POST /contas/operacoes (NDJSON)", OPERACOES, 1, lote);
+        System.out.printf("[carga] ganho do lote: %.1fx%n", (double) individual / lote);
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+}
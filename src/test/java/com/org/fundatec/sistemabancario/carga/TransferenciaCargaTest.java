@@ -0,0 +1,93 @@
+package com.org.fundatec.sistemabancario.carga;
+
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.model.Agencia;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.org.fundatec.sistemabancario.carga.CenarioCarga.executarConcorrente;
+import static com.org.fundatec.sistemabancario.carga.CenarioCarga.relatar;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("carga")
+@SpringBootTest
+@Import(CenarioCarga.class)
+public class TransferenciaCargaTest {
+
+    private static final int CONTAS = Integer.getInteger("carga.contas", 20);
+    private static final int OPERACOES = Integer.getInteger("carga.operacoes", 2000);
+    private static final int THREADS = Integer.getInteger("carga.threads", 64);
+    private static final Dinheiro SALDO_INICIAL = Dinheiro.deReais(1000);
+
+    @Autowired
+    private CenarioCarga cenario;
+
+    @Autowired
+    private ContaService contaService;
+
+    @Test
+    void deveManterOTotalDosSaldosComTransferenciasAleatorias() throws Exception {
+        int primeiraConta = 2000;
+        Agencia agencia = cenario.criarAgencia(primeiraConta);
+        for (int i = 0; i < CONTAS; i++) {
+            cenario.criarConta(primeiraConta + i, agencia, SALDO_INICIAL);
+        }
+
+        AtomicInteger recusadas = new AtomicInteger();
+        long inicio = System.nanoTime();
+        int realizadas = executarConcorrente(OPERACOES, THREADS, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int origem = primeiraConta + random.nextInt(CONTAS);
+            int destino = primeiraConta + (origem - primeiraConta + 1 + random.nextInt(CONTAS - 1)) % CONTAS;
+            try {
+                contaService.transferir(origem, destino, Dinheiro.deReais(1 + random.nextInt(100)));
+                return true;
+            } catch (OperacaoInvalidaException e) {
+                recusadas.incrementAndGet();
+                return false;
+            }
+        });
+        long decorrido = System.nanoTime() - inicio;
+
+        Dinheiro total = Dinheiro.ZERO;
+        for (int i = 0; i < CONTAS; i++) {
+            Dinheiro saldo = cenario.saldo(primeiraConta + i);
+            assertTrue(saldo.signum() >= 0);
+            total = total.somar(saldo);
+        }
+
+        assertEquals(0, SALDO_INICIAL.multiplicar(CONTAS).compareTo(total));
+        assertEquals(OPERACOES, realizadas + recusadas.get());
+        relatar("transferir (" + CONTAS + " contas, " + recusadas.get() + " recusadas)", OPERACOES, THREADS, decorrido);
+    }
+
+    @Test
+    void naoDeveEntrarEmDeadlockComTransferenciasEmSentidosOpostos() throws Exception {
+        Agencia agencia = cenario.criarAgencia(3000);
+        cenario.criarConta(3000, agencia, SALDO_INICIAL);
+        cenario.criarConta(3001, agencia, SALDO_INICIAL);
+
+        AtomicInteger sequencia = new AtomicInteger();
+        long inicio = System.nanoTime();
+        executarConcorrente(OPERACOES, THREADS, () -> {
+            if (sequencia.getAndIncrement() % 2 == 0) {
+                contaService.transferir(3000, 3001, Dinheiro.deReais(1));
+            } else {
+                contaService.transferir(3001, 3000, Dinheiro.deReais(1));
+            }
+            return true;
+        });
+        long decorrido = System.nanoTime() - inicio;
+
+        assertEquals(0, SALDO_INICIAL.somar(SALDO_INICIAL).compareTo(cenario.saldo(3000).somar(cenario.saldo(3001))));
+        relatar("transferir (A->B e B->A)", OPERACOES, THREADS, decorrido);
+    }
+}
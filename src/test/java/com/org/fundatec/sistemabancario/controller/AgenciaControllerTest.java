@@ -1,6 +1,7 @@
 package com.org.fundatec.sistemabancario.controller;
 
 import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.model.Agencia;
 import com.org.fundatec.sistemabancario.service.AgenciaService;
@@ -10,6 +11,12 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -101,11 +108,33 @@ public class AgenciaControllerTest {
     @Test
     void deveListarAgenciasPorBanco() throws Exception {
         Agencia agencia = new Agencia(1234, "Centro", null);
-        Mockito.when(agenciaService.buscarPorBanco(1L)).thenReturn(List.of(agencia));
+        Mockito.when(agenciaService.buscarPorBanco(Mockito.eq(1L), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(agencia)));
 
-        mockMvc.perform(get("/agencias/banco/1"))
+        mockMvc.perform(get("/agencias/banco/1?size=5"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        Mockito.verify(agenciaService).buscarPorBanco(1L, PageRequest.of(0, 5, Sort.by("id")));
+    }
+
+    @Test
+    void deveListarAgenciasPorBancoComCursor() throws Exception {
+        Agencia agencia = new Agencia(1234, "Centro", null);
+        Mockito.when(agenciaService.buscarPorBanco(1L, 3L, 20)).thenReturn(new PaginaCursorDTO<>(List.of(agencia), null));
+
+        mockMvc.perform(get("/agencias/banco/1/cursor?apos=3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].numero").value(1234));
+    }
+
+    @Test
+    void deveRetornarBadRequestParaOrdenacaoInvalida() throws Exception {
+        Mockito.when(agenciaService.buscarPorBanco(Mockito.eq(1L), any(Pageable.class)))
+                .thenThrow(new PropertyReferenceException("inexistente", TypeInformation.of(Agencia.class), List.of()));
+
+        mockMvc.perform(get("/agencias/banco/1?sort=inexistente"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("Campo de ordenação inválido: inexistente"));
     }
 
     @Test
@@ -1,6 +1,8 @@
 package com.org.fundatec.sistemabancario.controller;
 
 import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.model.Banco;
 import com.org.fundatec.sistemabancario.service.BancoService;
@@ -10,9 +12,15 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +57,41 @@ public class BancoControllerTest {
                 .andExpect(jsonPath("$.id").value(1L));
     }
 
+    @Test
+    void deveRetornarConflitoParaCodigoJaCadastrado() throws Exception {
+        Mockito.when(bancoService.salvar(any(BancoDTO.class)))
+                .thenThrow(new ConflitoException("Banco já cadastrado com código: 341"));
+
+        mockMvc.perform(post("/bancos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BancoDTO(null, 341, "Itaú", "60.872.504/0001-23"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.mensagem").value("Banco já cadastrado com código: 341"));
+    }
+
+    @Test
+    void deveRetornarConflitoQuandoRestricaoUnicaEhViolada() throws Exception {
+        Mockito.when(bancoService.salvar(any(BancoDTO.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("Unique index violation", "23505")));
+
+        mockMvc.perform(post("/bancos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BancoDTO(null, 341, "Itaú", "60.872.504/0001-23"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.codigo").value(409));
+    }
+
+    @Test
+    void deveRetornarErroInternoParaOutrasViolacoesDeIntegridade() throws Exception {
+        Mockito.when(bancoService.salvar(any(BancoDTO.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("NULL not allowed", "23502")));
+
+        mockMvc.perform(post("/bancos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BancoDTO(null, 341, "Itaú", "60.872.504/0001-23"))))
+                .andExpect(status().isInternalServerError());
+    }
+
     @Test
     void deveRetornarErroQuandoNomeNulo() throws Exception {
         BancoDTO dto = new BancoDTO();
@@ -101,21 +144,56 @@ public class BancoControllerTest {
     @Test
     void deveListarTodosOsBancos() throws Exception {
         Banco banco = new Banco(341, "Itaú", "60.872.504/0001-23");
-        Mockito.when(bancoService.listarTodos()).thenReturn(List.of(banco));
+        Mockito.when(bancoService.listarTodos(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(banco)));
 
         mockMvc.perform(get("/bancos"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.page.totalElements").value(1));
+
+        Mockito.verify(bancoService).listarTodos(PageRequest.of(0, 20, Sort.by("id")));
+    }
+
+    @Test
+    void deveRepassarPaginaEOrdenacaoSolicitadas() throws Exception {
+        Mockito.when(bancoService.listarTodos(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
+        mockMvc.perform(get("/bancos?page=2&size=500&sort=nome,desc"))
+                .andExpect(status().isOk());
+
+        Mockito.verify(bancoService).listarTodos(PageRequest.of(2, 100, Sort.by(Sort.Direction.DESC, "nome")));
+    }
+
+    @Test
+    void deveListarBancosPorCursor() throws Exception {
+        Banco banco = new Banco(341, "Itaú", "60.872.504/0001-23");
+        Mockito.when(bancoService.listarTodos(10L, 1)).thenReturn(new PaginaCursorDTO<>(List.of(banco), 11L));
+
+        mockMvc.perform(get("/bancos/cursor?apos=10&tamanho=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].nome").value("Itaú"))
+                .andExpect(jsonPath("$.proximo").value(11));
     }
 
     @Test
     void deveBuscarBancoPorNome() throws Exception {
         Banco banco = new Banco(341, "Itaú", "60.872.504/0001-23");
-        Mockito.when(bancoService.buscarPorNome("ita")).thenReturn(List.of(banco));
+        Mockito.when(bancoService.buscarPorNome(Mockito.eq("ita"), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(banco)));
 
         mockMvc.perform(get("/bancos/buscar?nome=ita"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].nome").value("Itaú"));
+                .andExpect(jsonPath("$.content[0].nome").value("Itaú"));
+    }
+
+    @Test
+    void deveBuscarBancoPorNomeComCursor() throws Exception {
+        Banco banco = new Banco(341, "Itaú", "60.872.504/0001-23");
+        Mockito.when(bancoService.buscarPorNome("ita", null, 20)).thenReturn(new PaginaCursorDTO<>(List.of(banco), null));
+
+        mockMvc.perform(get("/bancos/buscar/cursor?nome=ita"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].nome").value("Itaú"))
+                .andExpect(jsonPath("$.proximo").doesNotExist());
     }
 
     @Test
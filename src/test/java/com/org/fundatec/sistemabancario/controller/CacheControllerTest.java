@@ -0,0 +1,56 @@
+package com.org.fundatec.sistemabancario.controller;
+
+import com.org.fundatec.sistemabancario.dto.EstatisticasCacheDTO;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.service.CacheService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CacheController.class)
+public class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CacheService cacheService;
+
+    @Test
+    void deveListarEstatisticasDosCaches() throws Exception {
+        Mockito.when(cacheService.listarEstatisticas()).thenReturn(List.of(
+                new EstatisticasCacheDTO("banco", 3, 90, 10, 0.9, 1)));
+
+        mockMvc.perform(get("/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nome").value("banco"))
+                .andExpect(jsonPath("$[0].acertos").value(90))
+                .andExpect(jsonPath("$[0].taxaAcerto").value(0.9))
+                .andExpect(jsonPath("$[0].despejos").value(1));
+    }
+
+    @Test
+    void deveLimparCache() throws Exception {
+        mockMvc.perform(delete("/caches/banco"))
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(cacheService).limpar("banco");
+    }
+
+    @Test
+    void deveRetornarNotFoundParaCacheInexistente() throws Exception {
+        Mockito.doThrow(new EntidadeNaoEncontradaException("Cache não encontrado: x"))
+                .when(cacheService).limpar("x");
+
+        mockMvc.perform(delete("/caches/x"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,6 +1,8 @@
 package com.org.fundatec.sistemabancario.controller;
 
 import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.model.Cliente;
 import com.org.fundatec.sistemabancario.service.ClienteService;
@@ -10,11 +12,16 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,7 +53,7 @@ public class ClienteControllerTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.cpf").value("123.456.789-09"))
+                .andExpect(jsonPath("$.cpf").value("12345678909"))
                 .andExpect(jsonPath("$.nome").value("Fulano de Tal"));
     }
 
@@ -72,7 +79,7 @@ public class ClienteControllerTest {
         mockMvc.perform(get("/clientes/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.cpf").value("123.456.789-09"));
+                .andExpect(jsonPath("$.cpf").value("12345678909"));
     }
 
     @Test
@@ -94,14 +101,47 @@ public class ClienteControllerTest {
                 .andExpect(jsonPath("$.nome").value("Fulano de Tal"));
     }
 
+    @Test
+    void deveImportarClientesEmNdjson() throws Exception {
+        List<ClienteDTO> recebidos = new ArrayList<>();
+        Mockito.when(clienteService.importar(any())).thenAnswer(invocacao -> {
+            Iterator<ClienteDTO> clientes = invocacao.getArgument(0);
+            clientes.forEachRemaining(recebidos::add);
+            ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+            resultado.adicionarImportados(recebidos.size());
+            return resultado;
+        });
+
+        mockMvc.perform(post("/clientes/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"cpf\":\"123.456.789-09\",\"nome\":\"Fulano\"}\n" +
+                                "{\"cpf\":\"529.982.247-25\",\"nome\":\"Beltrano\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(2))
+                .andExpect(jsonPath("$.erros").isEmpty());
+
+        assertEquals("Beltrano", recebidos.get(1).getNome());
+    }
+
     @Test
     void deveBuscarClientesPorNome() throws Exception {
         Cliente cliente = new Cliente("123.456.789-09", "Fulano de Tal");
-        Mockito.when(clienteService.buscarPorNome("Fulano")).thenReturn(List.of(cliente));
+        Mockito.when(clienteService.buscarPorNome(Mockito.eq("Fulano"), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(cliente)));
 
         mockMvc.perform(get("/clientes/buscar?nome=Fulano"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].cpf").value("123.456.789-09"));
+                .andExpect(jsonPath("$.content[0].cpf").value("12345678909"));
+    }
+
+    @Test
+    void deveBuscarClientesPorNomeComCursor() throws Exception {
+        Cliente cliente = new Cliente("123.456.789-09", "Fulano de Tal");
+        Mockito.when(clienteService.buscarPorNome("Fulano", 7L, 50)).thenReturn(new PaginaCursorDTO<>(List.of(cliente), 8L));
+
+        mockMvc.perform(get("/clientes/buscar/cursor?nome=Fulano&apos=7&tamanho=50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].cpf").value("12345678909"))
+                .andExpect(jsonPath("$.proximo").value(8));
     }
 
     @Test
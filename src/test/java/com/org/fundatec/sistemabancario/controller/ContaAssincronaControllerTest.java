@@ -0,0 +1,249 @@
+package com.org.fundatec.sistemabancario.controller;
+
+import com.org.fundatec.sistemabancario.admissao.LimitadorTaxa;
+import com.org.fundatec.sistemabancario.config.AssincronoConfig;
+import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.dto.OperacaoBancariaDTO;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import com.org.fundatec.sistemabancario.service.IdempotenciaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ContaAssincronaController.class)
+@ActiveProfiles("assincrono")
+public class ContaAssincronaControllerTest {
+
+    @TestConfiguration
+    static class Executor {
+
+        @Bean(name = AssincronoConfig.EXECUTOR, destroyMethod = "shutdown")
+        ExecutorService executorBanco() {
+            return Executors.newFixedThreadPool(2);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier(AssincronoConfig.EXECUTOR)
+    private ExecutorService executor;
+
+    @MockBean
+    private ContaService contaService;
+
+    @MockBean
+    private IdempotenciaService idempotenciaService;
+
+    @MockBean
+    private LimitadorTaxa limitadorTaxa;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(idempotenciaService.executar(any(), any(), any(), any()))
+                .thenAnswer(invocacao -> invocacao.<Supplier<?>>getArgument(3).get());
+    }
+
+    @Test
+    void deveCriarContaComSucesso() throws Exception {
+        ContaDTO dto = new ContaDTO();
+        dto.setNumero(12345);
+        dto.setSaldo(Dinheiro.ZERO);
+        dto.setClienteId(1L);
+        dto.setAgenciaId(1L);
+
+        Conta contaSalva = new Conta();
+        contaSalva.setNumero(12345);
+        contaSalva.setSaldo(Dinheiro.ZERO);
+        contaSalva.setId(1L);
+
+        Mockito.when(contaService.salvar(any(ContaDTO.class))).thenReturn(contaSalva);
+
+        MvcResult resultado = mockMvc.perform(post("/assincrono/contas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.numero").value(12345));
+    }
+
+    @Test
+    void deveValidarContaAntesDeDespachar() throws Exception {
+        mockMvc.perform(post("/assincrono/contas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"saldo\": 10}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.codigo").value(400));
+
+        Mockito.verify(contaService, Mockito.never()).salvar(any());
+    }
+
+    @Test
+    void deveBuscarContaPorNumero() throws Exception {
+        Conta conta = new Conta();
+        conta.setNumero(12345);
+        conta.setSaldo(Dinheiro.deReais(1000));
+        conta.setId(1L);
+
+        Mockito.when(contaService.buscarPorNumero(12345)).thenReturn(conta);
+
+        MvcResult resultado = mockMvc.perform(get("/assincrono/contas/12345"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numero").value(12345))
+                .andExpect(jsonPath("$.saldo").value(1000));
+    }
+
+    @Test
+    void deveRetornarNotFoundQuandoContaNaoExiste() throws Exception {
+        Mockito.when(contaService.buscarPorNumero(99999))
+                .thenThrow(new EntidadeNaoEncontradaException("Conta não encontrada com número: 99999"));
+
+        MvcResult resultado = mockMvc.perform(get("/assincrono/contas/99999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.mensagem").value("Conta não encontrada com número: 99999"));
+    }
+
+    @Test
+    void naoDeveExecutarTarefaQueExpirouNaFila() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        MvcResult resultado = mockMvc.perform(get("/assincrono/contas/12345"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext contexto = (MockAsyncContext) resultado.getRequest().getAsyncContext();
+        for (AsyncListener listener : contexto.getListeners()) {
+            listener.onTimeout(new AsyncEvent(contexto));
+        }
+        liberar.countDown();
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.erro").value("TEMPO_ESGOTADO"));
+        Mockito.verify(contaService, Mockito.never()).buscarPorNumero(any());
+    }
+
+    @Test
+    void deveResponderAceitaComChaveGeradaQuandoTarefaJaIniciou() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Mockito.doAnswer(invocacao -> {
+            iniciou.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(contaService).depositar(12345, Dinheiro.deReais(500));
+        OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
+        dto.setNumeroConta(12345);
+        dto.setValor(Dinheiro.deReais(500));
+
+        MvcResult resultado = mockMvc.perform(post("/assincrono/contas/depositar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        iniciou.await(5, TimeUnit.SECONDS);
+        MockAsyncContext contexto = (MockAsyncContext) resultado.getRequest().getAsyncContext();
+        for (AsyncListener listener : contexto.getListeners()) {
+            listener.onTimeout(new AsyncEvent(contexto));
+        }
+        liberar.countDown();
+
+        MvcResult aceita = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(IdempotenciaService.CABECALHO))
+                .andReturn();
+        String chave = aceita.getResponse().getHeader(IdempotenciaService.CABECALHO);
+        Mockito.verify(idempotenciaService).executar(any(), Mockito.eq(chave), any(), any());
+    }
+
+    @Test
+    void deveDepositarComSucesso() throws Exception {
+        OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
+        dto.setNumeroConta(12345);
+        dto.setValor(Dinheiro.deReais(500));
+
+        MvcResult resultado = mockMvc.perform(post("/assincrono/contas/depositar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk());
+        Mockito.verify(limitadorTaxa).verificarConta(12345);
+        Mockito.verify(contaService).depositar(12345, Dinheiro.deReais(500));
+    }
+
+    @Test
+    void deveRetornarBadRequestAoSacarComSaldoInsuficiente() throws Exception {
+        OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
+        dto.setNumeroConta(12345);
+        dto.setValor(Dinheiro.deReais(1000));
+
+        Mockito.doThrow(new SaldoInsuficienteException("Saldo insuficiente para saque"))
+                .when(contaService).sacar(12345, Dinheiro.deReais(1000));
+
+        MvcResult resultado = mockMvc.perform(post("/assincrono/contas/sacar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("Saldo insuficiente para saque"));
+    }
+}
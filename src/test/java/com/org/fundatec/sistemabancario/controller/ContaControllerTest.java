@@ -1,12 +1,29 @@
 package com.org.fundatec.sistemabancario.controller;
 
+import com.org.fundatec.sistemabancario.admissao.LimitadorTaxa;
 import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.dto.ContaResumoDTO;
+import com.org.fundatec.sistemabancario.dto.MovimentacaoDTO;
 import com.org.fundatec.sistemabancario.dto.OperacaoBancariaDTO;
+import com.org.fundatec.sistemabancario.dto.OperacaoLoteDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoOperacaoDTO;
+import com.org.fundatec.sistemabancario.dto.SaldoDTO;
+import com.org.fundatec.sistemabancario.dto.TransferenciaDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.LimiteExcedidoException;
 import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
 import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
 import com.org.fundatec.sistemabancario.service.ContaService;
+import com.org.fundatec.sistemabancario.service.IdempotenciaService;
+import com.org.fundatec.sistemabancario.service.MovimentacaoService;
+import com.org.fundatec.sistemabancario.service.OperacaoLoteService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,14 +31,24 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.context.TestPropertySource;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ContaController.class)
+@TestPropertySource(properties = "banco.extrato.tamanho-pagina=2")
 public class ContaControllerTest {
 
     @Autowired
@@ -30,19 +57,37 @@ public class ContaControllerTest {
     @MockBean
     private ContaService contaService;
 
+    @MockBean
+    private MovimentacaoService movimentacaoService;
+
+    @MockBean
+    private OperacaoLoteService operacaoLoteService;
+
+    @MockBean
+    private IdempotenciaService idempotenciaService;
+
+    @MockBean
+    private LimitadorTaxa limitadorTaxa;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @BeforeEach
+    void setUp() {
+        Mockito.when(idempotenciaService.executar(any(), any(), any(), any()))
+                .thenAnswer(invocacao -> invocacao.<Supplier<?>>getArgument(3).get());
+    }
+
     @Test
     void deveCriarContaComSucesso() throws Exception {
         ContaDTO dto = new ContaDTO();
         dto.setNumero(12345);
-        dto.setSaldo(BigDecimal.ZERO);
+        dto.setSaldo(Dinheiro.ZERO);
         dto.setClienteId(1L);
         dto.setAgenciaId(1L);
 
         Conta contaSalva = new Conta();
         contaSalva.setNumero(12345);
-        contaSalva.setSaldo(BigDecimal.ZERO);
+        contaSalva.setSaldo(Dinheiro.ZERO);
         contaSalva.setId(1L);
 
         Mockito.when(contaService.salvar(any(ContaDTO.class))).thenReturn(contaSalva);
@@ -55,11 +100,34 @@ public class ContaControllerTest {
                 .andExpect(jsonPath("$.numero").value(12345));
     }
 
+    @Test
+    void deveImportarContasEmArrayJson() throws Exception {
+        List<ContaDTO> recebidas = new ArrayList<>();
+        Mockito.when(contaService.importar(any())).thenAnswer(invocacao -> {
+            Iterator<ContaDTO> contas = invocacao.getArgument(0);
+            contas.forEachRemaining(recebidas::add);
+            ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+            resultado.adicionarImportados(1);
+            resultado.rejeitar(1, "Cliente não encontrado com ID: 9");
+            return resultado;
+        });
+
+        mockMvc.perform(post("/contas/importar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"numero\":1,\"clienteId\":1,\"agenciaId\":1}," +
+                                "{\"numero\":2,\"clienteId\":9,\"agenciaId\":1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(1))
+                .andExpect(jsonPath("$.erros[0]").value("Item 1: Cliente não encontrado com ID: 9"));
+
+        assertEquals(2, recebidas.size());
+    }
+
     @Test
     void deveBuscarContaPorNumero() throws Exception {
         Conta conta = new Conta();
         conta.setNumero(12345);
-        conta.setSaldo(BigDecimal.valueOf(1000));
+        conta.setSaldo(Dinheiro.deReais(1000));
         conta.setId(1L);
 
         Mockito.when(contaService.buscarPorNumero(12345)).thenReturn(conta);
@@ -70,6 +138,39 @@ public class ContaControllerTest {
                 .andExpect(jsonPath("$.saldo").value(1000));
     }
 
+    @Test
+    void deveBuscarSaldoDaConta() throws Exception {
+        Mockito.when(contaService.buscarSaldo(12345)).thenReturn(new SaldoDTO(12345, Dinheiro.deReais(1000)));
+
+        mockMvc.perform(get("/contas/12345/saldo"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"numero\":12345,\"saldo\":1000}", true));
+    }
+
+    @Test
+    void deveBuscarResumoDaConta() throws Exception {
+        Mockito.when(contaService.buscarResumo(12345)).thenReturn(
+                new ContaResumoDTO(12345, Dinheiro.deReais(1000), "Fulano de Tal", 1234, 341));
+
+        mockMvc.perform(get("/contas/12345/resumo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nomeCliente").value("Fulano de Tal"))
+                .andExpect(jsonPath("$.numeroAgencia").value(1234))
+                .andExpect(jsonPath("$.codigoBanco").value(341));
+    }
+
+    @Test
+    void deveRetornarNotFoundAoBuscarSaldoDeContaInexistente() throws Exception {
+        Mockito.when(contaService.buscarSaldo(999))
+                .thenThrow(new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", 999));
+
+        mockMvc.perform(get("/contas/999/saldo"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.codigo").value(404))
+                .andExpect(jsonPath("$.erro").value("CONTA_NAO_ENCONTRADA"))
+                .andExpect(jsonPath("$.mensagem").value("Conta não encontrada com número: 999"));
+    }
+
     @Test
     void deveRetornarNotFoundParaContaInexistente() throws Exception {
         Mockito.when(contaService.buscarPorNumero(12345))
@@ -79,28 +180,95 @@ public class ContaControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void deveTransmitirExtratoPaginadoPorChave() throws Exception {
+        LocalDateTime agora = LocalDateTime.of(2025, 1, 10, 12, 0);
+        MovimentacaoDTO primeira = new MovimentacaoDTO(1L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(100), agora);
+        MovimentacaoDTO segunda = new MovimentacaoDTO(2L, TipoMovimentacao.SAQUE, Dinheiro.deReais(30), agora);
+        MovimentacaoDTO terceira = new MovimentacaoDTO(3L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(5), agora.plusMinutes(1));
+
+        Mockito.when(contaService.buscarIdPorNumero(12345)).thenReturn(7L);
+        Mockito.when(movimentacaoService.buscarExtrato(eq(7L), isNull(), eq(2))).thenReturn(List.of(primeira, segunda));
+        Mockito.when(movimentacaoService.buscarExtrato(7L, segunda, 2)).thenReturn(List.of(terceira));
+
+        MvcResult resultado = mockMvc.perform(get("/contas/12345/extrato"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].tipo").value("DEPOSITO"))
+                .andExpect(jsonPath("$[1].valor").value(30))
+                .andExpect(jsonPath("$[2].id").value(3));
+    }
+
+    @Test
+    void deveRetornarNotFoundAoBuscarExtratoDeContaInexistente() throws Exception {
+        Mockito.when(contaService.buscarIdPorNumero(12345))
+                .thenThrow(new EntidadeNaoEncontradaException("Conta não encontrada"));
+
+        mockMvc.perform(get("/contas/12345/extrato"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void deveDepositarComSucesso() throws Exception {
         OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
         dto.setNumeroConta(12345);
-        dto.setValor(BigDecimal.valueOf(500));
+        dto.setValor(Dinheiro.deReais(500));
+
+        Mockito.doNothing().when(contaService).depositar(12345, Dinheiro.deReais(500));
+
+        mockMvc.perform(post("/contas/depositar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
 
-        Mockito.doNothing().when(contaService).depositar(12345, BigDecimal.valueOf(500));
+    @Test
+    void deveRepassarChaveDeIdempotenciaAoDepositar() throws Exception {
+        OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
+        dto.setNumeroConta(12345);
+        dto.setValor(Dinheiro.deReais(500));
 
         mockMvc.perform(post("/contas/depositar")
+                        .header(IdempotenciaService.CABECALHO, "chave-1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isOk());
+
+        Mockito.verify(idempotenciaService).executar(eq("127.0.0.1"), eq("chave-1"), eq("depositar:12345:500.00"), any());
+        Mockito.verify(contaService).depositar(12345, Dinheiro.deReais(500));
+    }
+
+    @Test
+    void deveRetornarConflitoComChaveDeIdempotenciaEmProcessamento() throws Exception {
+        OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
+        dto.setNumeroConta(12345);
+        dto.setValor(Dinheiro.deReais(300));
+
+        Mockito.doThrow(new ConflitoException("Requisição com esta Idempotency-Key ainda em processamento: chave-1"))
+                .when(idempotenciaService).executar(any(), eq("chave-1"), any(), any());
+
+        mockMvc.perform(post("/contas/sacar")
+                        .header(IdempotenciaService.CABECALHO, "chave-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.codigo").value(409));
+
+        Mockito.verify(contaService, Mockito.never()).sacar(any(), any());
     }
 
     @Test
     void deveRetornarNotFoundAoDepositarEmContaInexistente() throws Exception {
         OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
         dto.setNumeroConta(12345);
-        dto.setValor(BigDecimal.valueOf(500));
+        dto.setValor(Dinheiro.deReais(500));
 
         Mockito.doThrow(new EntidadeNaoEncontradaException("Conta não encontrada"))
-                .when(contaService).depositar(12345, BigDecimal.valueOf(500));
+                .when(contaService).depositar(12345, Dinheiro.deReais(500));
 
         mockMvc.perform(post("/contas/depositar")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -108,13 +276,33 @@ public class ContaControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void deveRetornarTooManyRequestsQuandoContaExcedeLimite() throws Exception {
+        OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
+        dto.setNumeroConta(12345);
+        dto.setValor(Dinheiro.deReais(500));
+
+        Mockito.doThrow(new LimiteExcedidoException(CodigoErro.LIMITE_CONTA, 12345))
+                .when(limitadorTaxa).verificarConta(12345);
+
+        mockMvc.perform(post("/contas/depositar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.erro").value("LIMITE_CONTA"))
+                .andExpect(jsonPath("$.mensagem").value("Limite de requisições excedido para a conta: 12345"));
+
+        Mockito.verify(contaService, Mockito.never()).depositar(any(), any());
+    }
+
     @Test
     void deveSacarComSucesso() throws Exception {
         OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
         dto.setNumeroConta(12345);
-        dto.setValor(BigDecimal.valueOf(300));
+        dto.setValor(Dinheiro.deReais(300));
 
-        Mockito.doNothing().when(contaService).sacar(12345, BigDecimal.valueOf(300));
+        Mockito.doNothing().when(contaService).sacar(12345, Dinheiro.deReais(300));
 
         mockMvc.perform(post("/contas/sacar")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -126,10 +314,10 @@ public class ContaControllerTest {
     void deveRetornarBadRequestAoSacarComSaldoInsuficiente() throws Exception {
         OperacaoBancariaDTO dto = new OperacaoBancariaDTO();
         dto.setNumeroConta(12345);
-        dto.setValor(BigDecimal.valueOf(1000));
+        dto.setValor(Dinheiro.deReais(1000));
 
         Mockito.doThrow(new OperacaoInvalidaException("Saldo insuficiente"))
-                .when(contaService).sacar(12345, BigDecimal.valueOf(1000));
+                .when(contaService).sacar(12345, Dinheiro.deReais(1000));
 
         mockMvc.perform(post("/contas/sacar")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -137,6 +325,114 @@ public class ContaControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void deveTransferirComSucesso() throws Exception {
+        TransferenciaDTO dto = new TransferenciaDTO();
+        dto.setNumeroContaOrigem(12345);
+        dto.setNumeroContaDestino(54321);
+        dto.setValor(Dinheiro.deReais(200));
+
+        Mockito.doNothing().when(contaService).transferir(12345, 54321, Dinheiro.deReais(200));
+
+        mockMvc.perform(post("/contas/transferir")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        Mockito.verify(contaService).transferir(12345, 54321, Dinheiro.deReais(200));
+    }
+
+    @Test
+    void deveRetornarBadRequestAoTransferirComSaldoInsuficiente() throws Exception {
+        TransferenciaDTO dto = new TransferenciaDTO();
+        dto.setNumeroContaOrigem(12345);
+        dto.setNumeroContaDestino(54321);
+        dto.setValor(Dinheiro.deReais(1000));
+
+        Mockito.doThrow(new OperacaoInvalidaException("Saldo insuficiente para saque"))
+                .when(contaService).transferir(12345, 54321, Dinheiro.deReais(1000));
+
+        mockMvc.perform(post("/contas/transferir")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("Saldo insuficiente para saque"));
+    }
+
+    @Test
+    void deveRetornarBadRequestAoTransferirSemContaDeDestino() throws Exception {
+        TransferenciaDTO dto = new TransferenciaDTO();
+        dto.setNumeroContaOrigem(12345);
+        dto.setValor(Dinheiro.deReais(100));
+
+        mockMvc.perform(post("/contas/transferir")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deveRetornarBadRequestAoDepositarValorNaoPositivo() throws Exception {
+        mockMvc.perform(post("/contas/depositar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"numeroConta\":12345,\"valor\":-5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("valor - Valor deve ser positivo;"));
+        Mockito.verifyNoInteractions(contaService);
+    }
+
+    @Test
+    void deveRetornarBadRequestAoDepositarValorComMaisDeDuasCasas() throws Exception {
+        mockMvc.perform(post("/contas/depositar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"numeroConta\":12345,\"valor\":10.001}"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(contaService);
+    }
+
+    @Test
+    void deveProcessarLoteEmArrayJson() throws Exception {
+        List<OperacaoLoteDTO> recebidas = new ArrayList<>();
+        Mockito.when(operacaoLoteService.processar(any())).thenAnswer(invocacao -> {
+            Iterator<OperacaoLoteDTO> operacoes = invocacao.getArgument(0);
+            operacoes.forEachRemaining(recebidas::add);
+            return List.of(
+                    new ResultadoOperacaoDTO(0, 12345, ResultadoOperacaoDTO.Status.SUCESSO, null),
+                    new ResultadoOperacaoDTO(1, 12345, ResultadoOperacaoDTO.Status.SALDO_INSUFICIENTE, "Saldo insuficiente para saque"));
+        });
+
+        mockMvc.perform(post("/contas/operacoes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"tipo\":\"DEPOSITO\",\"numeroConta\":12345,\"valor\":100}," +
+                                "{\"tipo\":\"SAQUE\",\"numeroConta\":12345,\"valor\":500}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("SUCESSO"))
+                .andExpect(jsonPath("$[1].status").value("SALDO_INSUFICIENTE"));
+
+        assertEquals(2, recebidas.size());
+        assertEquals(TipoMovimentacao.SAQUE, recebidas.get(1).getTipo());
+    }
+
+    @Test
+    void deveProcessarLoteEmNdjson() throws Exception {
+        List<OperacaoLoteDTO> recebidas = new ArrayList<>();
+        Mockito.when(operacaoLoteService.processar(any())).thenAnswer(invocacao -> {
+            Iterator<OperacaoLoteDTO> operacoes = invocacao.getArgument(0);
+            operacoes.forEachRemaining(recebidas::add);
+            return List.of();
+        });
+
+        mockMvc.perform(post("/contas/operacoes")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"tipo\":\"DEPOSITO\",\"numeroConta\":1,\"valor\":10}\n" +
+                                "{\"tipo\":\"DEPOSITO\",\"numeroConta\":2,\"valor\":20}\n" +
+                                "{\"tipo\":\"SAQUE\",\"numeroConta\":3,\"valor\":30}\n"))
+                .andExpect(status().isOk());
+
+        assertEquals(3, recebidas.size());
+        assertEquals(3, recebidas.get(2).getNumeroConta());
+    }
+
     @Test
     void deveDeletarContaComSucesso() throws Exception {
         Mockito.doNothing().when(contaService).deletar(1L);
@@ -0,0 +1,76 @@
+package com.org.fundatec.sistemabancario.exception.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.ExcecaoDominio;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestExceptionHandlerTest {
+
+    private final RestExceptionHandler handler = new RestExceptionHandler();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void deveManterMensagensDosCodigos() {
+        assertEquals("Conta não encontrada com número: 12345",
+                new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", 12345).getMessage());
+        assertEquals("Cache não encontrado: contas",
+                new EntidadeNaoEncontradaException(CodigoErro.CACHE_NAO_ENCONTRADO, "contas").getMessage());
+        assertEquals("Saldo insuficiente para saque", new SaldoInsuficienteException().getMessage());
+        assertEquals("Mensagem livre", new OperacaoInvalidaException("Mensagem livre").getMessage());
+    }
+
+    @Test
+    void naoDevePreencherPilha() {
+        assertEquals(0, new SaldoInsuficienteException().getStackTrace().length);
+        assertEquals(0, new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", 1)
+                .fillInStackTrace().getStackTrace().length);
+    }
+
+    @Test
+    void deveRenderizarComoErroResponse() throws Exception {
+        assertMesmoCorpo(new EntidadeNaoEncontradaException(CodigoErro.CLIENTE_NAO_ENCONTRADO, "CPF", "12345678909"));
+        assertMesmoCorpo(new SaldoInsuficienteException());
+        assertMesmoCorpo(new OperacaoInvalidaException(CodigoErro.VALOR_INVALIDO, "\"dez\"\n"));
+        assertMesmoCorpo(new ConflitoException("Requisição ainda em processamento: chave-1"));
+    }
+
+    @Test
+    void deveUsarStatusDoCodigo() {
+        ResponseEntity<byte[]> resposta = handler.trataExcecaoDominio(
+                new ConflitoException(CodigoErro.BANCO_JA_CADASTRADO, "código", 341));
+
+        assertEquals(409, resposta.getStatusCode().value());
+        assertEquals(MediaType.APPLICATION_JSON, resposta.getHeaders().getContentType());
+    }
+
+    @Test
+    void deveReutilizarCorpoSemDetalhe() {
+        byte[] primeiro = handler.trataExcecaoDominio(new SaldoInsuficienteException()).getBody();
+        byte[] segundo = handler.trataExcecaoDominio(new SaldoInsuficienteException()).getBody();
+
+        assertSame(primeiro, segundo);
+    }
+
+    private void assertMesmoCorpo(ExcecaoDominio ex) throws Exception {
+        CodigoErro codigo = ex.getCodigo();
+        ErroResponse esperado = new ErroResponse(codigo.getStatus(), codigo.name(), ex.getMessage());
+
+        byte[] corpo = handler.trataExcecaoDominio(ex).getBody();
+
+        assertEquals(objectMapper.writeValueAsString(esperado), new String(corpo, StandardCharsets.UTF_8));
+        ErroResponse lido = objectMapper.readValue(corpo, ErroResponse.class);
+        assertEquals(ex.getMessage(), lido.getMensagem());
+    }
+}
@@ -0,0 +1,88 @@
+package com.org.fundatec.sistemabancario.metricas;
+
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.service.ContaService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MetricasContaAspectTest {
+
+    private MeterRegistry registry;
+
+    private ContaService contaService;
+
+    private ContaService proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        MetricasContaAspect aspect = new MetricasContaAspect();
+        ReflectionTestUtils.setField(aspect, "registry", registry);
+
+        contaService = mock(ContaService.class);
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(contaService);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(aspect);
+        proxy = fabrica.getProxy();
+    }
+
+    @Test
+    void deveMedirOperacaoBemSucedidaEContabilizarValor() {
+        proxy.depositar(12345, Dinheiro.de("150.50"));
+        proxy.depositar(12345, Dinheiro.de("49.50"));
+
+        assertEquals(2, registry.get(MetricasContaAspect.TEMPO_OPERACAO)
+                .tags("operacao", "depositar", "resultado", "sucesso").timer().count());
+        assertEquals(200.0, registry.get(MetricasContaAspect.VALOR_MOVIMENTADO)
+                .tag("operacao", "depositar").counter().count());
+    }
+
+    @Test
+    void deveClassificarSaldoInsuficiente() {
+        doThrow(new SaldoInsuficienteException("Saldo insuficiente para saque"))
+                .when(contaService).sacar(12345, Dinheiro.deReais(10));
+
+        assertThrows(SaldoInsuficienteException.class, () -> proxy.sacar(12345, Dinheiro.deReais(10)));
+
+        assertEquals(1, registry.get(MetricasContaAspect.TEMPO_OPERACAO)
+                .tags("operacao", "sacar", "resultado", "saldo_insuficiente").timer().count());
+        assertNull(registry.find(MetricasContaAspect.VALOR_MOVIMENTADO).counter());
+    }
+
+    @Test
+    void deveClassificarContaNaoEncontradaEOperacaoInvalida() {
+        doThrow(new EntidadeNaoEncontradaException("Conta não encontrada com ID: 1"))
+                .when(contaService).deletar(1L);
+        doThrow(new OperacaoInvalidaException("Conta de origem e destino devem ser diferentes"))
+                .when(contaService).transferir(1, 1, Dinheiro.deReais(1));
+
+        assertThrows(EntidadeNaoEncontradaException.class, () -> proxy.deletar(1L));
+        assertThrows(OperacaoInvalidaException.class, () -> proxy.transferir(1, 1, Dinheiro.deReais(1)));
+
+        assertEquals(1, registry.get(MetricasContaAspect.TEMPO_OPERACAO)
+                .tags("operacao", "deletar", "resultado", "nao_encontrada").timer().count());
+        assertEquals(1, registry.get(MetricasContaAspect.TEMPO_OPERACAO)
+                .tags("operacao", "transferir", "resultado", "invalida").timer().count());
+    }
+
+    @Test
+    void deveClassificarErroInesperado() {
+        when(contaService.salvar(any())).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(IllegalStateException.class, () -> proxy.salvar(null));
+
+        assertEquals(1, registry.get(MetricasContaAspect.TEMPO_OPERACAO)
+                .tags("operacao", "salvar", "resultado", "erro").timer().count());
+    }
+}
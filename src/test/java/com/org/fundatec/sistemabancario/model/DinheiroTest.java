@@ -0,0 +1,75 @@
+package com.org.fundatec.sistemabancario.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DinheiroTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void deveConverterTextoEmCentavos() {
+        assertEquals(1050, Dinheiro.de("10.5").getCentavos());
+        assertEquals(1050, Dinheiro.de("10.500").getCentavos());
+        assertEquals(7, Dinheiro.de("0.07").getCentavos());
+        assertEquals(-25, Dinheiro.de("-.25").getCentavos());
+        assertEquals(120000, Dinheiro.de("1.2E3").getCentavos());
+    }
+
+    @Test
+    void deveRecusarMaisDeDuasCasasDecimais() {
+        assertThrows(OperacaoInvalidaException.class, () -> Dinheiro.de("0.001"));
+        assertThrows(OperacaoInvalidaException.class, () -> Dinheiro.de(new BigDecimal("1.005")));
+    }
+
+    @Test
+    void deveRecusarTextoInvalido() {
+        assertThrows(OperacaoInvalidaException.class, () -> Dinheiro.de(""));
+        assertThrows(OperacaoInvalidaException.class, () -> Dinheiro.de("dez"));
+    }
+
+    @Test
+    void deveDetectarEstouro() {
+        Dinheiro maximo = Dinheiro.deCentavos(Long.MAX_VALUE);
+
+        assertThrows(OperacaoInvalidaException.class, () -> maximo.somar(Dinheiro.deCentavos(1)));
+        assertThrows(OperacaoInvalidaException.class, () -> Dinheiro.deCentavos(Long.MIN_VALUE).subtrair(Dinheiro.deCentavos(1)));
+        assertThrows(OperacaoInvalidaException.class, () -> maximo.multiplicar(2));
+        assertThrows(OperacaoInvalidaException.class, () -> Dinheiro.de("92233720368547758.08"));
+    }
+
+    @Test
+    void deveFormatarComDuasCasas() {
+        assertEquals("10.50", Dinheiro.de("10.5").toString());
+        assertEquals("-0.05", Dinheiro.deCentavos(-5).toString());
+        assertEquals("0.00", Dinheiro.ZERO.toString());
+    }
+
+    @Test
+    void deveConverterParaColunaDecimal() {
+        ConversorDinheiro conversor = new ConversorDinheiro();
+
+        assertEquals(new BigDecimal("15.30"), conversor.convertToDatabaseColumn(Dinheiro.deCentavos(1530)));
+        assertEquals(Dinheiro.deCentavos(1530), conversor.convertToEntityAttribute(new BigDecimal("15.30")));
+        assertNull(conversor.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    void deveSerializarComoNumeroJson() throws Exception {
+        assertEquals("1500.75", objectMapper.writeValueAsString(Dinheiro.deCentavos(150075)));
+        assertEquals(Dinheiro.deCentavos(150075), objectMapper.readValue("1500.75", Dinheiro.class));
+        assertEquals(Dinheiro.deReais(10), objectMapper.readValue("10", Dinheiro.class));
+        assertEquals(Dinheiro.deReais(10), objectMapper.readValue("\"10.00\"", Dinheiro.class));
+    }
+
+    @Test
+    void deveRecusarJsonComMaisDeDuasCasasDecimais() {
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("10.001", Dinheiro.class));
+    }
+}
@@ -0,0 +1,75 @@
+package com.org.fundatec.sistemabancario.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalizadorDocumentoTest {
+
+    @Test
+    void deveAceitarCpfComOuSemMascara() {
+        assertTrue(NormalizadorDocumento.cpfValido("529.982.247-25"));
+        assertTrue(NormalizadorDocumento.cpfValido("52998224725"));
+        assertTrue(NormalizadorDocumento.cpfValido("529982247-25"));
+    }
+
+    @Test
+    void deveRecusarCpfInvalido() {
+        assertFalse(NormalizadorDocumento.cpfValido("529.982.247-26"));
+        assertFalse(NormalizadorDocumento.cpfValido("123.456.789-00"));
+        assertFalse(NormalizadorDocumento.cpfValido("111.111.111-11"));
+        assertFalse(NormalizadorDocumento.cpfValido("5299822472"));
+        assertFalse(NormalizadorDocumento.cpfValido("529982247255"));
+        assertFalse(NormalizadorDocumento.cpfValido("529..982.247-25"));
+        assertFalse(NormalizadorDocumento.cpfValido("5299.82.247-25"));
+        assertFalse(NormalizadorDocumento.cpfValido("529.982.247-2a"));
+        assertFalse(NormalizadorDocumento.cpfValido(""));
+    }
+
+    @Test
+    void deveRecusarCaractereNuloForaDasPosicoesDeSeparador() {
+        assertFalse(NormalizadorDocumento.cpfValido("5\u000029982247-25"));
+        assertFalse(NormalizadorDocumento.cpfValido("\u000052998224725"));
+        assertFalse(NormalizadorDocumento.cnpjValido("608\u000072504000123"));
+    }
+
+    @Test
+    void deveAceitarCnpjComOuSemMascara() {
+        assertTrue(NormalizadorDocumento.cnpjValido("60.872.504/0001-23"));
+        assertTrue(NormalizadorDocumento.cnpjValido("60872504000123"));
+        assertTrue(NormalizadorDocumento.cnpjValido("11.222.333/0001-81"));
+    }
+
+    @Test
+    void deveRecusarCnpjInvalido() {
+        assertFalse(NormalizadorDocumento.cnpjValido("60.872.504/0001-24"));
+        assertFalse(NormalizadorDocumento.cnpjValido("00.000.000/0000-00"));
+        assertFalse(NormalizadorDocumento.cnpjValido("60.872.504.0001-23"));
+        assertFalse(NormalizadorDocumento.cnpjValido("529.982.247-25"));
+    }
+
+    @Test
+    void deveNormalizarParaDigitos() {
+        assertEquals("52998224725", NormalizadorDocumento.normalizar("529.982.247-25"));
+        assertEquals("60872504000123", NormalizadorDocumento.normalizar("60.872.504/0001-23"));
+        assertNull(NormalizadorDocumento.normalizar(null));
+    }
+
+    @Test
+    void deveDevolverMesmaInstanciaQuandoJaCanonico() {
+        String cpf = "52998224725";
+
+        assertSame(cpf, NormalizadorDocumento.normalizar(cpf));
+    }
+
+    @Test
+    void deveManterEntradaComCaracteresEstranhos() {
+        assertEquals("529 982 247 25", NormalizadorDocumento.normalizar("529 982 247 25"));
+    }
+
+    @Test
+    void deveGravarDocumentoNormalizadoNaEntidade() {
+        assertEquals("52998224725", new Cliente("529.982.247-25", "Fulano").getCpf());
+        assertEquals("60872504000123", new Banco(341, "Itaú", "60.872.504/0001-23").getCnpj());
+    }
+}
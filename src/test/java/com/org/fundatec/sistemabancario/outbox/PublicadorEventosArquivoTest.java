@@ -0,0 +1,48 @@
+package com.org.fundatec.sistemabancario.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.EventoConta;
+import com.org.fundatec.sistemabancario.model.TipoEventoConta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicadorEventosArquivoTest {
+
+    @TempDir
+    private Path diretorio;
+
+    @Test
+    void deveAnexarUmEventoPorLinhaEntreLotes() throws Exception {
+        Path arquivo = diretorio.resolve("eventos/conta.jsonl");
+        PublicadorEventosArquivo publicador = new PublicadorEventosArquivo();
+        ReflectionTestUtils.setField(publicador, "objectMapper", new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(publicador, "arquivo", arquivo);
+        publicador.abrir();
+
+        publicador.publicar(List.of(evento(1L, TipoEventoConta.CONTA_CRIADA, null), evento(2L, TipoEventoConta.DEPOSITO, "10.50")));
+        publicador.publicar(List.of(evento(3L, TipoEventoConta.SAQUE, "1.00")));
+        publicador.fechar();
+
+        List<String> linhas = Files.readAllLines(arquivo);
+        assertEquals(3, linhas.size());
+        assertTrue(linhas.get(0).contains("\"tipo\":\"CONTA_CRIADA\""));
+        assertTrue(linhas.get(1).contains("\"valor\":10.50"));
+        assertTrue(linhas.get(2).contains("\"id\":3"));
+    }
+
+    private EventoConta evento(Long id, TipoEventoConta tipo, String valor) {
+        EventoConta evento = new EventoConta(7L, tipo, valor == null ? null : Dinheiro.de(valor), LocalDateTime.now());
+        evento.setId(id);
+        return evento;
+    }
+}
@@ -0,0 +1,105 @@
+package com.org.fundatec.sistemabancario.outbox;
+
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.EventoConta;
+import com.org.fundatec.sistemabancario.model.TipoEventoConta;
+import com.org.fundatec.sistemabancario.repository.EventoContaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RelayEventosTest {
+
+    @Mock
+    private EventoContaRepository eventoContaRepository;
+
+    @Mock
+    private PublicadorEventos publicadorEventos;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MeterRegistry registry;
+
+    private RelayEventos relay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        relay = new RelayEventos();
+        ReflectionTestUtils.setField(relay, "eventoContaRepository", eventoContaRepository);
+        ReflectionTestUtils.setField(relay, "publicadorEventos", publicadorEventos);
+        ReflectionTestUtils.setField(relay, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(relay, "registry", registry);
+        ReflectionTestUtils.setField(relay, "tamanhoLote", 2);
+        relay.iniciar();
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    @Test
+    void devePublicarEmLotesNaOrdemERemoverDaOutbox() throws Exception {
+        List<EventoConta> primeiro = List.of(evento(1L, 10L), evento(2L, 11L));
+        List<EventoConta> segundo = List.of(evento(3L, 10L));
+        when(eventoContaRepository.findByOrderByIdAsc(Limit.of(2))).thenReturn(primeiro, segundo);
+
+        relay.retransmitir();
+
+        InOrder ordem = inOrder(publicadorEventos, eventoContaRepository);
+        ordem.verify(publicadorEventos).publicar(primeiro);
+        ordem.verify(eventoContaRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        ordem.verify(publicadorEventos).publicar(segundo);
+        ordem.verify(eventoContaRepository).deleteAllByIdInBatch(List.of(3L));
+        assertEquals(3.0, registry.get(RelayEventos.PUBLICADOS).counter().count());
+        assertEquals(3, registry.get(RelayEventos.ATRASO).timer().count());
+        assertEquals(2, registry.get(RelayEventos.LOTE).timer().count());
+    }
+
+    @Test
+    void naoDeveRemoverEventosQuandoPublicacaoFalha() throws Exception {
+        List<EventoConta> pendentes = List.of(evento(1L, 10L));
+        when(eventoContaRepository.findByOrderByIdAsc(Limit.of(2))).thenReturn(pendentes);
+        doThrow(new IOException("disco cheio")).when(publicadorEventos).publicar(pendentes);
+
+        IllegalStateException erro = assertThrows(IllegalStateException.class, () -> relay.retransmitir());
+
+        assertInstanceOf(IOException.class, erro.getCause());
+        verify(eventoContaRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(0.0, registry.get(RelayEventos.PUBLICADOS).counter().count());
+    }
+
+    @Test
+    void naoDevePublicarOutboxVazia() throws Exception {
+        when(eventoContaRepository.findByOrderByIdAsc(Limit.of(2))).thenReturn(List.of());
+
+        relay.retransmitir();
+
+        verify(publicadorEventos, never()).publicar(any());
+        assertEquals(0, registry.get(RelayEventos.LOTE).timer().count());
+    }
+
+    private EventoConta evento(Long id, Long contaId) {
+        EventoConta evento = new EventoConta(contaId, TipoEventoConta.DEPOSITO, Dinheiro.deReais(1),
+                LocalDateTime.now().minusSeconds(1));
+        evento.setId(id);
+        return evento;
+    }
+}
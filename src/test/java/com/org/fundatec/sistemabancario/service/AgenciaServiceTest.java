@@ -1,6 +1,7 @@
 package com.org.fundatec.sistemabancario.service;
 
 import com.org.fundatec.sistemabancario.dto.AgenciaDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.model.Agencia;
 import com.org.fundatec.sistemabancario.model.Banco;
@@ -11,6 +12,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -28,12 +35,16 @@ class AgenciaServiceTest {
     @Mock
     private BancoRepository bancoRepository;
 
+    @Mock
+    private UnicidadeService unicidadeService;
+
     @InjectMocks
     private AgenciaService agenciaService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(agenciaService, "tamanhoMaximoPagina", 100);
     }
 
     @Test
@@ -83,7 +94,7 @@ class AgenciaServiceTest {
         Agencia agencia = new Agencia(1234, "Centro", null);
         agencia.setId(1L);
 
-        when(agenciaRepository.findById(1L)).thenReturn(Optional.of(agencia));
+        when(agenciaRepository.buscarPorId(1L, Agencia.GRAFO_COM_BANCO)).thenReturn(Optional.of(agencia));
 
 
         Agencia resultado = agenciaService.buscarPorId(1L);
@@ -98,7 +109,7 @@ class AgenciaServiceTest {
     @Test
     void deveLancarExcecaoQuandoAgenciaNaoEncontradaPorId() {
 
-        when(agenciaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(agenciaRepository.buscarPorId(1L, Agencia.GRAFO_COM_BANCO)).thenReturn(Optional.empty());
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> {
             agenciaService.buscarPorId(1L);
@@ -136,15 +147,32 @@ class AgenciaServiceTest {
 
         Agencia agencia = new Agencia(1234, "Centro", null);
         when(bancoRepository.existsById(1L)).thenReturn(true);
-        when(agenciaRepository.findByBancoId(1L)).thenReturn(List.of(agencia));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(agenciaRepository.findByBancoId(1L, pageable)).thenReturn(new PageImpl<>(List.of(agencia)));
 
 
-        List<Agencia> resultado = agenciaService.buscarPorBanco(1L);
+        Page<Agencia> resultado = agenciaService.buscarPorBanco(1L, pageable);
 
 
         assertFalse(resultado.isEmpty());
-        assertEquals(1, resultado.size());
-        assertEquals(1234, resultado.get(0).getNumero());
+        assertEquals(1, resultado.getContent().size());
+        assertEquals(1234, resultado.getContent().get(0).getNumero());
+    }
+
+    @Test
+    void deveListarAgenciasPorBancoComCursor() {
+        Agencia centro = new Agencia(1234, "Centro", null);
+        centro.setId(10L);
+        Agencia norte = new Agencia(4321, "Norte", null);
+        norte.setId(11L);
+        when(bancoRepository.existsById(1L)).thenReturn(true);
+        when(agenciaRepository.findByBancoIdAndIdGreaterThanOrderById(1L, 0L, Limit.of(2)))
+                .thenReturn(List.of(centro, norte));
+
+        PaginaCursorDTO<Agencia> resultado = agenciaService.buscarPorBanco(1L, null, 1);
+
+        assertEquals(List.of(centro), resultado.getItens());
+        assertEquals(10L, resultado.getProximo());
     }
 
     @Test
@@ -154,8 +182,9 @@ class AgenciaServiceTest {
 
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> {
-            agenciaService.buscarPorBanco(1L);
+            agenciaService.buscarPorBanco(1L, PageRequest.of(0, 20));
         });
+        assertThrows(EntidadeNaoEncontradaException.class, () -> agenciaService.buscarPorBanco(1L, null, 20));
     }
 
     @Test
@@ -223,27 +252,29 @@ class AgenciaServiceTest {
     @Test
     void deveDeletarAgenciaComSucesso() {
 
-        when(agenciaRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(agenciaRepository).deleteById(1L);
+        Agencia agencia = new Agencia(1234, "Centro", null);
+        when(agenciaRepository.findById(1L)).thenReturn(Optional.of(agencia));
 
 
         assertDoesNotThrow(() -> agenciaService.deletar(1L));
-        verify(agenciaRepository).deleteById(1L);
+        verify(agenciaRepository).delete(agencia);
+        verify(unicidadeService).remover(UnicidadeService.Chave.AGENCIA, 1234);
     }
 
     @Test
     void deveLancarExcecaoAoDeletarAgenciaInexistente() {
 
-        when(agenciaRepository.existsById(1L)).thenReturn(false);
+        when(agenciaRepository.findById(1L)).thenReturn(Optional.empty());
         assertThrows(EntidadeNaoEncontradaException.class, () -> agenciaService.deletar(1L));
     }
 
     @Test
     void deveRetornarListaVaziaSeBancoNaoTemAgencias() {
         when(bancoRepository.existsById(1L)).thenReturn(true);
-        when(agenciaRepository.findByBancoId(1L)).thenReturn(Collections.emptyList());
+        Pageable pageable = PageRequest.of(0, 20);
+        when(agenciaRepository.findByBancoId(1L, pageable)).thenReturn(new PageImpl<>(Collections.emptyList()));
 
-        List<Agencia> resultado = agenciaService.buscarPorBanco(1L);
+        Page<Agencia> resultado = agenciaService.buscarPorBanco(1L, pageable);
 
         assertTrue(resultado.isEmpty());
     }
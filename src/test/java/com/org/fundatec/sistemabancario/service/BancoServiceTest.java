@@ -1,7 +1,10 @@
 package com.org.fundatec.sistemabancario.service;
 
 import com.org.fundatec.sistemabancario.dto.BancoDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
 import com.org.fundatec.sistemabancario.model.Banco;
 import com.org.fundatec.sistemabancario.repository.BancoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +12,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -23,12 +33,16 @@ class BancoServiceTest {
     @Mock
     private BancoRepository bancoRepository;
 
+    @Mock
+    private UnicidadeService unicidadeService;
+
     @InjectMocks
     private BancoService bancoService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bancoService, "tamanhoMaximoPagina", 100);
     }
 
     @Test
@@ -74,12 +88,46 @@ class BancoServiceTest {
     @Test
     void deveListarTodosBancos() {
         Banco banco = new Banco(341, "Itaú", "60.872.504/0001-23");
-        when(bancoRepository.findAll()).thenReturn(Collections.singletonList(banco));
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id"));
+        when(bancoRepository.findAll(pageable)).thenReturn(new PageImpl<>(Collections.singletonList(banco), pageable, 1));
 
-        List<Banco> resultado = bancoService.listarTodos();
+        Page<Banco> resultado = bancoService.listarTodos(pageable);
 
         assertFalse(resultado.isEmpty());
-        assertEquals(1, resultado.size());
+        assertEquals(1, resultado.getTotalElements());
+    }
+
+    @Test
+    void deveListarBancosPorCursorIndicandoProximaPagina() {
+        Banco itau = bancoComId(1L, 341, "Itaú");
+        Banco bradesco = bancoComId(2L, 237, "Bradesco");
+        Banco caixa = bancoComId(3L, 104, "Caixa");
+        when(bancoRepository.findByIdGreaterThanOrderById(0L, Limit.of(3))).thenReturn(List.of(itau, bradesco, caixa));
+
+        PaginaCursorDTO<Banco> resultado = bancoService.listarTodos(null, 2);
+
+        assertEquals(List.of(itau, bradesco), resultado.getItens());
+        assertEquals(2L, resultado.getProximo());
+    }
+
+    @Test
+    void deveListarUltimaPaginaPorCursorSemProxima() {
+        Banco caixa = bancoComId(3L, 104, "Caixa");
+        when(bancoRepository.findByIdGreaterThanOrderById(2L, Limit.of(3))).thenReturn(List.of(caixa));
+
+        PaginaCursorDTO<Banco> resultado = bancoService.listarTodos(2L, 2);
+
+        assertEquals(1, resultado.getItens().size());
+        assertNull(resultado.getProximo());
+    }
+
+    @Test
+    void deveLimitarTamanhoDaPaginaPorCursor() {
+        when(bancoRepository.findByIdGreaterThanOrderById(0L, Limit.of(101))).thenReturn(List.of());
+
+        bancoService.listarTodos(null, 5000);
+
+        verify(bancoRepository).findByIdGreaterThanOrderById(0L, Limit.of(101));
     }
 
     @Test
@@ -97,12 +145,41 @@ class BancoServiceTest {
     @Test
     void deveBuscarBancoPorNome() {
         Banco banco = new Banco(341, "Itaú", "60.872.504/0001-23");
-        when(bancoRepository.findByNomeContainingIgnoreCase("ita")).thenReturn(List.of(banco));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(bancoRepository.buscarPorPrefixo("ita%", pageable)).thenReturn(new PageImpl<>(List.of(banco)));
+
+        Page<Banco> resultado = bancoService.buscarPorNome("  ITÁ ", pageable);
+
+        assertEquals(1, resultado.getContent().size());
+        assertEquals("Itaú", resultado.getContent().get(0).getNome());
+    }
+
+    @Test
+    void deveBuscarBancoPorNomeComCursor() {
+        Banco banco = bancoComId(5L, 341, "Itaú");
+        when(bancoRepository.findNomeNormalizadoById(4L)).thenReturn(Optional.of("itau"));
+        when(bancoRepository.buscarPorPrefixoApos("ita%", "itau", 4L, Limit.of(21))).thenReturn(List.of(banco));
 
-        List<Banco> resultado = bancoService.buscarPorNome("ita");
+        PaginaCursorDTO<Banco> resultado = bancoService.buscarPorNome("Itá", 4L, 20);
 
-        assertEquals(1, resultado.size());
-        assertEquals("Itaú", resultado.get(0).getNome());
+        assertEquals(List.of(banco), resultado.getItens());
+        assertNull(resultado.getProximo());
+    }
+
+    @Test
+    void deveEscaparCuringasNaBuscaPorNome() {
+        when(bancoRepository.buscarPorPrefixo("banco 100\\%\\_%", Limit.of(21))).thenReturn(List.of());
+
+        bancoService.buscarPorNome("Banco 100%_", null, 20);
+
+        verify(bancoRepository).buscarPorPrefixo("banco 100\\%\\_%", Limit.of(21));
+    }
+
+    @Test
+    void deveLancarExcecaoParaCursorDeBancoInexistente() {
+        when(bancoRepository.findNomeNormalizadoById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(OperacaoInvalidaException.class, () -> bancoService.buscarPorNome("ita", 99L, 20));
     }
 
 
@@ -128,19 +205,35 @@ class BancoServiceTest {
 
     @Test
     void deveDeletarBancoComSucesso() {
-        when(bancoRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(bancoRepository).deleteById(1L);
+        Banco banco = bancoComId(1L, 341, "Itaú");
+        when(bancoRepository.findById(1L)).thenReturn(Optional.of(banco));
 
         assertDoesNotThrow(() -> bancoService.deletar(1L));
-        verify(bancoRepository).deleteById(1L);
+        verify(bancoRepository).delete(banco);
+        verify(unicidadeService).remover(UnicidadeService.Chave.BANCO, 341);
+    }
+
+    @Test
+    void deveRecusarBancoComCodigoDuplicadoSemGravar() {
+        BancoDTO dto = new BancoDTO(null, 341, "Itaú", "60.872.504/0001-23");
+        doThrow(new ConflitoException("Banco já cadastrado com código: 341"))
+                .when(unicidadeService).verificar(UnicidadeService.Chave.BANCO, 341);
+
+        assertThrows(ConflitoException.class, () -> bancoService.salvar(dto));
+        verify(bancoRepository, never()).save(any());
     }
 
 
     @Test
     void deveLancarExcecaoAoDeletarBancoInexistente() {
-        when(bancoRepository.existsById(1L)).thenReturn(false);
+        when(bancoRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> bancoService.deletar(1L));
     }
 
-}
\ No newline at end of file
+    private Banco bancoComId(Long id, Integer codigo, String nome) {
+        Banco banco = new Banco(codigo, nome, "60.872.504/0001-23");
+        banco.setId(id);
+        return banco;
+    }
+}
@@ -0,0 +1,76 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.org.fundatec.sistemabancario.cache.ArmazenamentoCaffeine;
+import com.org.fundatec.sistemabancario.cache.FabricaRegioesCaffeine;
+import com.org.fundatec.sistemabancario.dto.EstatisticasCacheDTO;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheServiceTest {
+
+    private CacheImplementor cacheHibernate;
+
+    private FabricaRegioesCaffeine fabricaRegioes;
+
+    private CacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        cacheHibernate = mock(CacheImplementor.class);
+        fabricaRegioes = mock(FabricaRegioesCaffeine.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cacheHibernate);
+        when(cacheHibernate.getRegionFactory()).thenReturn(fabricaRegioes);
+        cacheService = new CacheService();
+        ReflectionTestUtils.setField(cacheService, "entityManagerFactory", entityManagerFactory);
+    }
+
+    @Test
+    void deveListarEstatisticasDasRegioesDoHibernate() {
+        ArmazenamentoCaffeine armazenamento = new ArmazenamentoCaffeine(Caffeine.newBuilder().recordStats().build());
+        armazenamento.putIntoCache("chave", "valor", null);
+        armazenamento.getFromCache("chave", null);
+        armazenamento.getFromCache("outra", null);
+        armazenamento.getFromCache("outra", null);
+        when(fabricaRegioes.getArmazenamentos()).thenReturn(Map.of("cliente", armazenamento));
+
+        List<EstatisticasCacheDTO> estatisticas = cacheService.listarEstatisticas();
+
+        assertEquals(1, estatisticas.size());
+        EstatisticasCacheDTO cliente = estatisticas.get(0);
+        assertEquals("cliente", cliente.getNome());
+        assertEquals(1, cliente.getTamanho());
+        assertEquals(1, cliente.getAcertos());
+        assertEquals(2, cliente.getFaltas());
+    }
+
+    @Test
+    void deveLimparRegiaoDoHibernate() {
+        Region regiao = mock(Region.class);
+        when(cacheHibernate.getRegion("cliente")).thenReturn(regiao);
+
+        cacheService.limpar("cliente");
+
+        verify(regiao).clear();
+    }
+
+    @Test
+    void deveLancarExcecaoParaRegiaoInexistente() {
+        assertThrows(EntidadeNaoEncontradaException.class, () -> cacheService.limpar("inexistente"));
+    }
+}
@@ -1,20 +1,37 @@
 package com.org.fundatec.sistemabancario.service;
 
 import com.org.fundatec.sistemabancario.dto.ClienteDTO;
+import com.org.fundatec.sistemabancario.dto.PaginaCursorDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.model.Cliente;
 import com.org.fundatec.sistemabancario.repository.ClienteRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
+import org.mockito.Spy;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 class ClienteServiceTest {
@@ -22,12 +39,117 @@ class ClienteServiceTest {
     @Mock
     private ClienteRepository clienteRepository;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UnicidadeService unicidadeService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private ClienteService clienteService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(clienteService, "tamanhoTransacao", 2);
+        ReflectionTestUtils.setField(clienteService, "tamanhoMaximoPagina", 100);
+        doAnswer(invocacao -> {
+            Consumer<TransactionStatus> acao = invocacao.getArgument(0);
+            acao.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void deveImportarClientesEmTransacoesPorLote() {
+        List<ClienteDTO> clientes = List.of(
+                new ClienteDTO(null, "123.456.789-09", "Fulano"),
+                new ClienteDTO(null, "529.982.247-25", "Beltrano"),
+                new ClienteDTO(null, "111.444.777-35", "Ciclano"));
+
+        ResultadoImportacaoDTO resultado = clienteService.importar(clientes.iterator());
+
+        assertEquals(3, resultado.getImportados());
+        assertTrue(resultado.getErros().isEmpty());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(clienteRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void deveRejeitarClientesInvalidosNaImportacao() {
+        List<ClienteDTO> clientes = List.of(
+                new ClienteDTO(null, "123.456.789-09", "Fulano"),
+                new ClienteDTO(null, "123.456.789-00", "CPF inválido"),
+                new ClienteDTO(null, "529.982.247-25", ""));
+
+        ResultadoImportacaoDTO resultado = clienteService.importar(clientes.iterator());
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals(2, resultado.getErros().size());
+        assertTrue(resultado.getErros().get(0).startsWith("Item 1: cpf"));
+        assertTrue(resultado.getErros().get(1).startsWith("Item 2: nome"));
+    }
+
+    @Test
+    void deveRejeitarCpfsDuplicadosNaImportacaoSemGravar() {
+        when(unicidadeService.existe(UnicidadeService.Chave.CLIENTE, "52998224725")).thenReturn(true);
+        List<ClienteDTO> clientes = List.of(
+                new ClienteDTO(null, "123.456.789-09", "Fulano"),
+                new ClienteDTO(null, "529.982.247-25", "Já cadastrado"),
+                new ClienteDTO(null, "12345678909", "Repetido no arquivo"));
+
+        ResultadoImportacaoDTO resultado = clienteService.importar(clientes.iterator());
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals(2, resultado.getErros().size());
+        assertTrue(resultado.getErros().get(0).startsWith("Item 1: Cliente já cadastrado"));
+        assertTrue(resultado.getErros().get(1).startsWith("Item 2: Cliente já cadastrado"));
+        verify(unicidadeService).registrar(UnicidadeService.Chave.CLIENTE, "12345678909");
+    }
+
+    @Test
+    void deveRejeitarItensDoLoteQueFalhaSemPerderOsLotesGravados() {
+        when(clienteRepository.saveAll(anyList()))
+                .thenReturn(List.of())
+                .thenThrow(new DataAccessResourceFailureException("conexão perdida"));
+        List<ClienteDTO> clientes = List.of(
+                new ClienteDTO(null, "123.456.789-09", "Fulano"),
+                new ClienteDTO(null, "529.982.247-25", "Beltrano"),
+                new ClienteDTO(null, "111.444.777-35", "Ciclano"));
+
+        ResultadoImportacaoDTO resultado = clienteService.importar(clientes.iterator());
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(List.of("Item 2: Falha ao gravar o lote; item não importado"), resultado.getErros());
+    }
+
+    @Test
+    void deveDevolverResultadoParcialQuandoOFluxoEstaMalFormado() {
+        Iterator<ClienteDTO> fluxo = new Iterator<>() {
+            private boolean entregue;
+
+            @Override
+            public boolean hasNext() {
+                if (entregue) {
+                    throw new IllegalStateException("JSON truncado");
+                }
+                return true;
+            }
+
+            @Override
+            public ClienteDTO next() {
+                entregue = true;
+                return new ClienteDTO(null, "123.456.789-09", "Fulano");
+            }
+        };
+
+        ResultadoImportacaoDTO resultado = clienteService.importar(fluxo);
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals(List.of("Item 1: Item mal formado; importação interrompida"), resultado.getErros());
     }
 
     @Test
@@ -45,7 +167,7 @@ class ClienteServiceTest {
 
         assertNotNull(resultado);
         assertEquals(1L, resultado.getId());
-        assertEquals("123.456.789-09", resultado.getCpf());
+        assertEquals("12345678909", resultado.getCpf());
         assertEquals("Fulano de Tal", resultado.getNome());
     }
 
@@ -75,7 +197,7 @@ class ClienteServiceTest {
     @Test
     void deveBuscarClientePorCpf() {
         Cliente cliente = new Cliente("123.456.789-09", "Fulano de Tal");
-        when(clienteRepository.findByCpf("123.456.789-09")).thenReturn(Optional.of(cliente));
+        when(clienteRepository.findByCpf("12345678909")).thenReturn(Optional.of(cliente));
 
         Cliente resultado = clienteService.buscarPorCpf("123.456.789-09");
 
@@ -85,7 +207,7 @@ class ClienteServiceTest {
 
     @Test
     void deveLancarExcecaoQuandoClienteNaoEncontradoPorCpf() {
-        when(clienteRepository.findByCpf("123.456.789-09")).thenReturn(Optional.empty());
+        when(clienteRepository.findByCpf("12345678909")).thenReturn(Optional.empty());
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> {
             clienteService.buscarPorCpf("123.456.789-09");
@@ -95,13 +217,39 @@ class ClienteServiceTest {
     @Test
     void deveBuscarClientesPorNome() {
         Cliente cliente = new Cliente("123.456.789-09", "Fulano de Tal");
-        when(clienteRepository.findByNomeContainingIgnoreCase("Fulano")).thenReturn(List.of(cliente));
+        Pageable pageable = PageRequest.of(0, 20);
+        when(clienteRepository.buscarPorPrefixo("fulano%", pageable)).thenReturn(new PageImpl<>(List.of(cliente)));
 
-        List<Cliente> resultado = clienteService.buscarPorNome("Fulano");
+        Page<Cliente> resultado = clienteService.buscarPorNome("Fulano", pageable);
 
         assertFalse(resultado.isEmpty());
-        assertEquals(1, resultado.size());
-        assertEquals("Fulano de Tal", resultado.get(0).getNome());
+        assertEquals(1, resultado.getContent().size());
+        assertEquals("Fulano de Tal", resultado.getContent().get(0).getNome());
+    }
+
+    @Test
+    void deveBuscarClientesPorNomeComCursor() {
+        Cliente cliente = new Cliente("123.456.789-09", "Fulano de Tal");
+        cliente.setId(7L);
+        when(clienteRepository.findNomeNormalizadoById(6L)).thenReturn(Optional.of("fulano de tal"));
+        when(clienteRepository.buscarPorPrefixoApos("fulano%", "fulano de tal", 6L, Limit.of(21)))
+                .thenReturn(List.of(cliente));
+
+        PaginaCursorDTO<Cliente> resultado = clienteService.buscarPorNome("Fulano", 6L, 20);
+
+        assertEquals(List.of(cliente), resultado.getItens());
+        assertNull(resultado.getProximo());
+    }
+
+    @Test
+    void deveNormalizarNomeIgnorandoAcentosCaixaEEspacos() {
+        Cliente cliente = new Cliente("123.456.789-09", "  João   da CONCEIÇÃO ");
+
+        assertEquals("joao da conceicao", cliente.getNomeNormalizado());
+
+        cliente.setNome("Ângela Müller");
+
+        assertEquals("angela muller", cliente.getNomeNormalizado());
     }
 
     @Test
@@ -119,7 +267,7 @@ class ClienteServiceTest {
         Cliente resultado = clienteService.atualizar(1L, dto);
 
         assertEquals("Nome Atualizado", resultado.getNome());
-        assertEquals("987.654.321-00", resultado.getCpf());
+        assertEquals("98765432100", resultado.getCpf());
     }
 
     @Test
@@ -137,16 +285,17 @@ class ClienteServiceTest {
 
     @Test
     void deveDeletarClienteComSucesso() {
-        when(clienteRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(clienteRepository).deleteById(1L);
+        Cliente cliente = new Cliente("123.456.789-09", "Fulano de Tal");
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
 
         assertDoesNotThrow(() -> clienteService.deletar(1L));
-        verify(clienteRepository).deleteById(1L);
+        verify(clienteRepository).delete(cliente);
+        verify(unicidadeService).remover(UnicidadeService.Chave.CLIENTE, "12345678909");
     }
 
     @Test
     void deveLancarExcecaoAoDeletarClienteInexistente() {
-        when(clienteRepository.existsById(1L)).thenReturn(false);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> clienteService.deletar(1L));
     }
@@ -0,0 +1,47 @@
+package com.org.fundatec.sistemabancario.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConjuntoChavesTest {
+
+    @Test
+    void deveManterChavesAoRedimensionar() {
+        ConjuntoChaves conjunto = new ConjuntoChaves(8);
+        for (long chave = 1; chave <= 10_000; chave++) {
+            conjunto.adicionar(chave * 52_998_224L);
+        }
+
+        assertEquals(10_000, conjunto.tamanho());
+        for (long chave = 1; chave <= 10_000; chave++) {
+            assertTrue(conjunto.contem(chave * 52_998_224L));
+        }
+        assertFalse(conjunto.contem(1));
+    }
+
+    @Test
+    void deveIgnorarChaveRepetida() {
+        ConjuntoChaves conjunto = new ConjuntoChaves(8);
+        conjunto.adicionar(52998224725L);
+        conjunto.adicionar(52998224725L);
+
+        assertEquals(1, conjunto.tamanho());
+    }
+
+    @Test
+    void deveManterCadeiasDeSondagemAoRemover() {
+        ConjuntoChaves conjunto = new ConjuntoChaves(8);
+        for (long chave = 0; chave < 1_000; chave++) {
+            conjunto.adicionar(chave);
+        }
+        for (long chave = 0; chave < 1_000; chave += 2) {
+            conjunto.remover(chave);
+        }
+
+        assertEquals(500, conjunto.tamanho());
+        for (long chave = 0; chave < 1_000; chave++) {
+            assertEquals(chave % 2 != 0, conjunto.contem(chave));
+        }
+    }
+}
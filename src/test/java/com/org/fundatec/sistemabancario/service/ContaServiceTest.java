@@ -1,23 +1,44 @@
 package com.org.fundatec.sistemabancario.service;
 
 import com.org.fundatec.sistemabancario.dto.ContaDTO;
+import com.org.fundatec.sistemabancario.dto.ContaResumoDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoImportacaoDTO;
+import com.org.fundatec.sistemabancario.dto.SaldoDTO;
 import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
 import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
 import com.org.fundatec.sistemabancario.model.Agencia;
 import com.org.fundatec.sistemabancario.model.Cliente;
 import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoEventoConta;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.AgenciaRepository;
+import com.org.fundatec.sistemabancario.repository.ClienteRepository;
 import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ContaServiceTest {
@@ -31,19 +52,52 @@ class ContaServiceTest {
     @Mock
     private AgenciaService agenciaService;
 
+    @Mock
+    private MovimentacaoService movimentacaoService;
+
+    @Mock
+    private EventoContaService eventoContaService;
+
+    @Mock
+    private DepositoAgregadoService depositoAgregadoService;
+
+    @Mock
+    private RazaoSaldosService razaoSaldosService;
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private AgenciaRepository agenciaRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UnicidadeService unicidadeService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private ContaService contaService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(contaService, "tamanhoTransacao", 500);
+        doAnswer(invocacao -> {
+            Consumer<TransactionStatus> acao = invocacao.getArgument(0);
+            acao.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
     }
 
     @Test
     void deveSalvarContaComSucesso() {
         ContaDTO dto = new ContaDTO();
         dto.setNumero(12345);
-        dto.setSaldo(BigDecimal.ZERO);
+        dto.setSaldo(Dinheiro.ZERO);
         dto.setClienteId(1L);
         dto.setAgenciaId(1L);
 
@@ -54,7 +108,7 @@ class ContaServiceTest {
 
         Conta contaSalva = new Conta();
         contaSalva.setNumero(12345);
-        contaSalva.setSaldo(BigDecimal.ZERO);
+        contaSalva.setSaldo(Dinheiro.ZERO);
         contaSalva.setCliente(cliente);
         contaSalva.setAgencia(agencia);
         contaSalva.setId(1L);
@@ -70,13 +124,51 @@ class ContaServiceTest {
         assertEquals(12345, resultado.getNumero());
         assertEquals(cliente, resultado.getCliente());
         assertEquals(agencia, resultado.getAgencia());
+        verify(eventoContaService).registrar(eq(1L), eq(TipoEventoConta.CONTA_CRIADA), isNull(), any());
+    }
+
+    @Test
+    void deveImportarContasRejeitandoReferenciasInexistentes() {
+        when(clienteRepository.findIdsExistentes(any())).thenReturn(Set.of(1L));
+        when(agenciaRepository.findIdsExistentes(any())).thenReturn(Set.of(1L));
+        when(contaRepository.saveAll(anyList())).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        ResultadoImportacaoDTO resultado = contaService.importar(List.of(
+                contaDTO(1, Dinheiro.deReais(100), 1L, 1L),
+                contaDTO(2, Dinheiro.ZERO, 2L, 1L),
+                contaDTO(3, Dinheiro.ZERO, 1L, 9L),
+                contaDTO(null, Dinheiro.ZERO, 1L, 1L)).iterator());
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals(List.of(
+                "Item 3: numero - Número é obrigatório;",
+                "Item 1: Cliente não encontrado com ID: 2",
+                "Item 2: Agência não encontrada com ID: 9"), resultado.getErros());
+        verify(movimentacaoService).registrar(any(Conta.class), eq(TipoMovimentacao.DEPOSITO), eq(Dinheiro.deReais(100)));
+        verify(eventoContaService).registrar(any(), eq(TipoEventoConta.CONTA_CRIADA), isNull(), any());
+    }
+
+    @Test
+    void deveRejeitarItensDoLoteQueFalhaNaImportacao() {
+        when(clienteRepository.findIdsExistentes(any())).thenReturn(Set.of(1L));
+        when(agenciaRepository.findIdsExistentes(any())).thenReturn(Set.of(1L));
+        when(contaRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("conexão perdida"));
+
+        ResultadoImportacaoDTO resultado = contaService.importar(List.of(
+                contaDTO(1, Dinheiro.ZERO, 1L, 1L),
+                contaDTO(2, Dinheiro.ZERO, 2L, 1L)).iterator());
+
+        assertEquals(0, resultado.getImportados());
+        assertEquals(List.of(
+                "Item 0: Falha ao gravar o lote; item não importado",
+                "Item 1: Falha ao gravar o lote; item não importado"), resultado.getErros());
     }
 
     @Test
     void deveBuscarContaPorNumero() {
         Conta conta = new Conta();
         conta.setNumero(12345);
-        conta.setSaldo(BigDecimal.valueOf(1000));
+        conta.setSaldo(Dinheiro.deReais(1000));
         conta.setId(1L);
 
         when(contaRepository.findByNumero(12345)).thenReturn(Optional.of(conta));
@@ -85,7 +177,7 @@ class ContaServiceTest {
 
         assertNotNull(resultado);
         assertEquals(12345, resultado.getNumero());
-        assertEquals(BigDecimal.valueOf(1000), resultado.getSaldo());
+        assertEquals(Dinheiro.deReais(1000), resultado.getSaldo());
     }
 
     @Test
@@ -97,76 +189,235 @@ class ContaServiceTest {
         });
     }
 
+    @Test
+    void deveBuscarSaldoPorProjecao() {
+        when(contaRepository.buscarSaldo(12345)).thenReturn(Optional.of(new SaldoDTO(12345, Dinheiro.deReais(1000))));
+
+        SaldoDTO resultado = contaService.buscarSaldo(12345);
+
+        assertEquals(12345, resultado.getNumero());
+        assertEquals(Dinheiro.deReais(1000), resultado.getSaldo());
+        verify(contaRepository, never()).findByNumero(any());
+    }
+
+    @Test
+    void deveLancarExcecaoAoBuscarSaldoDeContaInexistente() {
+        when(contaRepository.buscarSaldo(12345)).thenReturn(Optional.empty());
+
+        assertThrows(EntidadeNaoEncontradaException.class, () -> contaService.buscarSaldo(12345));
+    }
+
+    @Test
+    void deveBuscarResumoPorProjecao() {
+        when(contaRepository.buscarResumo(12345)).thenReturn(
+                Optional.of(new ContaResumoDTO(12345, Dinheiro.deReais(1000), "Fulano de Tal", 1234, 341)));
+
+        ContaResumoDTO resultado = contaService.buscarResumo(12345);
+
+        assertEquals("Fulano de Tal", resultado.getNomeCliente());
+        assertEquals(1234, resultado.getNumeroAgencia());
+        assertEquals(341, resultado.getCodigoBanco());
+    }
+
+    @Test
+    void deveLancarExcecaoAoBuscarResumoDeContaInexistente() {
+        when(contaRepository.buscarResumo(12345)).thenReturn(Optional.empty());
+
+        assertThrows(EntidadeNaoEncontradaException.class, () -> contaService.buscarResumo(12345));
+    }
+
+    @Test
+    void deveRegistrarSaldoInicialNoExtratoAoSalvarConta() {
+        ContaDTO dto = new ContaDTO();
+        dto.setNumero(12345);
+        dto.setSaldo(Dinheiro.deReais(250));
+        dto.setClienteId(1L);
+        dto.setAgenciaId(1L);
+
+        Conta contaSalva = new Conta();
+        contaSalva.setId(1L);
+        contaSalva.setNumero(12345);
+        contaSalva.setSaldo(Dinheiro.deReais(250));
+
+        when(contaRepository.save(any(Conta.class))).thenReturn(contaSalva);
+
+        contaService.salvar(dto);
+
+        verify(movimentacaoService).registrar(1L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(250));
+    }
+
     @Test
     void deveDepositarComSucesso() {
-        Conta conta = new Conta();
-        conta.setNumero(12345);
-        conta.setSaldo(BigDecimal.valueOf(500));
+        when(contaRepository.findIdByNumero(12345)).thenReturn(Optional.of(1L));
+        when(contaRepository.creditar(1L, Dinheiro.deReais(300))).thenReturn(1);
 
-        when(contaRepository.findByNumero(12345)).thenReturn(Optional.of(conta));
-        when(contaRepository.save(any(Conta.class))).thenReturn(conta);
+        assertDoesNotThrow(() -> contaService.depositar(12345, Dinheiro.deReais(300)));
+        verify(contaRepository).creditar(1L, Dinheiro.deReais(300));
+        verify(contaRepository, never()).save(any(Conta.class));
+        verify(movimentacaoService).registrar(1L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(300));
+    }
+
+    @Test
+    void deveEncaminharDepositoDeContaAgregada() {
+        when(depositoAgregadoService.isAgregada(5001)).thenReturn(true);
+
+        contaService.depositar(5001, Dinheiro.deReais(10));
+
+        verify(depositoAgregadoService).depositar(5001, Dinheiro.deReais(10));
+        verifyNoInteractions(contaRepository, movimentacaoService);
+    }
+
+    @Test
+    void deveEncaminharOperacoesParaSaldosEmMemoria() {
+        when(razaoSaldosService.isAtivo()).thenReturn(true);
+
+        contaService.depositar(100, Dinheiro.de("10.50"));
+        contaService.sacar(100, Dinheiro.deReais(1));
+        contaService.transferir(100, 200, Dinheiro.de("0.25"));
 
-        assertDoesNotThrow(() -> contaService.depositar(12345, BigDecimal.valueOf(300)));
-        assertEquals(BigDecimal.valueOf(800), conta.getSaldo());
+        verify(razaoSaldosService).depositar(100, 1050L);
+        verify(razaoSaldosService).sacar(100, 100L);
+        verify(razaoSaldosService).transferir(100, 200, 25L);
+        verifyNoInteractions(contaRepository, movimentacaoService, depositoAgregadoService);
+    }
+
+    @Test
+    void deveConsultarSaldoEmMemoria() {
+        when(razaoSaldosService.isAtivo()).thenReturn(true);
+        when(razaoSaldosService.saldo(100)).thenReturn(1050L);
+
+        SaldoDTO saldo = contaService.buscarSaldo(100);
+
+        assertEquals(Dinheiro.de("10.50"), saldo.getSaldo());
+        verifyNoInteractions(contaRepository);
     }
 
     @Test
     void deveLancarExcecaoAoDepositarEmContaInexistente() {
-        when(contaRepository.findByNumero(12345)).thenReturn(Optional.empty());
+        when(contaRepository.findIdByNumero(12345)).thenReturn(Optional.empty());
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> {
-            contaService.depositar(12345, BigDecimal.valueOf(100));
+            contaService.depositar(12345, Dinheiro.deReais(100));
         });
+        verifyNoInteractions(movimentacaoService);
     }
 
     @Test
     void deveSacarComSucesso() {
-        Conta conta = new Conta();
-        conta.setNumero(12345);
-        conta.setSaldo(BigDecimal.valueOf(1000));
-
-        when(contaRepository.findByNumero(12345)).thenReturn(Optional.of(conta));
-        when(contaRepository.save(any(Conta.class))).thenReturn(conta);
+        when(contaRepository.findIdByNumero(12345)).thenReturn(Optional.of(1L));
+        when(contaRepository.debitar(1L, Dinheiro.deReais(300))).thenReturn(1);
 
-        assertDoesNotThrow(() -> contaService.sacar(12345, BigDecimal.valueOf(300)));
-        assertEquals(BigDecimal.valueOf(700), conta.getSaldo());
+        assertDoesNotThrow(() -> contaService.sacar(12345, Dinheiro.deReais(300)));
+        verify(contaRepository).debitar(1L, Dinheiro.deReais(300));
+        verify(contaRepository, never()).save(any(Conta.class));
+        verify(movimentacaoService).registrar(1L, TipoMovimentacao.SAQUE, Dinheiro.deReais(300));
     }
 
     @Test
     void deveLancarExcecaoAoSacarDeContaInexistente() {
-        when(contaRepository.findByNumero(12345)).thenReturn(Optional.empty());
+        when(contaRepository.findIdByNumero(12345)).thenReturn(Optional.empty());
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> {
-            contaService.sacar(12345, BigDecimal.valueOf(100));
+            contaService.sacar(12345, Dinheiro.deReais(100));
         });
     }
 
     @Test
     void deveLancarExcecaoAoSacarComSaldoInsuficiente() {
-        Conta conta = new Conta();
-        conta.setNumero(12345);
-        conta.setSaldo(BigDecimal.valueOf(100));
+        when(contaRepository.findIdByNumero(12345)).thenReturn(Optional.of(1L));
+        when(contaRepository.debitar(1L, Dinheiro.deReais(200))).thenReturn(0);
 
-        when(contaRepository.findByNumero(12345)).thenReturn(Optional.of(conta));
-
-        assertThrows(OperacaoInvalidaException.class, () -> {
-            contaService.sacar(12345, BigDecimal.valueOf(200));
+        assertThrows(SaldoInsuficienteException.class, () -> {
+            contaService.sacar(12345, Dinheiro.deReais(200));
         });
+        verifyNoInteractions(movimentacaoService);
+    }
+
+    @Test
+    void deveTransferirBloqueandoPrimeiroAContaDeMenorNumero() {
+        when(contaRepository.findIdByNumero(100)).thenReturn(Optional.of(1L));
+        when(contaRepository.findIdByNumero(200)).thenReturn(Optional.of(2L));
+        when(contaRepository.debitar(1L, Dinheiro.deReais(50))).thenReturn(1);
+        when(contaRepository.creditar(2L, Dinheiro.deReais(50))).thenReturn(1);
+
+        assertDoesNotThrow(() -> contaService.transferir(100, 200, Dinheiro.deReais(50)));
+
+        InOrder ordem = inOrder(contaRepository);
+        ordem.verify(contaRepository).debitar(1L, Dinheiro.deReais(50));
+        ordem.verify(contaRepository).creditar(2L, Dinheiro.deReais(50));
+        verify(movimentacaoService).registrar(1L, TipoMovimentacao.TRANSFERENCIA_ENVIADA, Dinheiro.deReais(50));
+        verify(movimentacaoService).registrar(2L, TipoMovimentacao.TRANSFERENCIA_RECEBIDA, Dinheiro.deReais(50));
+    }
+
+    @Test
+    void deveTransferirEmSentidoOpostoMantendoAOrdemDeBloqueio() {
+        when(contaRepository.findIdByNumero(100)).thenReturn(Optional.of(1L));
+        when(contaRepository.findIdByNumero(200)).thenReturn(Optional.of(2L));
+        when(contaRepository.creditar(1L, Dinheiro.deReais(50))).thenReturn(1);
+        when(contaRepository.debitar(2L, Dinheiro.deReais(50))).thenReturn(1);
+
+        assertDoesNotThrow(() -> contaService.transferir(200, 100, Dinheiro.deReais(50)));
+
+        InOrder ordem = inOrder(contaRepository);
+        ordem.verify(contaRepository).creditar(1L, Dinheiro.deReais(50));
+        ordem.verify(contaRepository).debitar(2L, Dinheiro.deReais(50));
+    }
+
+    @Test
+    void deveLancarExcecaoAoTransferirComSaldoInsuficiente() {
+        when(contaRepository.findIdByNumero(100)).thenReturn(Optional.of(1L));
+        when(contaRepository.debitar(1L, Dinheiro.deReais(50))).thenReturn(0);
+
+        assertThrows(SaldoInsuficienteException.class, () -> contaService.transferir(100, 200, Dinheiro.deReais(50)));
+        verify(contaRepository, never()).creditar(any(), any());
+    }
+
+    @Test
+    void deveLancarExcecaoAoTransferirParaAMesmaConta() {
+        assertThrows(OperacaoInvalidaException.class, () -> contaService.transferir(100, 100, Dinheiro.deReais(50)));
+        verifyNoInteractions(contaRepository);
     }
 
     @Test
     void deveDeletarContaComSucesso() {
-        when(contaRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(contaRepository).deleteById(1L);
+        Conta conta = new Conta();
+        conta.setNumero(100);
+        when(contaRepository.findById(1L)).thenReturn(Optional.of(conta));
 
         assertDoesNotThrow(() -> contaService.deletar(1L));
-        verify(contaRepository).deleteById(1L);
+        verifyNoInteractions(movimentacaoService);
+        verify(contaRepository).delete(conta);
+        verify(unicidadeService).remover(UnicidadeService.Chave.CONTA, 100);
+        verify(depositoAgregadoService).esquecer(100);
+    }
+
+    @Test
+    void deveRegistrarRemocaoNoRazaoAoDeletarConta() {
+        Conta conta = new Conta();
+        conta.setId(1L);
+        conta.setNumero(100);
+        when(contaRepository.findById(1L)).thenReturn(Optional.of(conta));
+        when(razaoSaldosService.isAtivo()).thenReturn(true);
+
+        contaService.deletar(1L);
+
+        verify(razaoSaldosService).remover(100, 1L);
+        verify(contaRepository).delete(conta);
     }
 
     @Test
     void deveLancarExcecaoAoDeletarContaInexistente() {
-        when(contaRepository.existsById(1L)).thenReturn(false);
+        when(contaRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(EntidadeNaoEncontradaException.class, () -> contaService.deletar(1L));
     }
+
+    private ContaDTO contaDTO(Integer numero, Dinheiro saldo, Long clienteId, Long agenciaId) {
+        ContaDTO dto = new ContaDTO();
+        dto.setNumero(numero);
+        dto.setSaldo(saldo);
+        dto.setClienteId(clienteId);
+        dto.setAgenciaId(agenciaId);
+        return dto;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,333 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.ServicoIndisponivelException;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.repository.SegmentoJournalAplicadoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class DepositoAgregadoServiceTest {
+
+    private static final int CONTA_AGREGADA = 5001;
+
+    @Mock
+    private ContaRepository contaRepository;
+
+    @Mock
+    private MovimentacaoService movimentacaoService;
+
+    @Mock
+    private SegmentoJournalAplicadoRepository segmentoJournalAplicadoRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RazaoSaldosService razaoSaldosService;
+
+    @InjectMocks
+    private DepositoAgregadoService depositoAgregadoService;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path diretorio;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(depositoAgregadoService, "contas", Set.of(CONTA_AGREGADA));
+        ReflectionTestUtils.setField(depositoAgregadoService, "diretorio", diretorio);
+        ReflectionTestUtils.setField(depositoAgregadoService, "tentativas", 3);
+        ReflectionTestUtils.setField(depositoAgregadoService, "registry", registry);
+        when(contaRepository.findIdByNumero(CONTA_AGREGADA)).thenReturn(Optional.of(1L));
+        when(contaRepository.creditar(eq(1L), any())).thenReturn(1);
+        doAnswer(invocacao -> {
+            Consumer<TransactionStatus> acao = invocacao.getArgument(0);
+            acao.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void deveIdentificarSomenteContasConfiguradas() {
+        assertTrue(depositoAgregadoService.isAgregada(CONTA_AGREGADA));
+        assertFalse(depositoAgregadoService.isAgregada(5002));
+    }
+
+    @Test
+    void deveRecusarAgregacaoComSaldosEmMemoria() {
+        when(razaoSaldosService.isAtivo()).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> depositoAgregadoService.iniciar());
+    }
+
+    @Test
+    void deveGravarNoJournalSemAtualizarSaldo() throws IOException {
+        depositoAgregadoService.iniciar();
+
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.de("10.50"));
+
+        assertEquals(List.of("5001;10.50"), Files.readAllLines(segmentos().get(0)));
+        verify(contaRepository, never()).creditar(any(), any());
+    }
+
+    @Test
+    void deveAplicarDepositosAcumuladosEmUmUnicoUpdate() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.de("0.25"));
+
+        depositoAgregadoService.descarregar();
+
+        verify(contaRepository).creditar(1L, Dinheiro.de("20.25"));
+        verify(movimentacaoService).registrar(1L, TipoMovimentacao.DEPOSITO, Dinheiro.de("20.25"));
+        verify(segmentoJournalAplicadoRepository).save(any());
+        assertEquals(1, segmentos().size());
+    }
+
+    @Test
+    void naoDeveAbrirTransacaoSemDepositosPendentes() throws IOException {
+        depositoAgregadoService.iniciar();
+
+        depositoAgregadoService.descarregar();
+
+        verifyNoInteractions(transactionTemplate);
+        assertEquals(1, segmentos().size());
+    }
+
+    @Test
+    void deveManterSegmentoQuandoAplicacaoFalha() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        when(contaRepository.creditar(1L, Dinheiro.deReais(10))).thenThrow(new DataAccessResourceFailureException("indisponível"));
+
+        depositoAgregadoService.descarregar();
+        assertEquals(2, segmentos().size());
+
+        doReturn(1).when(contaRepository).creditar(1L, Dinheiro.deReais(10));
+        depositoAgregadoService.descarregar();
+        assertEquals(1, segmentos().size());
+    }
+
+    @Test
+    void naoDeveBloquearSegmentosSeguintesQuandoUmFalha() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        when(contaRepository.creditar(1L, Dinheiro.deReais(10))).thenThrow(new DataAccessResourceFailureException("indisponível"));
+        depositoAgregadoService.descarregar();
+
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(7));
+        depositoAgregadoService.descarregar();
+
+        verify(movimentacaoService).registrar(1L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(7));
+        verify(movimentacaoService, never()).registrar(1L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(10));
+        assertEquals(2, segmentos().size());
+    }
+
+    @Test
+    void deveMoverParaQuarentenaDepoisDasTentativas() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        when(contaRepository.creditar(1L, Dinheiro.deReais(10))).thenThrow(new DataAccessResourceFailureException("indisponível"));
+
+        for (int i = 0; i < 3; i++) {
+            depositoAgregadoService.descarregar();
+        }
+
+        assertEquals(1, segmentos().size());
+        assertEquals(1, quarentena().size());
+        assertEquals(List.of("5001;10.00"), Files.readAllLines(quarentena().get(0)));
+        assertEquals(1.0, registry.get(DepositoAgregadoService.QUARENTENA).tag("motivo", "falhas").counter().count());
+    }
+
+    @Test
+    void deveSepararTotaisDeContaExcluida() throws IOException {
+        ReflectionTestUtils.setField(depositoAgregadoService, "contas", Set.of(CONTA_AGREGADA, 5002));
+        when(contaRepository.findIdByNumero(5002)).thenReturn(Optional.of(2L), Optional.empty());
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        depositoAgregadoService.depositar(5002, Dinheiro.deReais(3));
+
+        depositoAgregadoService.descarregar();
+
+        verify(contaRepository).creditar(1L, Dinheiro.deReais(10));
+        verify(contaRepository, never()).creditar(eq(2L), any());
+        verify(segmentoJournalAplicadoRepository).save(any());
+        assertEquals(1, segmentos().size());
+        assertEquals(List.of("5002;3.00"), Files.readAllLines(quarentena().get(0)));
+        assertEquals(1.0, registry.get(DepositoAgregadoService.QUARENTENA).tag("motivo", "conta-inexistente").counter().count());
+    }
+
+    @Test
+    void naoDeveAplicarDepositoCujaSincronizacaoFalhou() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        Object segmento = ReflectionTestUtils.getField(depositoAgregadoService, "atual");
+        ArquivoJournal arquivo = spy((ArquivoJournal) ReflectionTestUtils.getField(segmento, "arquivo"));
+        doThrow(new IOException("fsync")).when(arquivo).sincronizar(anyLong());
+        ReflectionTestUtils.setField(segmento, "arquivo", arquivo);
+
+        assertThrows(UncheckedIOException.class,
+                () -> depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(5)));
+        depositoAgregadoService.descarregar();
+
+        verify(contaRepository).creditar(1L, Dinheiro.deReais(10));
+        verify(contaRepository, never()).creditar(1L, Dinheiro.deReais(15));
+    }
+
+    @Test
+    void deveDescartarOrfaosQuandoTransacaoNaoConfirma() throws IOException {
+        ReflectionTestUtils.setField(depositoAgregadoService, "contas", Set.of(CONTA_AGREGADA, 5002));
+        when(contaRepository.findIdByNumero(5002)).thenReturn(Optional.of(2L), Optional.empty());
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        depositoAgregadoService.depositar(5002, Dinheiro.deReais(3));
+        when(contaRepository.creditar(1L, Dinheiro.deReais(10))).thenThrow(new DataAccessResourceFailureException("indisponível"));
+
+        depositoAgregadoService.descarregar();
+        assertTrue(quarentena().isEmpty());
+        assertEquals(0.0, registry.get(DepositoAgregadoService.QUARENTENA).tag("motivo", "conta-inexistente").counter().count());
+
+        doReturn(1).when(contaRepository).creditar(1L, Dinheiro.deReais(10));
+        depositoAgregadoService.descarregar();
+        assertEquals(List.of("5002;3.00"), Files.readAllLines(quarentena().get(0)));
+        assertEquals(1.0, registry.get(DepositoAgregadoService.QUARENTENA).tag("motivo", "conta-inexistente").counter().count());
+    }
+
+    @Test
+    void deveSepararTotaisDeContaExcluidaDuranteAAplicacao() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        when(contaRepository.creditar(1L, Dinheiro.deReais(10))).thenReturn(0);
+
+        depositoAgregadoService.descarregar();
+        verify(segmentoJournalAplicadoRepository, never()).save(any());
+        assertEquals(2, segmentos().size());
+
+        when(contaRepository.findIdByNumero(CONTA_AGREGADA)).thenReturn(Optional.empty());
+        depositoAgregadoService.descarregar();
+        verify(segmentoJournalAplicadoRepository).save(any());
+        assertEquals(List.of("5001;10.00"), Files.readAllLines(quarentena().get(0)));
+    }
+
+    @Test
+    void deveConsultarContaNovamenteAposExclusao() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+        verify(contaRepository, times(1)).findIdByNumero(CONTA_AGREGADA);
+
+        depositoAgregadoService.esquecer(CONTA_AGREGADA);
+        when(contaRepository.findIdByNumero(CONTA_AGREGADA)).thenReturn(Optional.empty());
+
+        assertThrows(EntidadeNaoEncontradaException.class,
+                () -> depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10)));
+    }
+
+    @Test
+    void deveIniciarMesmoComSegmentoQueNaoAplica() throws IOException {
+        Files.writeString(diretorio.resolve("depositos-a.journal"), "5001;10\n");
+        when(contaRepository.creditar(1L, Dinheiro.deReais(10))).thenThrow(new DataAccessResourceFailureException("indisponível"));
+
+        assertDoesNotThrow(() -> depositoAgregadoService.iniciar());
+        assertTrue(Files.exists(diretorio.resolve("depositos-a.journal")));
+
+        doReturn(1).when(contaRepository).creditar(1L, Dinheiro.deReais(10));
+        depositoAgregadoService.descarregar();
+        assertFalse(Files.exists(diretorio.resolve("depositos-a.journal")));
+    }
+
+    @Test
+    void deveRecuperarSegmentoNaoAplicadoAoIniciar() throws IOException {
+        Files.writeString(diretorio.resolve("depositos-a.journal"), "5001;10\n5001;5.00\n5001;7");
+        when(segmentoJournalAplicadoRepository.existsById("a")).thenReturn(false);
+
+        depositoAgregadoService.iniciar();
+
+        verify(contaRepository).creditar(1L, Dinheiro.de("15.00"));
+        assertFalse(Files.exists(diretorio.resolve("depositos-a.journal")));
+    }
+
+    @Test
+    void naoDeveReaplicarSegmentoJaAplicado() throws IOException {
+        Files.writeString(diretorio.resolve("depositos-a.journal"), "5001;10\n");
+        when(segmentoJournalAplicadoRepository.existsById("a")).thenReturn(true);
+
+        depositoAgregadoService.iniciar();
+
+        verify(contaRepository, never()).creditar(any(), any());
+        assertFalse(Files.exists(diretorio.resolve("depositos-a.journal")));
+    }
+
+    @Test
+    void deveRecusarDepositoEmContaInexistente() throws IOException {
+        ReflectionTestUtils.setField(depositoAgregadoService, "contas", Set.of(CONTA_AGREGADA, 5002));
+        depositoAgregadoService.iniciar();
+
+        assertThrows(EntidadeNaoEncontradaException.class, () -> depositoAgregadoService.depositar(5002, Dinheiro.deReais(10)));
+    }
+
+    @Test
+    void deveAplicarPendentesAoEncerrar() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10));
+
+        depositoAgregadoService.encerrar();
+
+        verify(contaRepository).creditar(1L, Dinheiro.deReais(10));
+        assertTrue(segmentos().isEmpty());
+    }
+
+    @Test
+    void deveRecusarDepositoAposEncerrar() throws IOException {
+        depositoAgregadoService.iniciar();
+        depositoAgregadoService.encerrar();
+
+        ServicoIndisponivelException ex = assertThrows(ServicoIndisponivelException.class,
+                () -> depositoAgregadoService.depositar(CONTA_AGREGADA, Dinheiro.deReais(10)));
+        assertEquals(CodigoErro.SERVICO_ENCERRANDO, ex.getCodigo());
+    }
+
+    private List<Path> segmentos() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private List<Path> quarentena() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio.resolve("quarentena"))) {
+            return arquivos.toList();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
+import com.org.fundatec.sistemabancario.exception.OperacaoInvalidaException;
+import com.org.fundatec.sistemabancario.exception.ServicoIndisponivelException;
+import com.org.fundatec.sistemabancario.model.RegistroIdempotencia;
+import com.org.fundatec.sistemabancario.repository.RegistroIdempotenciaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IdempotenciaServiceTest {
+
+    private static final String CLIENTE = "10.0.0.1";
+
+    private static final String CHAVE_GRAVADA = "8:10.0.0.1:chave-1";
+
+    @Mock
+    private RegistroIdempotenciaRepository registroIdempotenciaRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RazaoSaldosService razaoSaldosService;
+
+    @Mock
+    private DepositoAgregadoService depositoAgregadoService;
+
+    @InjectMocks
+    private IdempotenciaService idempotenciaService;
+
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    private final Supplier<ResponseEntity<Void>> deposito = () -> {
+        execucoes.incrementAndGet();
+        return ResponseEntity.ok().build();
+    };
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(idempotenciaService, "validade", Duration.ofHours(24));
+        ReflectionTestUtils.setField(idempotenciaService, "capacidade", 100L);
+        idempotenciaService.iniciar();
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void deveExecutarSempreQuandoNaoHaChave() {
+        idempotenciaService.executar(CLIENTE, null, "depositar:1:10", deposito);
+        idempotenciaService.executar(CLIENTE, null, "depositar:1:10", deposito);
+
+        assertEquals(2, execucoes.get());
+    }
+
+    @Test
+    void deveRepetirRespostaOriginalSemExecutarNovamente() {
+        ResponseEntity<Void> original = idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+        ResponseEntity<Void> repetida = idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+
+        assertEquals(1, execucoes.get());
+        assertEquals(HttpStatus.OK, original.getStatusCode());
+        assertEquals(HttpStatus.OK, repetida.getStatusCode());
+        assertNull(original.getHeaders().getFirst(IdempotenciaService.CABECALHO_REPETICAO));
+        assertEquals("true", repetida.getHeaders().getFirst(IdempotenciaService.CABECALHO_REPETICAO));
+        verifyNoInteractions(registroIdempotenciaRepository);
+    }
+
+    @Test
+    void deveRecusarChaveReutilizadaEmOutraRequisicao() {
+        idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+
+        OperacaoInvalidaException ex = assertThrows(OperacaoInvalidaException.class,
+                () -> idempotenciaService.executar(CLIENTE, "chave-1", "sacar:1:10", deposito));
+
+        assertEquals("Idempotency-Key já utilizada em outra requisição: chave-1", ex.getMessage());
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void deveRecusarRequisicaoConcorrenteComMesmaChave() {
+        ConflitoException ex = assertThrows(ConflitoException.class,
+                () -> idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10",
+                        () -> idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito)));
+
+        assertEquals("Requisição com esta Idempotency-Key ainda em processamento: chave-1", ex.getMessage());
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    void deveLiberarChaveQuandoOperacaoFalha() {
+        assertThrows(OperacaoInvalidaException.class, () -> idempotenciaService.executar(CLIENTE, "chave-1", "sacar:1:10", () -> {
+            throw new OperacaoInvalidaException("Saldo insuficiente");
+        }));
+
+        idempotenciaService.executar(CLIENTE, "chave-1", "sacar:1:10", deposito);
+
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void deveRecusarChaveInvalida() {
+        assertThrows(OperacaoInvalidaException.class, () -> idempotenciaService.executar(CLIENTE, " ", "depositar:1:10", deposito));
+        assertThrows(OperacaoInvalidaException.class,
+                () -> idempotenciaService.executar(CLIENTE, "x".repeat(256), "depositar:1:10", deposito));
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    void deveGravarRegistroNaMesmaTransacaoQuandoPersistente() {
+        ReflectionTestUtils.setField(idempotenciaService, "persistente", true);
+        when(registroIdempotenciaRepository.findById(CHAVE_GRAVADA)).thenReturn(Optional.empty());
+
+        idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+
+        verify(transactionTemplate).execute(any());
+        verify(registroIdempotenciaRepository).save(argThat(registro ->
+                registro.getChave().equals(CHAVE_GRAVADA) && registro.getStatus() == 200));
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void deveRepetirRespostaGravadaAntesDeReiniciar() {
+        ReflectionTestUtils.setField(idempotenciaService, "persistente", true);
+        when(registroIdempotenciaRepository.findById(CHAVE_GRAVADA)).thenReturn(Optional.of(
+                new RegistroIdempotencia(CHAVE_GRAVADA, "depositar:1:10", 200, Instant.now().minusSeconds(60))));
+
+        ResponseEntity<Void> resposta = idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+
+        assertEquals("true", resposta.getHeaders().getFirst(IdempotenciaService.CABECALHO_REPETICAO));
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    void deveDescartarRegistroGravadoExpirado() {
+        ReflectionTestUtils.setField(idempotenciaService, "persistente", true);
+        RegistroIdempotencia expirado = new RegistroIdempotencia(CHAVE_GRAVADA, "depositar:1:10", 200,
+                Instant.now().minus(Duration.ofHours(25)));
+        when(registroIdempotenciaRepository.findById(CHAVE_GRAVADA)).thenReturn(Optional.of(expirado));
+
+        idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+
+        verify(registroIdempotenciaRepository).delete(expirado);
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void deveSepararChavesDeClientesDiferentes() {
+        idempotenciaService.executar("10.0.0.1", "chave-1", "depositar:1:10", deposito);
+        ResponseEntity<Void> outroCliente = idempotenciaService.executar("10.0.0.2", "chave-1", "sacar:1:10", deposito);
+
+        assertEquals(2, execucoes.get());
+        assertNull(outroCliente.getHeaders().getFirst(IdempotenciaService.CABECALHO_REPETICAO));
+    }
+
+    @Test
+    void deveRecusarChaveNovaComArmazenamentoCheioSemDescartarAsValidas() {
+        ReflectionTestUtils.setField(idempotenciaService, "capacidade", 2L);
+        idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+        idempotenciaService.executar(CLIENTE, "chave-2", "depositar:1:10", deposito);
+
+        ServicoIndisponivelException ex = assertThrows(ServicoIndisponivelException.class,
+                () -> idempotenciaService.executar(CLIENTE, "chave-3", "depositar:1:10", deposito));
+
+        assertEquals(CodigoErro.IDEMPOTENCIA_ESGOTADA, ex.getCodigo());
+        ResponseEntity<Void> repetida = idempotenciaService.executar(CLIENTE, "chave-1", "depositar:1:10", deposito);
+        assertEquals("true", repetida.getHeaders().getFirst(IdempotenciaService.CABECALHO_REPETICAO));
+        assertEquals(2, execucoes.get());
+    }
+
+    @Test
+    void deveRecusarRegistroPersistenteComSaldosForaDoBanco() {
+        ReflectionTestUtils.setField(idempotenciaService, "persistente", true);
+        when(razaoSaldosService.isAtivo()).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> idempotenciaService.iniciar());
+
+        when(razaoSaldosService.isAtivo()).thenReturn(false);
+        when(depositoAgregadoService.isAtivo()).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> idempotenciaService.iniciar());
+    }
+}
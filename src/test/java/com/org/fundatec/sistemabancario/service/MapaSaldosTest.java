@@ -0,0 +1,66 @@
+package com.org.fundatec.sistemabancario.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapaSaldosTest {
+
+    @Test
+    void deveRetornarMinimoParaContaNaoCarregada() {
+        MapaSaldos mapa = new MapaSaldos(8);
+
+        assertFalse(mapa.contem(1));
+        assertEquals(Long.MIN_VALUE, mapa.obter(1));
+    }
+
+    @Test
+    void deveManterSaldosAoRedimensionar() {
+        MapaSaldos mapa = new MapaSaldos(8);
+        for (int numero = 1; numero <= 10_000; numero++) {
+            mapa.carregar(numero, numero * 100L);
+        }
+
+        assertEquals(10_000, mapa.tamanho());
+        for (int numero = 1; numero <= 10_000; numero++) {
+            assertEquals(numero * 100L, mapa.obter(numero));
+        }
+    }
+
+    @Test
+    void deveManterCadeiasDeSondagemAoRemover() {
+        MapaSaldos mapa = new MapaSaldos(8);
+        for (int numero = 0; numero < 1_000; numero++) {
+            mapa.carregar(numero, numero);
+        }
+        for (int numero = 0; numero < 1_000; numero += 2) {
+            mapa.remover(numero);
+        }
+
+        assertEquals(500, mapa.tamanho());
+        for (int numero = 0; numero < 1_000; numero++) {
+            assertEquals(numero % 2 == 0 ? Long.MIN_VALUE : numero, mapa.obter(numero));
+        }
+    }
+
+    @Test
+    void deveDrenarSomenteContasAlteradas() {
+        MapaSaldos mapa = new MapaSaldos(8);
+        mapa.carregar(1, 100);
+        mapa.carregar(2, 200);
+        mapa.carregar(3, 300);
+        mapa.somar(1, 50);
+        mapa.somar(3, -100);
+
+        Map<Integer, Long> alterados = new HashMap<>();
+        mapa.drenarAlterados(alterados::put);
+        assertEquals(Map.of(1, 150L, 3, 200L), alterados);
+
+        alterados.clear();
+        mapa.drenarAlterados(alterados::put);
+        assertTrue(alterados.isEmpty());
+    }
+}
@@ -0,0 +1,85 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.dto.MovimentacaoDTO;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.Movimentacao;
+import com.org.fundatec.sistemabancario.model.TipoEventoConta;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.MovimentacaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MovimentacaoServiceTest {
+
+    @Mock
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Mock
+    private EventoContaService eventoContaService;
+
+    @InjectMocks
+    private MovimentacaoService movimentacaoService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void deveRegistrarMovimentacaoNaConta() {
+        when(movimentacaoRepository.save(any(Movimentacao.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        Movimentacao resultado = movimentacaoService.registrar(1L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(10));
+
+        assertEquals(1L, resultado.getContaId());
+        assertEquals(TipoMovimentacao.DEPOSITO, resultado.getTipo());
+        assertEquals(Dinheiro.deReais(10), resultado.getValor());
+        assertNotNull(resultado.getDataHora());
+        verify(eventoContaService).registrar(1L, TipoEventoConta.DEPOSITO, Dinheiro.deReais(10), resultado.getDataHora());
+    }
+
+    @Test
+    void deveBuscarPrimeiraPaginaDoExtrato() {
+        List<MovimentacaoDTO> pagina = List.of(
+                new MovimentacaoDTO(1L, TipoMovimentacao.DEPOSITO, Dinheiro.deReais(10), LocalDateTime.now()));
+
+        when(movimentacaoRepository.buscarExtrato(1L, Limit.of(100))).thenReturn(pagina);
+
+        assertEquals(pagina, movimentacaoService.buscarExtrato(1L, null, 100));
+        verify(movimentacaoRepository, never()).buscarExtratoApos(any(), any(), any(), any());
+    }
+
+    @Test
+    void deveBuscarPaginaSeguinteAPartirDaUltimaMovimentacao() {
+        LocalDateTime dataHora = LocalDateTime.of(2025, 1, 10, 12, 0);
+        MovimentacaoDTO ultima = new MovimentacaoDTO(5L, TipoMovimentacao.SAQUE, Dinheiro.deReais(1), dataHora);
+
+        when(movimentacaoRepository.buscarExtratoApos(1L, dataHora, 5L, Limit.of(100))).thenReturn(List.of());
+
+        assertTrue(movimentacaoService.buscarExtrato(1L, ultima, 100).isEmpty());
+        verify(movimentacaoRepository).buscarExtratoApos(1L, dataHora, 5L, Limit.of(100));
+    }
+
+    @Test
+    void deveRegistrarPeloIdDaConta() {
+        Conta conta = new Conta();
+        conta.setId(7L);
+        when(movimentacaoRepository.save(any(Movimentacao.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        Movimentacao resultado = movimentacaoService.registrar(conta, TipoMovimentacao.SAQUE, Dinheiro.deReais(3));
+
+        assertEquals(7L, resultado.getContaId());
+    }
+}
@@ -0,0 +1,219 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.dto.OperacaoLoteDTO;
+import com.org.fundatec.sistemabancario.dto.ResultadoOperacaoDTO;
+import com.org.fundatec.sistemabancario.exception.CodigoErro;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.model.Conta;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OperacaoLoteServiceTest {
+
+    @Mock
+    private ContaRepository contaRepository;
+
+    @Mock
+    private MovimentacaoService movimentacaoService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RazaoSaldosService razaoSaldosService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private OperacaoLoteService operacaoLoteService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(operacaoLoteService, "tamanhoTransacao", 2);
+        doAnswer(invocacao -> {
+            Consumer<TransactionStatus> acao = invocacao.getArgument(0);
+            acao.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void deveAplicarOperacoesAgrupadasPorContaEmTransacoesPorLote() {
+        Conta conta = conta(100, 50);
+        when(contaRepository.findByNumeroInOrderByNumero(any())).thenReturn(List.of(conta));
+
+        List<ResultadoOperacaoDTO> resultados = operacaoLoteService.processar(List.of(
+                operacao(TipoMovimentacao.DEPOSITO, 100, 10),
+                operacao(TipoMovimentacao.SAQUE, 100, 30),
+                operacao(TipoMovimentacao.DEPOSITO, 100, 5)).iterator());
+
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.stream().allMatch(r -> r.getStatus() == ResultadoOperacaoDTO.Status.SUCESSO));
+        assertEquals(List.of(0, 1, 2), resultados.stream().map(ResultadoOperacaoDTO::getIndice).toList());
+        assertEquals(Dinheiro.deReais(35), conta.getSaldo());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(movimentacaoService, times(3)).registrar(eq(conta), any(TipoMovimentacao.class), any(Dinheiro.class));
+    }
+
+    @Test
+    void deveRetornarResultadoPorItemSemInterromperOLote() {
+        Conta conta = conta(100, 20);
+        when(contaRepository.findByNumeroInOrderByNumero(Set.of(100, 200))).thenReturn(List.of(conta));
+        ReflectionTestUtils.setField(operacaoLoteService, "tamanhoTransacao", 10);
+
+        OperacaoLoteDTO semValor = operacao(TipoMovimentacao.DEPOSITO, 100, 1);
+        semValor.setValor(null);
+
+        List<ResultadoOperacaoDTO> resultados = operacaoLoteService.processar(List.of(
+                operacao(TipoMovimentacao.SAQUE, 100, 50),
+                operacao(TipoMovimentacao.DEPOSITO, 200, 10),
+                semValor,
+                operacao(TipoMovimentacao.TRANSFERENCIA_ENVIADA, 100, 1),
+                operacao(TipoMovimentacao.SAQUE, 100, 20)).iterator());
+
+        assertEquals(ResultadoOperacaoDTO.Status.SALDO_INSUFICIENTE, resultados.get(0).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.CONTA_NAO_ENCONTRADA, resultados.get(1).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.INVALIDA, resultados.get(2).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.INVALIDA, resultados.get(3).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.SUCESSO, resultados.get(4).getStatus());
+        assertEquals(0, Dinheiro.ZERO.compareTo(conta.getSaldo()));
+        verify(movimentacaoService, times(1)).registrar(any(Conta.class), any(TipoMovimentacao.class), any(Dinheiro.class));
+    }
+
+    @Test
+    void deveAplicarOperacoesPeloRazaoQuandoSaldosEstaoEmMemoria() {
+        when(razaoSaldosService.isAtivo()).thenReturn(true);
+        doThrow(new SaldoInsuficienteException()).when(razaoSaldosService).sacar(100, 5_000L);
+        doThrow(new EntidadeNaoEncontradaException(CodigoErro.CONTA_NAO_ENCONTRADA, "número", 200))
+                .when(razaoSaldosService).depositar(200, 1_000L);
+        ReflectionTestUtils.setField(operacaoLoteService, "tamanhoTransacao", 10);
+
+        List<ResultadoOperacaoDTO> resultados = operacaoLoteService.processar(List.of(
+                operacao(TipoMovimentacao.DEPOSITO, 100, 10),
+                operacao(TipoMovimentacao.SAQUE, 100, 50),
+                operacao(TipoMovimentacao.DEPOSITO, 200, 10)).iterator());
+
+        assertEquals(ResultadoOperacaoDTO.Status.SUCESSO, resultados.get(0).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.SALDO_INSUFICIENTE, resultados.get(1).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.CONTA_NAO_ENCONTRADA, resultados.get(2).getStatus());
+        verify(razaoSaldosService).depositar(100, 1_000L);
+        verifyNoInteractions(transactionTemplate, contaRepository, movimentacaoService);
+    }
+
+    @Test
+    void naoDeveAbrirTransacaoQuandoTodasAsOperacoesSaoInvalidas() {
+        OperacaoLoteDTO semConta = operacao(TipoMovimentacao.DEPOSITO, null, 10);
+
+        List<ResultadoOperacaoDTO> resultados = operacaoLoteService.processar(List.of(semConta).iterator());
+
+        assertEquals(ResultadoOperacaoDTO.Status.INVALIDA, resultados.get(0).getStatus());
+        verifyNoInteractions(transactionTemplate, contaRepository);
+    }
+
+    @Test
+    void deveInterromperEReportarQuandoOFluxoDeOperacoesFalha() {
+        Conta conta = conta(100, 0);
+        when(contaRepository.findByNumeroInOrderByNumero(any())).thenReturn(List.of(conta));
+
+        Iterator<OperacaoLoteDTO> fluxo = new Iterator<>() {
+            private boolean entregue;
+
+            @Override
+            public boolean hasNext() {
+                if (entregue) {
+                    throw new IllegalStateException("JSON truncado");
+                }
+                return true;
+            }
+
+            @Override
+            public OperacaoLoteDTO next() {
+                entregue = true;
+                return operacao(TipoMovimentacao.DEPOSITO, 100, 10);
+            }
+        };
+
+        List<ResultadoOperacaoDTO> resultados = operacaoLoteService.processar(fluxo);
+
+        assertEquals(2, resultados.size());
+        assertEquals(ResultadoOperacaoDTO.Status.SUCESSO, resultados.get(0).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.INVALIDA, resultados.get(1).getStatus());
+        assertEquals(1, resultados.get(1).getIndice());
+        assertEquals(Dinheiro.deReais(10), conta.getSaldo());
+    }
+
+    @Test
+    void deveMarcarFalhaNoLoteQueNaoGravouEContinuar() {
+        Conta conta = conta(100, 50);
+        when(contaRepository.findByNumeroInOrderByNumero(any()))
+                .thenThrow(new DataAccessResourceFailureException("conexão perdida"))
+                .thenReturn(List.of(conta));
+
+        List<ResultadoOperacaoDTO> resultados = operacaoLoteService.processar(List.of(
+                operacao(TipoMovimentacao.DEPOSITO, 100, 10),
+                operacao(TipoMovimentacao.DEPOSITO, 100, 5),
+                operacao(TipoMovimentacao.DEPOSITO, 100, 1)).iterator());
+
+        assertEquals(3, resultados.size());
+        assertEquals(ResultadoOperacaoDTO.Status.FALHA, resultados.get(0).getStatus());
+        assertEquals("Falha ao gravar o lote; operação não aplicada", resultados.get(0).getMensagem());
+        assertEquals(ResultadoOperacaoDTO.Status.FALHA, resultados.get(1).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.SUCESSO, resultados.get(2).getStatus());
+        assertEquals(2, resultados.get(2).getIndice());
+        assertEquals(Dinheiro.deReais(51), conta.getSaldo());
+        verify(contaRepository, times(2)).findByNumeroInOrderByNumero(any());
+    }
+
+    @Test
+    void deveMarcarFalhaQuandoORazaoRecusaAOperacao() {
+        when(razaoSaldosService.isAtivo()).thenReturn(true);
+        doThrow(new IllegalStateException("log indisponível")).when(razaoSaldosService).depositar(100, 1000);
+
+        List<ResultadoOperacaoDTO> resultados = operacaoLoteService.processar(List.of(
+                operacao(TipoMovimentacao.DEPOSITO, 100, 10),
+                operacao(TipoMovimentacao.DEPOSITO, 100, 5)).iterator());
+
+        assertEquals(ResultadoOperacaoDTO.Status.FALHA, resultados.get(0).getStatus());
+        assertEquals(ResultadoOperacaoDTO.Status.SUCESSO, resultados.get(1).getStatus());
+    }
+
+    private Conta conta(Integer numero, long saldo) {
+        Conta conta = new Conta();
+        conta.setNumero(numero);
+        conta.setSaldo(Dinheiro.deReais(saldo));
+        return conta;
+    }
+
+    private OperacaoLoteDTO operacao(TipoMovimentacao tipo, Integer numeroConta, long valor) {
+        OperacaoLoteDTO dto = new OperacaoLoteDTO();
+        dto.setTipo(tipo);
+        dto.setNumeroConta(numeroConta);
+        dto.setValor(Dinheiro.deReais(valor));
+        return dto;
+    }
+}
@@ -0,0 +1,287 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.dto.SaldoDTO;
+import com.org.fundatec.sistemabancario.exception.EntidadeNaoEncontradaException;
+import com.org.fundatec.sistemabancario.exception.SaldoInsuficienteException;
+import com.org.fundatec.sistemabancario.exception.ServicoIndisponivelException;
+import com.org.fundatec.sistemabancario.model.Dinheiro;
+import com.org.fundatec.sistemabancario.model.TipoMovimentacao;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.repository.SegmentoJournalAplicadoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RazaoSaldosServiceTest {
+
+    @Mock
+    private ContaRepository contaRepository;
+
+    @Mock
+    private SegmentoJournalAplicadoRepository segmentoJournalAplicadoRepository;
+
+    @Mock
+    private MovimentacaoService movimentacaoService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private RazaoSaldosService razaoSaldosService;
+
+    @TempDir
+    private Path diretorio;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(razaoSaldosService, "armazenamento", "memoria");
+        ReflectionTestUtils.setField(razaoSaldosService, "diretorio", diretorio);
+        ReflectionTestUtils.setField(razaoSaldosService, "quantidadeShards", 4);
+        ReflectionTestUtils.setField(razaoSaldosService, "sincronizarLog", true);
+        when(contaRepository.listarSaldos()).thenReturn(List.of(
+                new SaldoDTO(100, Dinheiro.de("50.00")),
+                new SaldoDTO(200, Dinheiro.de("10.00"))));
+        doAnswer(invocacao -> {
+            Consumer<TransactionStatus> acao = invocacao.getArgument(0);
+            acao.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void deveOperarSobreSaldosCarregadosNaInicializacao() throws IOException {
+        razaoSaldosService.iniciar();
+
+        razaoSaldosService.depositar(100, 1_000);
+        razaoSaldosService.sacar(100, 500);
+        razaoSaldosService.transferir(100, 200, 2_500);
+
+        assertEquals(3_000, razaoSaldosService.saldo(100));
+        assertEquals(3_500, razaoSaldosService.saldo(200));
+        verify(contaRepository, never()).buscarSaldo(any());
+        verify(contaRepository, never()).definirSaldo(any(), any());
+    }
+
+    @Test
+    void deveRecusarSaqueSemSaldoSemRegistrarNoLog() throws IOException {
+        razaoSaldosService.iniciar();
+
+        assertThrows(SaldoInsuficienteException.class, () -> razaoSaldosService.sacar(200, 1_001));
+        assertThrows(SaldoInsuficienteException.class, () -> razaoSaldosService.transferir(200, 100, 1_001));
+
+        assertEquals(1_000, razaoSaldosService.saldo(200));
+        assertEquals(0, Files.size(logs().get(0)));
+    }
+
+    @Test
+    void deveCarregarContaCriadaDepoisDaInicializacao() throws IOException {
+        when(contaRepository.buscarSaldo(300)).thenReturn(Optional.of(new SaldoDTO(300, Dinheiro.de("1.00"))));
+        razaoSaldosService.iniciar();
+
+        razaoSaldosService.depositar(300, 100);
+        razaoSaldosService.depositar(300, 100);
+
+        assertEquals(300, razaoSaldosService.saldo(300));
+        verify(contaRepository).buscarSaldo(300);
+    }
+
+    @Test
+    void deveRecusarOperacaoEmContaInexistente() throws IOException {
+        when(contaRepository.buscarSaldo(300)).thenReturn(Optional.empty());
+        razaoSaldosService.iniciar();
+
+        assertThrows(EntidadeNaoEncontradaException.class, () -> razaoSaldosService.depositar(300, 100));
+        assertThrows(EntidadeNaoEncontradaException.class, () -> razaoSaldosService.transferir(100, 300, 100));
+        assertEquals(5_000, razaoSaldosService.saldo(100));
+    }
+
+    @Test
+    void deveGravarSomenteContasAlteradasNoSnapshot() throws IOException {
+        razaoSaldosService.iniciar();
+        razaoSaldosService.depositar(100, 25);
+
+        razaoSaldosService.gravarSnapshot();
+
+        verify(contaRepository).definirSaldo(100, Dinheiro.de("50.25"));
+        verify(contaRepository, never()).definirSaldo(eq(200), any());
+        verify(segmentoJournalAplicadoRepository).save(any());
+        assertEquals(1, logs().size());
+    }
+
+    @Test
+    void deveCercarServicoQuandoEscritaNoLogFalha() throws IOException {
+        razaoSaldosService.iniciar();
+        ArquivoJournal log = (ArquivoJournal) ReflectionTestUtils.getField(razaoSaldosService, "log");
+        log.fechar();
+
+        assertThrows(UncheckedIOException.class, () -> razaoSaldosService.depositar(100, 1_000));
+        assertThrows(ServicoIndisponivelException.class, () -> razaoSaldosService.sacar(100, 1_000));
+        assertThrows(ServicoIndisponivelException.class, () -> razaoSaldosService.transferir(100, 200, 1_000));
+        assertThrows(ServicoIndisponivelException.class, () -> razaoSaldosService.saldo(100));
+        assertThrows(ServicoIndisponivelException.class, () -> razaoSaldosService.remover(100, 7L));
+    }
+
+    @Test
+    void naoDeveGravarSaldoSemConfirmacaoDuravel() throws IOException {
+        razaoSaldosService.iniciar();
+        ArquivoJournal log = mock(ArquivoJournal.class);
+        when(log.anexar(any())).thenReturn(25L);
+        doThrow(new IOException("fsync")).when(log).sincronizar(25L);
+        ReflectionTestUtils.setField(razaoSaldosService, "log", log);
+
+        assertThrows(UncheckedIOException.class, () -> razaoSaldosService.depositar(100, 1_000));
+        assertThrows(ServicoIndisponivelException.class, () -> razaoSaldosService.depositar(100, 1_000));
+
+        razaoSaldosService.gravarSnapshot();
+        razaoSaldosService.encerrar();
+        verify(contaRepository, never()).definirSaldo(any(), any());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void deveRegistrarMovimentacoesDosLogsNoSnapshot() throws IOException {
+        when(contaRepository.findIdByNumero(100)).thenReturn(Optional.of(1L));
+        when(contaRepository.findIdByNumero(200)).thenReturn(Optional.of(2L));
+        razaoSaldosService.iniciar();
+        razaoSaldosService.depositar(100, 25);
+        razaoSaldosService.transferir(100, 200, 1_000);
+
+        razaoSaldosService.gravarSnapshot();
+
+        verify(movimentacaoService).registrar(eq(1L), eq(TipoMovimentacao.DEPOSITO), eq(Dinheiro.de("0.25")), any());
+        verify(movimentacaoService).registrar(eq(1L), eq(TipoMovimentacao.TRANSFERENCIA_ENVIADA), eq(Dinheiro.de("10.00")), any());
+        verify(movimentacaoService).registrar(eq(2L), eq(TipoMovimentacao.TRANSFERENCIA_RECEBIDA), eq(Dinheiro.de("10.00")), any());
+        verify(contaRepository, times(1)).findIdByNumero(100);
+    }
+
+    @Test
+    void deveRegistrarMovimentacoesAnterioresARemocaoComIdDaContaExcluida() throws IOException {
+        razaoSaldosService.iniciar();
+        razaoSaldosService.depositar(100, 25);
+
+        razaoSaldosService.remover(100, 7L);
+        razaoSaldosService.gravarSnapshot();
+
+        verify(movimentacaoService).registrar(eq(7L), eq(TipoMovimentacao.DEPOSITO), eq(Dinheiro.de("0.25")), any());
+        verify(contaRepository, never()).findIdByNumero(100);
+        verify(contaRepository, never()).definirSaldo(eq(100), any());
+        assertThrows(EntidadeNaoEncontradaException.class, () -> razaoSaldosService.saldo(100));
+    }
+
+    @Test
+    void deveRegravarContasQuandoSnapshotFalha() throws IOException {
+        razaoSaldosService.iniciar();
+        razaoSaldosService.depositar(100, 25);
+        when(contaRepository.definirSaldo(any(), any())).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(IllegalStateException.class, () -> razaoSaldosService.gravarSnapshot());
+        assertEquals(2, logs().size());
+
+        reset(contaRepository);
+        razaoSaldosService.gravarSnapshot();
+        verify(contaRepository).definirSaldo(100, Dinheiro.de("50.25"));
+        assertEquals(1, logs().size());
+    }
+
+    @Test
+    void deveReaplicarLogNaoAplicadoAoIniciar() throws IOException {
+        long instante = Instant.parse("2024-05-01T10:00:00Z").toEpochMilli();
+        ByteBuffer registros = ByteBuffer.allocate(25 * 2 + 5)
+                .put((byte) 'D').putInt(100).putInt(0).putLong(1_000).putLong(instante)
+                .put((byte) 'T').putInt(100).putInt(200).putLong(500).putLong(instante);
+        Files.write(diretorio.resolve("saldos-a.wal"), registros.array());
+        when(segmentoJournalAplicadoRepository.existsById("a")).thenReturn(false);
+        when(contaRepository.findIdByNumero(100)).thenReturn(Optional.of(1L));
+        when(contaRepository.findIdByNumero(200)).thenReturn(Optional.of(2L));
+
+        razaoSaldosService.iniciar();
+
+        assertEquals(5_500, razaoSaldosService.saldo(100));
+        assertEquals(1_500, razaoSaldosService.saldo(200));
+        verify(contaRepository).definirSaldo(100, Dinheiro.de("55.00"));
+        verify(contaRepository).definirSaldo(200, Dinheiro.de("15.00"));
+        LocalDateTime dataHora = LocalDateTime.ofInstant(Instant.ofEpochMilli(instante), ZoneId.systemDefault());
+        verify(movimentacaoService).registrar(1L, TipoMovimentacao.DEPOSITO, Dinheiro.de("10.00"), dataHora);
+        verify(movimentacaoService).registrar(2L, TipoMovimentacao.TRANSFERENCIA_RECEBIDA, Dinheiro.de("5.00"), dataHora);
+        assertFalse(Files.exists(diretorio.resolve("saldos-a.wal")));
+    }
+
+    @Test
+    void naoDeveReaplicarRegistrosDeContaRemovidaNaContaRecriada() throws IOException {
+        long instante = Instant.parse("2024-05-01T10:00:00Z").toEpochMilli();
+        Files.write(diretorio.resolve("saldos-a.wal"), ByteBuffer.allocate(25 * 3)
+                .put((byte) 'D').putInt(100).putInt(0).putLong(1_000).putLong(instante)
+                .put((byte) 'T').putInt(200).putInt(100).putLong(300).putLong(instante)
+                .put((byte) 'R').putInt(100).putInt(0).putLong(7L).putLong(instante + 1)
+                .array());
+        Files.write(diretorio.resolve("saldos-b.wal"), ByteBuffer.allocate(25)
+                .put((byte) 'D').putInt(100).putInt(0).putLong(200).putLong(instante + 2)
+                .array());
+        when(segmentoJournalAplicadoRepository.existsById(any())).thenReturn(false);
+        when(contaRepository.findIdByNumero(100)).thenReturn(Optional.of(8L));
+        when(contaRepository.findIdByNumero(200)).thenReturn(Optional.of(2L));
+
+        razaoSaldosService.iniciar();
+
+        assertEquals(5_200, razaoSaldosService.saldo(100));
+        assertEquals(700, razaoSaldosService.saldo(200));
+        verify(movimentacaoService).registrar(eq(7L), eq(TipoMovimentacao.DEPOSITO), eq(Dinheiro.de("10.00")), any());
+        verify(movimentacaoService).registrar(eq(7L), eq(TipoMovimentacao.TRANSFERENCIA_RECEBIDA), eq(Dinheiro.de("3.00")), any());
+        verify(movimentacaoService).registrar(eq(8L), eq(TipoMovimentacao.DEPOSITO), eq(Dinheiro.de("2.00")), any());
+    }
+
+    @Test
+    void naoDeveReaplicarLogJaAplicado() throws IOException {
+        Files.write(diretorio.resolve("saldos-a.wal"),
+                ByteBuffer.allocate(25).put((byte) 'D').putInt(100).putInt(0).putLong(1_000).putLong(0).array());
+        when(segmentoJournalAplicadoRepository.existsById("a")).thenReturn(true);
+
+        razaoSaldosService.iniciar();
+
+        assertEquals(5_000, razaoSaldosService.saldo(100));
+        verifyNoInteractions(transactionTemplate);
+        assertFalse(Files.exists(diretorio.resolve("saldos-a.wal")));
+    }
+
+    @Test
+    void deveGravarSaldosAoEncerrar() throws IOException {
+        razaoSaldosService.iniciar();
+        razaoSaldosService.sacar(200, 1_000);
+
+        razaoSaldosService.encerrar();
+
+        verify(contaRepository).definirSaldo(200, Dinheiro.de("0.00"));
+        assertTrue(logs().isEmpty());
+    }
+
+    private List<Path> logs() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.toList();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.org.fundatec.sistemabancario.service;
+
+import com.org.fundatec.sistemabancario.exception.ConflitoException;
+import com.org.fundatec.sistemabancario.repository.AgenciaRepository;
+import com.org.fundatec.sistemabancario.repository.BancoRepository;
+import com.org.fundatec.sistemabancario.repository.ClienteRepository;
+import com.org.fundatec.sistemabancario.repository.ContaRepository;
+import com.org.fundatec.sistemabancario.service.UnicidadeService.Chave;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class UnicidadeServiceTest {
+
+    @Mock
+    private ContaRepository contaRepository;
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private AgenciaRepository agenciaRepository;
+
+    @Mock
+    private BancoRepository bancoRepository;
+
+    @InjectMocks
+    private UnicidadeService unicidadeService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(unicidadeService, "habilitada", true);
+        when(contaRepository.listarNumeros()).thenReturn(List.of(1001, 1002));
+        when(clienteRepository.listarCpfs()).thenReturn(List.of("52998224725"));
+        when(agenciaRepository.listarNumeros()).thenReturn(List.of(1234));
+        when(bancoRepository.listarCodigos()).thenReturn(List.of(341));
+        unicidadeService.iniciar();
+    }
+
+    @AfterEach
+    void limparTransacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deveCarregarChavesExistentesNaPartida() {
+        assertTrue(unicidadeService.existe(Chave.CONTA, 1002));
+        assertTrue(unicidadeService.existe(Chave.CLIENTE, "52998224725"));
+        assertTrue(unicidadeService.existe(Chave.AGENCIA, 1234));
+        assertTrue(unicidadeService.existe(Chave.BANCO, 341));
+        assertFalse(unicidadeService.existe(Chave.CONTA, 1234));
+        assertFalse(unicidadeService.existe(Chave.BANCO, 1));
+    }
+
+    @Test
+    void deveRecusarChaveExistenteComConflito() {
+        ConflitoException ex = assertThrows(ConflitoException.class,
+                () -> unicidadeService.verificar(Chave.BANCO, 341));
+
+        assertEquals("Banco já cadastrado com código: 341", ex.getMessage());
+        assertDoesNotThrow(() -> unicidadeService.verificar(Chave.BANCO, 1));
+    }
+
+    @Test
+    void deveRegistrarChaveSomenteDepoisDoCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        unicidadeService.registrar(Chave.CONTA, 2001);
+
+        assertFalse(unicidadeService.existe(Chave.CONTA, 2001));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(unicidadeService.existe(Chave.CONTA, 2001));
+    }
+
+    @Test
+    void deveDescartarChaveDeTransacaoDesfeita() {
+        TransactionSynchronizationManager.initSynchronization();
+        unicidadeService.registrar(Chave.CONTA, 2001);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertFalse(unicidadeService.existe(Chave.CONTA, 2001));
+    }
+
+    @Test
+    void deveTrocarChaveAlterada() {
+        unicidadeService.substituir(Chave.AGENCIA, 1234, 4321);
+
+        assertFalse(unicidadeService.existe(Chave.AGENCIA, 1234));
+        assertTrue(unicidadeService.existe(Chave.AGENCIA, 4321));
+    }
+
+    @Test
+    void deveLiberarChaveRemovida() {
+        unicidadeService.remover(Chave.CLIENTE, "52998224725");
+
+        assertFalse(unicidadeService.existe(Chave.CLIENTE, "52998224725"));
+    }
+
+    @Test
+    void naoDeveRecusarNadaQuandoDesabilitado() {
+        ReflectionTestUtils.setField(unicidadeService, "habilitada", false);
+
+        assertFalse(unicidadeService.existe(Chave.BANCO, 341));
+    }
+}